@@ -0,0 +1,26 @@
+package com.fluffytime.domain.admin.controller.api;
+
+import com.fluffytime.domain.search.service.ExploreTimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/explore-timeline")
+public class ExploreTimelineRestController {
+
+    private final ExploreTimelineService exploreTimelineService;
+
+    // 탐색 타임라인을 DB 로부터 재구성 (반영된 게시물 수 반환)
+    @PostMapping("/rebuild")
+    public ResponseEntity<Integer> rebuild() {
+        int count = exploreTimelineService.rebuild();
+        return ResponseEntity.status(HttpStatus.OK).body(count);
+    }
+}
@@ -1,6 +1,8 @@
 package com.fluffytime.domain.board.controller;
 
-import com.fluffytime.global.config.aws.S3Service;
+import com.fluffytime.domain.board.exception.UnsupportedFileFormat;
+import com.fluffytime.global.config.storage.MediaStorage;
+import com.fluffytime.global.config.storage.MediaTypes;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -16,13 +18,17 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class FileUploadController {
 
-    private final S3Service s3Service; // S3Service 주입받음
+    private final MediaStorage mediaStorage; // 설정된 저장소(S3 또는 로컬 디스크) 주입받음
 
     @PostMapping("/upload") // 파일 업로드 엔드포인트 매핑
     public ResponseEntity<Map<String, String>> uploadFile(
         @RequestParam("file") MultipartFile file) {
-        String fileName = s3Service.uploadFile(file); // 파일 업로드 처리
-        String fileUrl = s3Service.getFileUrl(fileName); // 업로드된 파일의 URL 가져오기
+        // 사진/동영상만 받음 (html, svg 등은 같은 출처에서 열리면 스크립트가 실행될 수 있음)
+        if (!MediaTypes.isAllowed(file.getContentType())) {
+            throw new UnsupportedFileFormat();
+        }
+        String fileName = mediaStorage.uploadFile(file); // 파일 업로드 처리
+        String fileUrl = mediaStorage.getFileUrl(fileName); // 업로드된 파일의 URL 가져오기
         Map<String, String> response = new HashMap<>(); // 응답 데이터를 담을 맵 생성
         response.put("url", fileUrl);
         return ResponseEntity.ok(response);
@@ -1,6 +1,5 @@
 package com.fluffytime.domain.board.controller.api;
 
-import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.board.dto.request.CommentLikeRequest;
 import com.fluffytime.domain.board.dto.response.CommentLikeResponse;
 import com.fluffytime.domain.board.service.CommentLikeService;
@@ -32,8 +31,7 @@ public class CommentLikeRestController {
         @PathVariable(name = "commentId") Long commentId,
         @RequestBody CommentLikeRequest requestDto) {
         //현재 사용자 ID
-        User currentUser = commentLikeService.findByAccessToken(httpServletRequest);
-        requestDto.setUserId(currentUser.getUserId());
+        requestDto.setUserId(commentLikeService.findUserIdByAccessToken(httpServletRequest));
 
         CommentLikeResponse responseDto = commentLikeService.likeComment(commentId,
             requestDto);
@@ -46,8 +44,7 @@ public class CommentLikeRestController {
         @PathVariable(name = "commentId") Long commentId,
         @RequestBody CommentLikeRequest requestDto) {
         //현재 사용자 ID
-        User currentUser = commentLikeService.findByAccessToken(httpServletRequest);
-        requestDto.setUserId(currentUser.getUserId());
+        requestDto.setUserId(commentLikeService.findUserIdByAccessToken(httpServletRequest));
 
         CommentLikeResponse responseDto = commentLikeService.unlikeComment(commentId,
             requestDto);
@@ -6,7 +6,10 @@ import com.fluffytime.domain.board.entity.Comment;
 import com.fluffytime.domain.board.exception.NotPermissionDelete;
 import com.fluffytime.domain.board.exception.NotPermissionModify;
 import com.fluffytime.domain.board.service.CommentService;
+import com.fluffytime.domain.board.service.PostVersionService;
 import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.domain.user.service.BlockFilter;
+import com.fluffytime.domain.user.service.BlockFilterService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.Collections;
@@ -14,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -31,6 +36,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentRestController {
 
     private final CommentService commentService;
+    private final PostVersionService postVersionService;
+    private final BlockFilterService blockFilterService;
 
     //댓글 등록
     @PostMapping("/reg")
@@ -55,14 +62,24 @@ public class CommentRestController {
     //댓글 조회(게시글마다)
     @GetMapping("/post/{postId}")
     public ResponseEntity<List<CommentResponse>> getCommentByPostId(
-        @PathVariable(name = "postId") Long postId, HttpServletRequest httpServletRequest) {
+        @PathVariable(name = "postId") Long postId, HttpServletRequest httpServletRequest,
+        WebRequest webRequest) {
+
+        Long currentUserId = commentService.findUserIdByAccessToken(httpServletRequest);
+
+        // 게시물 버전과 차단 목록이 바뀌지 않았으면 댓글을 조회하지 않고 304 응답
+        BlockFilter blockFilter = blockFilterService.forViewer(currentUserId);
+        if (webRequest.checkNotModified(
+            postVersionService.getCommentsEtag(postId, currentUserId, blockFilter))) {
+            return null;
+        }
 
-        User user = commentService.findByAccessToken(httpServletRequest);
-        Long currentUserId = user.getUserId();
         List<CommentResponse> commentList = commentService.getCommentByPostId(postId,
             currentUserId);
 
-        return ResponseEntity.ok(commentList);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(commentList);
     }
 
     //댓글 수정
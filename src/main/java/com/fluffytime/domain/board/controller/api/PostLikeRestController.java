@@ -1,6 +1,5 @@
 package com.fluffytime.domain.board.controller.api;
 
-import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.board.dto.request.PostLikeRequest;
 import com.fluffytime.domain.board.dto.response.PostLikeResponse;
 import com.fluffytime.domain.board.service.PostLikeService;
@@ -30,8 +29,7 @@ public class PostLikeRestController {
         @PathVariable(name = "postId") Long postId,
         @RequestBody PostLikeRequest requestDto) {
         //현재 사용자 ID
-        User currentUser = postLikeService.findByAccessToken(httpServletRequest);
-        requestDto.setUserId(currentUser.getUserId());
+        requestDto.setUserId(postLikeService.findUserIdByAccessToken(httpServletRequest));
 
         PostLikeResponse responseDto = postLikeService.likePost(postId, requestDto);
         return ResponseEntity.ok(responseDto);
@@ -43,8 +41,7 @@ public class PostLikeRestController {
         @PathVariable(name = "postId") Long postId,
         @RequestBody PostLikeRequest requestDto) {
         //현재 사용자 ID
-        User currentUser = postLikeService.findByAccessToken(httpServletRequest);
-        requestDto.setUserId(currentUser.getUserId());
+        requestDto.setUserId(postLikeService.findUserIdByAccessToken(httpServletRequest));
 
         PostLikeResponse responseDto = postLikeService.unlikePost(postId, requestDto);
         return ResponseEntity.ok(responseDto);
@@ -1,24 +1,37 @@
 package com.fluffytime.domain.board.controller.api;
 
+import com.fluffytime.domain.board.dto.request.PostDraftRequest;
+import com.fluffytime.domain.board.dto.response.PostStatusResponse;
+import com.fluffytime.domain.board.dto.response.ViewerStateResponse;
+import com.fluffytime.domain.board.service.PostDraftService;
+import com.fluffytime.domain.board.service.PostMediaService.UploadedMedia;
+import com.fluffytime.domain.board.service.PostVersionService;
 import com.fluffytime.domain.board.service.TagService;
+import com.fluffytime.domain.board.service.ViewerStateService;
 import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.board.dto.request.PostRequest;
 import com.fluffytime.domain.board.dto.response.PostResponse;
 import com.fluffytime.domain.board.service.PostService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -28,6 +41,9 @@ import org.springframework.web.multipart.MultipartFile;
 public class PostRestController {
 
     private final PostService postService;
+    private final PostVersionService postVersionService;
+    private final PostDraftService postDraftService;
+    private final ViewerStateService viewerStateService;
 
     // 게시물 등록
     @PostMapping("/reg")
@@ -41,9 +57,15 @@ public class PostRestController {
         if (postRequest.getTempId() != null) {
             // 임시 저장된 글 최종 등록 시 이미지 추가/수정 불가
             files = null;
+            postRequest.setMediaKeys(null);
+        } else if (postRequest.getMediaKeys() != null && !postRequest.getMediaKeys().isEmpty()) {
+            // 직접 업로드한 파일이 있으면 서버를 거치는 업로드는 받지 않음
+            files = null;
         }
 
-        Long postId = postService.createPost(postRequest, files, request);
+        // 직접 업로드한 파일 확인은 DB 트랜잭션을 시작하기 전에 함
+        List<UploadedMedia> directUploads = postService.verifyDirectUploads(postRequest, request);
+        Long postId = postService.createPost(postRequest, files, directUploads, request);
 
         if (postRequest.getTempId() != null) {
             postService.deleteTempPost(postRequest.getTempId());
@@ -66,6 +88,15 @@ public class PostRestController {
         return ResponseEntity.status(HttpStatus.OK).body(postId);
     }
 
+    // 임시 게시물 자동 저장 (바뀐 항목만 전송, MySQL 에는 잠시 뒤 반영됨)
+    @PatchMapping("/temp/{id}")
+    public ResponseEntity<Void> patchTempPost(@PathVariable(name = "id") Long id,
+        @Valid @RequestBody PostDraftRequest postDraftRequest, HttpServletRequest request) {
+        Long userId = postService.findUserIdByAccessToken(request);
+        postDraftService.patchDraft(id, postDraftRequest, userId);
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
     // 임시 게시물 삭제
     @PostMapping("/temp-delete/{id}")
     public ResponseEntity<Void> deleteTempPost(@PathVariable(name = "id") Long id) {
@@ -82,19 +113,47 @@ public class PostRestController {
         Long currrentUserId = user.getUserId();
         log.info("임시 게시물 목록 조회 요청 받음");
         List<PostResponse> tempPosts = postService.getTempPosts(currrentUserId);
+        postDraftService.applyDrafts(currrentUserId, tempPosts);
         log.info("임시 게시물 목록 조회 성공, 개수: {}", tempPosts.size());
         return ResponseEntity.status(HttpStatus.OK).body(tempPosts);
     }
 
     // 게시물 상세 정보 조회
     @GetMapping("/detail/{id}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable(name = "id") Long id, HttpServletRequest httpServletRequest) {
-        User user = postService.findUserByAccessToken(httpServletRequest);
-        Long currentUserId = user.getUserId();
+    public ResponseEntity<PostResponse> getPost(@PathVariable(name = "id") Long id, HttpServletRequest httpServletRequest,
+        WebRequest webRequest) {
+        Long currentUserId = postService.findUserIdByAccessToken(httpServletRequest);
         log.info("게시물 상세 정보 조회 요청 받음, ID: {}", id);
+
+        // 게시물 버전이 바뀌지 않았으면 게시물을 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(postVersionService.getPostEtag(id, currentUserId))) {
+            return null;
+        }
+
         PostResponse postResponse = postService.getPostById(id, currentUserId);
         log.info("게시물 상세 정보 조회 성공, ID: {}", id);
-        return ResponseEntity.status(HttpStatus.OK).body(postResponse);
+        // 기본 보안 헤더(no-store) 대신 매번 ETag 로 재검증하도록 함
+        return ResponseEntity.status(HttpStatus.OK)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(postResponse);
+    }
+
+    // 여러 게시물의 좋아요/북마크/작성자 팔로우 여부 한 번에 조회 (피드, 릴스 목록 렌더링용)
+    @GetMapping("/viewer-state")
+    public ResponseEntity<Map<Long, ViewerStateResponse>> getViewerStates(
+        @RequestParam("ids") List<Long> ids, HttpServletRequest httpServletRequest) {
+        Long currentUserId = postService.findUserIdByAccessToken(httpServletRequest);
+        Map<Long, ViewerStateResponse> viewerStates = viewerStateService.getViewerStates(
+            currentUserId, ids);
+        return ResponseEntity.status(HttpStatus.OK).body(viewerStates);
+    }
+
+    // 게시물 처리 상태 조회 (첨부 파일 업로드 중이면 PROCESSING, 끝나면 SAVE)
+    @GetMapping("/status/{id}")
+    public ResponseEntity<PostStatusResponse> getPostStatus(@PathVariable(name = "id") Long id,
+        HttpServletRequest httpServletRequest) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(postService.getPostStatus(id, httpServletRequest));
     }
 
     // 게시물 수정
@@ -3,7 +3,6 @@ package com.fluffytime.domain.board.controller.api;
 import com.fluffytime.domain.board.dto.request.ReplyLikeRequest;
 import com.fluffytime.domain.board.dto.response.ReplyLikeResponse;
 import com.fluffytime.domain.board.service.ReplyLikeService;
-import com.fluffytime.domain.user.entity.User;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -30,8 +29,7 @@ public class ReplyLikeRestController {
         @PathVariable(name = "replyId") Long replyId,
         @RequestBody ReplyLikeRequest requestDto) {
         //현재 사용자 ID
-        User currentUser = replyLikeService.findByAccessToken(httpServletRequest);
-        requestDto.setUserId(currentUser.getUserId());
+        requestDto.setUserId(replyLikeService.findUserIdByAccessToken(httpServletRequest));
 
         ReplyLikeResponse responseDto = replyLikeService.likeReply(replyId, requestDto);
         return ResponseEntity.ok(responseDto);
@@ -43,8 +41,7 @@ public class ReplyLikeRestController {
         @PathVariable(name = "replyId") Long replyId,
         @RequestBody ReplyLikeRequest requestDto) {
         //현재 사용자 ID
-        User currentUser = replyLikeService.findByAccessToken(httpServletRequest);
-        requestDto.setUserId(currentUser.getUserId());
+        requestDto.setUserId(replyLikeService.findUserIdByAccessToken(httpServletRequest));
 
         ReplyLikeResponse responseDto = replyLikeService.unlikeReply(replyId, requestDto);
         return ResponseEntity.ok(responseDto);
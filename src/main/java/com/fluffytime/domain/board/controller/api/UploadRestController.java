@@ -0,0 +1,48 @@
+package com.fluffytime.domain.board.controller.api;
+
+import com.fluffytime.domain.board.dto.request.UploadCompleteRequest;
+import com.fluffytime.domain.board.dto.request.UploadUrlRequest;
+import com.fluffytime.domain.board.dto.response.UploadUrlResponse;
+import com.fluffytime.domain.board.service.DirectUploadService;
+import com.fluffytime.domain.board.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 첨부 파일 직접 업로드 (파일은 서버를 거치지 않고 S3로 바로 올라감)
+@RestController
+@RequestMapping("/api/posts/uploads")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.storage.type", havingValue = "s3", matchIfMissing = true)
+@Slf4j
+public class UploadRestController {
+
+    private final DirectUploadService directUploadService;
+    private final PostService postService;
+
+    // 1단계: 업로드 URL 발급
+    @PostMapping("/url")
+    public ResponseEntity<UploadUrlResponse> createUploadUrl(
+        @RequestBody UploadUrlRequest uploadUrlRequest, HttpServletRequest request) {
+        Long userId = postService.findUserIdByAccessToken(request);
+        log.info("업로드 URL 발급 요청 받음: {}", uploadUrlRequest);
+        UploadUrlResponse response = directUploadService.createUploadUrl(userId, uploadUrlRequest);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    // 멀티파트로 받은 경우 모든 파트를 올린 뒤 완료 요청
+    @PostMapping("/complete")
+    public ResponseEntity<Void> completeUpload(
+        @RequestBody UploadCompleteRequest uploadCompleteRequest, HttpServletRequest request) {
+        Long userId = postService.findUserIdByAccessToken(request);
+        directUploadService.completeUpload(userId, uploadCompleteRequest);
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+}
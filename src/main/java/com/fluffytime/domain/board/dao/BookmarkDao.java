@@ -0,0 +1,41 @@
+package com.fluffytime.domain.board.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+// 북마크 행 저장 (INSERT 한 문장, 엔티티를 읽지 않음)
+// 중복 키 예외가 트랜잭션을 롤백 전용으로 만들지 않도록 LikeDao 와 같이 JdbcTemplate 으로 실행함
+@Repository
+@RequiredArgsConstructor
+public class BookmarkDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 새로 저장하면 북마크 ID, 이미 북마크했으면 (유니크 키 중복) null
+    // 중복 외의 오류(없는 게시물/사용자의 외래 키 오류 등)는 그대로 던짐
+    public Long insert(Long postId, Long userId, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO bookmarks (post_id, user_id, created_at) VALUES (?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+                statement.setLong(1, postId);
+                statement.setLong(2, userId);
+                statement.setTimestamp(3, Timestamp.valueOf(createdAt));
+                return statement;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -0,0 +1,53 @@
+package com.fluffytime.domain.board.dao;
+
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// 좋아요 행 저장 (INSERT 한 문장, 엔티티를 읽지 않음)
+// JPA 리포지토리로 실행하면 중복 키 예외가 현재 트랜잭션을 롤백 전용으로 만들므로 JdbcTemplate 으로 실행함
+// (MySQL 은 실패한 문장만 되돌리므로 같은 트랜잭션을 계속 쓸 수 있음)
+@Repository
+@RequiredArgsConstructor
+public class LikeDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 새로 저장하면 true, 이미 눌렀으면 (유니크 키 중복) false
+    // 중복 외의 오류(없는 대상/사용자의 외래 키 오류 등)는 그대로 던짐
+    public boolean insert(LikeTarget target, Long targetId, Long userId) {
+        try {
+            if (target == LikeTarget.POST) {
+                // 게시글 좋아요는 인기 점수 계산(취소 시 뺄 점수)을 위해 누른 시각도 저장
+                jdbcTemplate.update("INSERT INTO post_likes (post_id, user_id, created_at) "
+                    + "VALUES (?, ?, ?)", targetId, userId, Timestamp.valueOf(LocalDateTime.now()));
+            } else {
+                jdbcTemplate.update("INSERT INTO " + table(target) + " (" + column(target)
+                    + ", user_id) VALUES (?, ?)", targetId, userId);
+            }
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private String table(LikeTarget target) {
+        return switch (target) {
+            case POST -> "post_likes";
+            case COMMENT -> "comment_likes";
+            case REPLY -> "reply_likes";
+        };
+    }
+
+    private String column(LikeTarget target) {
+        return switch (target) {
+            case POST -> "post_id";
+            case COMMENT -> "comment_id";
+            case REPLY -> "reply_id";
+        };
+    }
+}
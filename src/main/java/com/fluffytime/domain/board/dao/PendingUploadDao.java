@@ -0,0 +1,40 @@
+package com.fluffytime.domain.board.dao;
+
+import com.fluffytime.domain.board.dto.PendingUpload;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PendingUploadDao {
+
+    public static final String PENDING_UPLOAD_KEY_HEADER = "pending_upload:";
+    // 업로드 후 게시글 작성을 마칠 때까지 기다려 주는 시간
+    public static final int PENDING_UPLOAD_EXPIRY = 60 * 60 * 24;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public void savePendingUpload(String fileName, PendingUpload pendingUpload) {
+        redisTemplate.opsForValue().set(
+            PENDING_UPLOAD_KEY_HEADER + fileName,
+            pendingUpload,
+            Duration.ofSeconds(PENDING_UPLOAD_EXPIRY)
+        );
+    }
+
+    public Optional<PendingUpload> getPendingUpload(String fileName) {
+        PendingUpload pendingUpload = (PendingUpload) redisTemplate.opsForValue()
+            .get(PENDING_UPLOAD_KEY_HEADER + fileName);
+        return Optional.ofNullable(pendingUpload);
+    }
+
+    // 대기 정보를 읽으면서 지움 (GETDEL), 동시에 요청해도 한 요청만 값을 받음
+    public Optional<PendingUpload> claimPendingUpload(String fileName) {
+        PendingUpload pendingUpload = (PendingUpload) redisTemplate.opsForValue()
+            .getAndDelete(PENDING_UPLOAD_KEY_HEADER + fileName);
+        return Optional.ofNullable(pendingUpload);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fluffytime.domain.board.dao;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PostDraftDao {
+
+    // 사용자별 임시 저장 글 (Hash, field: 게시물 ID, value: PostDraft JSON)
+    private static final String DRAFT_KEY_HEADER = "post_draft:";
+    // MySQL 에 아직 반영하지 않은 임시 저장 글 (ZSet, member: "사용자 ID:게시물 ID", score: 마지막 자동 저장 시각)
+    private static final String DIRTY_KEY = "post_draft_dirty";
+    private static final Duration DRAFT_EXPIRY = Duration.ofDays(7);
+
+    // 반영하는 동안 다시 자동 저장되지 않았을 때만 정리 (새로 저장된 내용은 다음 반영 때 씀)
+    private static final RedisScript<Long> REMOVE_IF_UNCHANGED = new DefaultRedisScript<>(
+        "if redis.call('ZSCORE', KEYS[1], ARGV[1]) == ARGV[2] then "
+            + "redis.call('ZREM', KEYS[1], ARGV[1]) "
+            + "redis.call('HDEL', KEYS[2], ARGV[3]) "
+            + "return 1 end "
+            + "return 0",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public String getDraft(Long userId, Long postId) {
+        Object json = stringRedisTemplate.opsForHash()
+            .get(DRAFT_KEY_HEADER + userId, String.valueOf(postId));
+        return json != null ? json.toString() : null;
+    }
+
+    // 사용자의 임시 저장 글 전체 (게시물 ID -> JSON)
+    public Map<Object, Object> getDrafts(Long userId) {
+        return stringRedisTemplate.opsForHash().entries(DRAFT_KEY_HEADER + userId);
+    }
+
+    public void saveDraft(Long userId, Long postId, String json, long updatedAt) {
+        String key = DRAFT_KEY_HEADER + userId;
+        stringRedisTemplate.opsForHash().put(key, String.valueOf(postId), json);
+        stringRedisTemplate.expire(key, DRAFT_EXPIRY);
+        stringRedisTemplate.opsForZSet().add(DIRTY_KEY, userId + ":" + postId, updatedAt);
+    }
+
+    public void removeDraft(Long userId, Long postId) {
+        stringRedisTemplate.opsForHash().delete(DRAFT_KEY_HEADER + userId, String.valueOf(postId));
+        stringRedisTemplate.opsForZSet().remove(DIRTY_KEY, userId + ":" + postId);
+    }
+
+    // 마지막 자동 저장 후 일정 시간이 지난 글 ("사용자 ID:게시물 ID")
+    public Set<String> getDirtyDrafts(long updatedBefore, int limit) {
+        return stringRedisTemplate.opsForZSet()
+            .rangeByScore(DIRTY_KEY, 0, updatedBefore, 0, limit);
+    }
+
+    public void removeIfUnchanged(Long userId, Long postId, long updatedAt) {
+        stringRedisTemplate.execute(REMOVE_IF_UNCHANGED,
+            List.of(DIRTY_KEY, DRAFT_KEY_HEADER + userId),
+            userId + ":" + postId, String.valueOf(updatedAt), String.valueOf(postId));
+    }
+}
@@ -0,0 +1,73 @@
+package com.fluffytime.domain.board.dao;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PostVersionDao {
+
+    private static final String POST_VERSION_KEY_HEADER = "post_version:";
+    private static final String EXPLORE_VERSION_KEY = "explore_version";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long getPostVersion(Long postId) {
+        return getVersion(POST_VERSION_KEY_HEADER + postId);
+    }
+
+    public void incrementPostVersion(Long postId) {
+        incrementVersion(POST_VERSION_KEY_HEADER + postId);
+    }
+
+    // 여러 게시물의 버전을 한 번에 올림 (파이프라인)
+    public void incrementPostVersions(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        String initialVersion = String.valueOf(System.currentTimeMillis());
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long postId : postIds) {
+                String key = POST_VERSION_KEY_HEADER + postId;
+                stringConnection.setNX(key, initialVersion);
+                stringConnection.incr(key);
+            }
+            return null;
+        });
+    }
+
+    public void removePostVersion(Long postId) {
+        stringRedisTemplate.delete(POST_VERSION_KEY_HEADER + postId);
+    }
+
+    public long getExploreVersion() {
+        return getVersion(EXPLORE_VERSION_KEY);
+    }
+
+    public void incrementExploreVersion() {
+        incrementVersion(EXPLORE_VERSION_KEY);
+    }
+
+    // 버전이 없으면 현재 시각(ms)으로 시작함
+    // Redis 가 비워져도 이전에 발급한 버전과 겹치지 않도록 하기 위함
+    private long getVersion(String key) {
+        String version = stringRedisTemplate.opsForValue().get(key);
+        if (version == null) {
+            stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            version = stringRedisTemplate.opsForValue().get(key);
+        }
+        return Long.parseLong(version);
+    }
+
+    private void incrementVersion(String key) {
+        stringRedisTemplate.opsForValue()
+            .setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+        stringRedisTemplate.opsForValue().increment(key);
+    }
+}
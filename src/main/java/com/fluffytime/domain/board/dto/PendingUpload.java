@@ -0,0 +1,20 @@
+package com.fluffytime.domain.board.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 업로드 URL 을 발급했지만 아직 게시글에 연결되지 않은 파일 정보
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingUpload implements Serializable {
+
+    private Long userId;
+    private String contentType;
+    private long size;
+    private String uploadId; // 멀티파트 업로드일 때만 값이 있음
+}
@@ -0,0 +1,21 @@
+package com.fluffytime.domain.board.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Redis 에 보관하는 임시 저장 글 내용 (자동 저장 시 MySQL 대신 여기에 먼저 씀)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDraft {
+
+    private String content;
+    private boolean hideLikeCount;
+    private boolean commentsDisabled;
+    private List<String> tags;
+    private long updatedAt; // 마지막 자동 저장 시각 (epoch ms)
+}
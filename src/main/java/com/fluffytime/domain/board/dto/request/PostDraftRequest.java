@@ -0,0 +1,21 @@
+package com.fluffytime.domain.board.dto.request;
+
+import com.fluffytime.domain.board.validation.annotation.ValidTags;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+// 임시 저장 글 자동 저장 요청 (바뀐 항목만 보내고 나머지는 null)
+@Getter
+@Setter
+@ToString
+public class PostDraftRequest {
+
+    private String content;
+    private Boolean hideLikeCount;
+    private Boolean commentsDisabled;
+
+    @ValidTags
+    private List<String> tags;
+}
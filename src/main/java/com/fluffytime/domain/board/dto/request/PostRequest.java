@@ -21,4 +21,6 @@ public class PostRequest {
     private List<String> tags;
     private TempStatus tempStatus;
 
+    private List<String> mediaKeys; // 직접 업로드한 파일의 키 (/api/posts/uploads 로 발급)
+
 }
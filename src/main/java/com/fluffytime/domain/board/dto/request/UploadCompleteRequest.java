@@ -0,0 +1,27 @@
+package com.fluffytime.domain.board.dto.request;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+// 멀티파트 직접 업로드 완료 요청
+@Getter
+@Setter
+@ToString
+public class UploadCompleteRequest {
+
+    private String key;
+    private String uploadId;
+    private List<Part> parts;
+
+    // 파트 업로드 응답으로 받은 ETag
+    @Getter
+    @Setter
+    @ToString
+    public static class Part {
+
+        private int partNumber;
+        private String etag;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fluffytime.domain.board.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class UploadUrlRequest {
+
+    private String filename; // 원본 파일 이름
+    private String contentType;
+    private long size; // 바이트 단위 파일 크기
+}
@@ -38,6 +38,10 @@ public class PostResponse { //게시글과 관련된 특정한 응답 데이터
         private Long filesize;
         private String mimetype;
         private String uploadDate;
+        private String thumbnailPath; // 150px 축소본 (없으면 null)
+        private String mediumPath; // 640px 축소본
+        private String largePath; // 1080px 축소본
+        private String placeholder; // 흐린 미리보기 data URI
     }
 
 /*    @Getter
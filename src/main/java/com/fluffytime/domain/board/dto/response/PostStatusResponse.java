@@ -0,0 +1,14 @@
+package com.fluffytime.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class PostStatusResponse {
+
+    private Long postId;
+    private String status; // PROCESSING, SAVE, FAILED, TEMP
+}
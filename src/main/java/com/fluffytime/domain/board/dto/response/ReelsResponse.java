@@ -17,6 +17,10 @@ public class ReelsResponse {
     private String filepath;
     private Long filesize;
     private String mimetype;
+    private Long durationMillis;
+    private Integer width;
+    private Integer height;
+    private Long posterTimeMillis;
 
     private String content;  // Post의 내용
     private String nickname; // User의 닉네임
@@ -0,0 +1,29 @@
+package com.fluffytime.domain.board.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// 직접 업로드용 URL
+// 단일 업로드면 uploadUrl 로 PUT, 멀티파트면 partUrls 순서대로 partSize 씩 잘라 PUT 한 뒤 완료 요청
+@Getter
+@Setter
+@AllArgsConstructor
+public class UploadUrlResponse {
+
+    private String key; // 게시글 등록 시 mediaKeys 로 보낼 값
+    private String uploadUrl;
+    private String uploadId;
+    private Integer partSize;
+    private List<String> partUrls;
+
+    public static UploadUrlResponse single(String key, String uploadUrl) {
+        return new UploadUrlResponse(key, uploadUrl, null, null, null);
+    }
+
+    public static UploadUrlResponse multipart(String key, String uploadId, int partSize,
+        List<String> partUrls) {
+        return new UploadUrlResponse(key, null, uploadId, partSize, partUrls);
+    }
+}
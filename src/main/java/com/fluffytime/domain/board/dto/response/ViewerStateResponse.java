@@ -0,0 +1,16 @@
+package com.fluffytime.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// 게시물에 대한 현재 사용자 상태 (좋아요/북마크 여부, 작성자 팔로우 여부)
+@Getter
+@Setter
+@AllArgsConstructor
+public class ViewerStateResponse {
+
+    private boolean liked;
+    private boolean bookmarked;
+    private boolean followingAuthor;
+}
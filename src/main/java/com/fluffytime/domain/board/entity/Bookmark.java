@@ -9,6 +9,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,7 +18,10 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Table(name = "bookmarks")
+@Table(name = "bookmarks", uniqueConstraints = {
+    // 같은 사용자가 같은 게시물을 두 번 북마크하지 않도록 함 (BookmarkDao.insert)
+    @UniqueConstraint(name = "uk_bookmarks_post_id_user_id", columnNames = {"post_id", "user_id"})
+})
 @Entity
 @NoArgsConstructor
 public class Bookmark {
@@ -34,10 +39,15 @@ public class Bookmark {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    // 북마크한 시각 (컬럼 추가 전에 저장된 북마크는 null)
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
     @Builder
-    public Bookmark(Long bookmarkId, User user, Post post) {
+    public Bookmark(Long bookmarkId, User user, Post post, LocalDateTime createdAt) {
         this.bookmarkId = bookmarkId;
         this.user = user;
         this.post = post;
+        this.createdAt = createdAt;
     }
 }
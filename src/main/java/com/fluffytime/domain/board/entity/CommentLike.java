@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +20,10 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Table(name = "comment_likes")
+@Table(name = "comment_likes", uniqueConstraints = {
+    // 사용자당 댓글 좋아요는 하나만 (LikeDao.insert)
+    @UniqueConstraint(name = "uk_comment_likes_comment_id_user_id", columnNames = {"comment_id", "user_id"})
+})
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -0,0 +1,39 @@
+package com.fluffytime.domain.board.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 내용(SHA-256)이 같은 업로드 파일을 S3 객체 하나로 공유하기 위한 색인
+// refCount 는 이 객체를 가리키는 게시물 사진/프로필 사진 수
+@Getter
+@Setter
+@Table(name = "media_objects")
+@Entity
+@NoArgsConstructor
+public class MediaObject {
+
+    @Id
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "file_name", nullable = false, unique = true, length = 255)
+    private String fileName;
+
+    @Column(name = "filesize", nullable = false)
+    private Long filesize;
+
+    @Column(name = "mimetype", nullable = false, length = 50)
+    private String mimetype;
+
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,6 +1,7 @@
 package com.fluffytime.domain.board.entity;
 
 import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.global.config.jpa.PooledIds;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -9,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,7 +24,10 @@ import lombok.Setter;
 public class Mention {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "mentions_id")
+    @TableGenerator(name = "mentions_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "mentions", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "mention_id", nullable = false)
     private Long mentionId;
 
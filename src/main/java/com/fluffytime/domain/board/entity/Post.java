@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -21,10 +22,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Setter
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+    // 탐색 페이지 커서 조회용 인덱스
+    @Index(name = "idx_posts_temp_status_created_at", columnList = "temp_status, created_at, post_id"),
+    // 홈 타임라인 작성자별 조회용 인덱스
+    @Index(name = "idx_posts_user_id_temp_status_created_at", columnList = "user_id, temp_status, created_at")
+})
 @Entity
 @NoArgsConstructor
 public class Post {
@@ -52,6 +59,20 @@ public class Post {
     @Column(name = "hide_like_count", nullable = false)
     private boolean hideLikeCount = false;
 
+    // 좋아요/댓글/북마크 수 (COUNT 조회 없이 읽도록 행에 함께 저장)
+    // 엔티티 저장 시 덮어쓰지 않도록 증감 쿼리(PostRepository.add*Count)로만 변경함
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false)
+    private int likeCount;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private int commentCount;
+
+    @ColumnDefault("0")
+    @Column(name = "bookmark_count", nullable = false, insertable = false, updatable = false)
+    private int bookmarkCount;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private User user;
@@ -1,5 +1,6 @@
 package com.fluffytime.domain.board.entity;
 
+import com.fluffytime.global.config.jpa.PooledIds;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -9,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,7 +25,10 @@ import lombok.Setter;
 public class PostImages {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_images_id")
+    @TableGenerator(name = "post_images_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "post_images", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "image_id", nullable = false)
     private Long imageId;
 
@@ -42,6 +47,20 @@ public class PostImages {
     @Column(name = "upload_date", nullable = false)
     private LocalDateTime uploadDate;
 
+    // 업로드 후 백그라운드에서 만드는 너비별 축소본 (150/640/1080px, 만들기 전이면 null)
+    @Column(name = "thumbnail_path", length = 255)
+    private String thumbnailPath;
+
+    @Column(name = "medium_path", length = 255)
+    private String mediumPath;
+
+    @Column(name = "large_path", length = 255)
+    private String largePath;
+
+    // 원본을 불러오는 동안 보여줄 흐린 미리보기 (data URI)
+    @Column(name = "placeholder", length = 2048)
+    private String placeholder;
+
     @ManyToOne
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
@@ -51,6 +70,11 @@ public class PostImages {
         this.uploadDate = LocalDateTime.now();
     }
 
+    // 목록(그리드, 탐색 카드)에 쓸 사진 경로, 축소본이 아직 없으면 원본
+    public String getListImagePath() {
+        return mediumPath != null ? mediumPath : filepath;
+    }
+
     @Builder
     public PostImages(Long imageId, String filename, String filepath, Long filesize,
         String mimetype, LocalDateTime uploadDate, Post post) {
@@ -10,6 +10,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +21,10 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Table(name = "post_likes")
+@Table(name = "post_likes", uniqueConstraints = {
+    // 같은 사용자가 같은 게시물에 좋아요를 두 번 남기지 않도록 함 (LikeDao.insert)
+    @UniqueConstraint(name = "uk_post_likes_post_id_user_id", columnNames = {"post_id", "user_id"})
+})
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -38,6 +43,10 @@ public class PostLike {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 좋아요 누른 시각 (컬럼 추가 전에 저장된 좋아요는 null)
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
     @Builder
     public PostLike(Post post, User user) {
         this.post = post;
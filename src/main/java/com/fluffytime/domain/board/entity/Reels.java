@@ -1,5 +1,6 @@
 package com.fluffytime.domain.board.entity;
 
+import com.fluffytime.global.config.jpa.PooledIds;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import com.fluffytime.domain.user.entity.User;
@@ -10,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +26,10 @@ import lombok.Setter;
 public class Reels {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reels_id")
+    @TableGenerator(name = "reels_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "reels", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "reels_id", nullable = false)
     private Long reelsId;
 
@@ -51,6 +56,20 @@ public class Reels {
     @Column(name = "upload_date", nullable = false)
     private LocalDateTime uploadDate = LocalDateTime.now(); // 기본값 설정
 
+    // 업로드 후 백그라운드에서 MP4 구조를 읽어 채우는 재생 정보 (읽기 전이면 null)
+    @Column(name = "duration_millis")
+    private Long durationMillis;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    // 미리보기 화면으로 쓸 프레임 위치 (첫 키프레임 기준)
+    @Column(name = "poster_time_millis")
+    private Long posterTimeMillis;
+
     @Builder
     public Reels(Post post, User user, String filename, String filepath, Long filesize, String mimetype) {
         this.post = post;
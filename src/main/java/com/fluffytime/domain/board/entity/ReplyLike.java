@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +20,10 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Table(name = "reply_likes")
+@Table(name = "reply_likes", uniqueConstraints = {
+    // 사용자당 답글 좋아요는 하나만 (LikeDao.insert)
+    @UniqueConstraint(name = "uk_reply_likes_reply_id_user_id", columnNames = {"reply_id", "user_id"})
+})
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
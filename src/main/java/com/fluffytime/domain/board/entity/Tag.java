@@ -1,5 +1,6 @@
 package com.fluffytime.domain.board.entity;
 
+import com.fluffytime.global.config.jpa.PooledIds;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,22 +9,36 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLInsert;
+import org.hibernate.jdbc.Expectation;
 
 @Getter
 @Setter
-@Table(name = "tags")
+// 같은 이름(MySQL 비교 규칙 기준)의 태그가 이미 있으면 새로 넣지 않고 넘어감 (TagWriter 가 이름으로 다시 조회함)
+// 중복 키 외의 오류는 그대로 발생함
+@SQLInsert(sql = "INSERT INTO tags (tag_name, tag_id) VALUES (?, ?) "
+    + "ON DUPLICATE KEY UPDATE tag_id = tag_id", verify = Expectation.None.class)
+@Table(name = "tags", uniqueConstraints = {
+    // 같은 태그를 동시에 만들지 않도록 함 (TagWriter)
+    @UniqueConstraint(name = "uk_tags_tag_name", columnNames = "tag_name")
+})
 @Entity
 @NoArgsConstructor
 public class Tag {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tags_id")
+    @TableGenerator(name = "tags_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "tags", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "tag_id", nullable = false)
     private Long tagId;
 
@@ -1,14 +1,17 @@
 package com.fluffytime.domain.board.entity;
 
+import com.fluffytime.global.config.jpa.PooledIds;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,12 +20,18 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "tag_post")
+@Table(name = "tag_post", indexes = {
+    // 태그별 게시물 조회용 인덱스
+    @Index(name = "idx_tag_post_tag_id_post_id", columnList = "tag_id, post_id")
+})
 @NoArgsConstructor
 public class TagPost {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tag_post_id")
+    @TableGenerator(name = "tag_post_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "tag_post", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "tag_post_id", nullable = false)
     private Long tagPostId;
 
@@ -0,0 +1,8 @@
+package com.fluffytime.domain.board.entity.enums;
+
+// 좋아요 대상 (게시물, 댓글, 답글)
+public enum LikeTarget {
+    POST,
+    COMMENT,
+    REPLY
+}
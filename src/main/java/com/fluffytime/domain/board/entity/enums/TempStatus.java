@@ -3,5 +3,7 @@ package com.fluffytime.domain.board.entity.enums;
 // 게시글의 상태를 나타내는 열거형
 public enum TempStatus {
     TEMP, // 임시 저장 상태
-    SAVE  // 저장 상태
+    SAVE,  // 저장 상태
+    PROCESSING, // 첨부 파일 업로드 중 (업로드가 끝나면 저장 상태로 바뀜)
+    FAILED // 첨부 파일 업로드 실패
 }
@@ -0,0 +1,13 @@
+package com.fluffytime.domain.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글의 댓글/답글이 수정되거나 댓글/답글 좋아요가 변경되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class CommentsChangedEvent {
+
+    private Long postId;
+
+}
@@ -0,0 +1,16 @@
+package com.fluffytime.domain.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 반응 종류와 인기 점수 가중치
+@Getter
+@AllArgsConstructor
+public enum EngagementType {
+    LIKE(1.0),     // 좋아요
+    REPLY(2.0),    // 답글
+    COMMENT(3.0),  // 댓글
+    BOOKMARK(4.0); // 북마크
+
+    private final double weight;
+}
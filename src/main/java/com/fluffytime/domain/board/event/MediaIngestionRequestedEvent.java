@@ -0,0 +1,28 @@
+package com.fluffytime.domain.board.event;
+
+import java.nio.file.Path;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 첨부 파일을 백그라운드에서 업로드하도록 요청하는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class MediaIngestionRequestedEvent {
+
+    private Long postId;
+    private Long userId;
+    private List<SpooledMedia> files;
+
+    // 요청이 끝나면 업로드 파일이 지워지므로 로컬 디스크에 옮겨 둔 파일
+    @Getter
+    @AllArgsConstructor
+    public static class SpooledMedia {
+
+        private Path path;
+        private String originalFilename;
+        private String contentType;
+        private long size;
+        private String contentHash; // 옮기면서 계산한 SHA-256 (중복 제거용)
+    }
+}
@@ -0,0 +1,15 @@
+package com.fluffytime.domain.board.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시물 사진/프로필 사진이 더 이상 S3 파일을 가리키지 않게 되었을 때 발행되는 이벤트
+// (사진을 삭제하는 트랜잭션 안에서 참조 수를 줄이고, 파일은 커밋 후 삭제)
+@Getter
+@AllArgsConstructor
+public class MediaReleasedEvent {
+
+    private List<String> fileNames;
+
+}
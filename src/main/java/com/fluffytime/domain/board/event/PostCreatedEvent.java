@@ -0,0 +1,16 @@
+package com.fluffytime.domain.board.event;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글이 최종 등록(SAVE)되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class PostCreatedEvent {
+
+    private Long postId;
+    private Long userId;
+    private LocalDateTime createdAt;
+
+}
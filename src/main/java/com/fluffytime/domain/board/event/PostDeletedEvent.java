@@ -0,0 +1,14 @@
+package com.fluffytime.domain.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글이 삭제되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class PostDeletedEvent {
+
+    private Long postId;
+    private Long userId;
+
+}
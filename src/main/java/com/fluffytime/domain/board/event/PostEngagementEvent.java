@@ -0,0 +1,22 @@
+package com.fluffytime.domain.board.event;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글에 좋아요/댓글/답글/북마크가 추가(+1)되거나 취소(-1)되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class PostEngagementEvent {
+
+    private Long postId;
+    private EngagementType type;
+    private int delta;
+    // 반응이 생긴 시각 (취소일 때는 취소한 반응이 생긴 시각, 모르면 null)
+    private LocalDateTime occurredAt;
+
+    // 방금 생긴 반응
+    public PostEngagementEvent(Long postId, EngagementType type, int delta) {
+        this(postId, type, delta, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,13 @@
+package com.fluffytime.domain.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글에 첨부 파일이 저장되었을 때 발행되는 이벤트 (커밋 후 축소본 생성)
+@Getter
+@AllArgsConstructor
+public class PostImagesAddedEvent {
+
+    private Long postId;
+
+}
@@ -0,0 +1,16 @@
+package com.fluffytime.domain.board.event;
+
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 첨부 파일 업로드가 끝났을 때(성공/실패) 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class PostMediaProcessedEvent {
+
+    private Long postId;
+    private Long userId;
+    private TempStatus status;
+
+}
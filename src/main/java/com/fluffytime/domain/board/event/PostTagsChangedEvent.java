@@ -0,0 +1,20 @@
+package com.fluffytime.domain.board.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글의 태그가 등록/수정되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class PostTagsChangedEvent {
+
+    private Long postId;
+    private LocalDateTime createdAt;
+    private boolean saved;         // 최종 등록(SAVE) 상태인지 여부, 임시저장 글은 태그 탐색에서 제외
+    // 태그는 이름이 아니라 ID 로 전달 (MySQL 비교 규칙상 "Cat" 과 "cat" 은 같은 태그)
+    private List<Long> oldTagIds;  // 변경 전 태그
+    private List<Long> newTagIds;  // 변경 후 태그
+
+}
@@ -0,0 +1,13 @@
+package com.fluffytime.domain.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 내용/이미지가 수정되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class PostUpdatedEvent {
+
+    private Long postId;
+
+}
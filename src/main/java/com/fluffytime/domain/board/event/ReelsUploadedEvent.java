@@ -0,0 +1,13 @@
+package com.fluffytime.domain.board.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 릴스 영상이 저장되었을 때 발행되는 이벤트 (커밋 후 재생 정보 추출)
+@Getter
+@AllArgsConstructor
+public class ReelsUploadedEvent {
+
+    private Long reelsId;
+
+}
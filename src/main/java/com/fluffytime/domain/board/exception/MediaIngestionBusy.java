@@ -0,0 +1,11 @@
+package com.fluffytime.domain.board.exception;
+
+import com.fluffytime.domain.board.exception.codes.PostErrorCode;
+import com.fluffytime.global.common.exception.business.FluffyException;
+
+public class MediaIngestionBusy extends FluffyException {
+
+    public MediaIngestionBusy() {
+        super(PostErrorCode.MEDIA_INGESTION_BUSY);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fluffytime.domain.board.exception;
+
+import com.fluffytime.domain.board.exception.codes.PostErrorCode;
+import com.fluffytime.global.common.exception.business.FluffyException;
+
+public class TooManyPosts extends FluffyException {
+
+    public TooManyPosts() {
+        super(PostErrorCode.TOO_MANY_POSTS);
+    }
+}
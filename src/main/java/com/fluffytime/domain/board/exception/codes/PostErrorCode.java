@@ -13,7 +13,10 @@ public enum PostErrorCode implements ErrorCode {
     FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "PE-003", "파일 크기가 허용 범위를 초과했습니다."),
     UNSUPPORTED_FILE_FORMAT(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "PE-004", "지원하지 않는 파일 형식입니다."),
     CONTENT_LENGTH_EXCEEDED(HttpStatus.BAD_REQUEST, "PE-005", "본문 길이가 2200자를 초과했습니다."),
-    POST_NOT_IN_TEMP_STATUS(HttpStatus.BAD_REQUEST, "PE-006", "게시글이 임시저장 상태가 아닙니다.");
+    POST_NOT_IN_TEMP_STATUS(HttpStatus.BAD_REQUEST, "PE-006", "게시글이 임시저장 상태가 아닙니다."),
+    UPLOAD_NOT_VERIFIED(HttpStatus.BAD_REQUEST, "PE-007", "업로드된 파일을 확인할 수 없습니다."),
+    TOO_MANY_POSTS(HttpStatus.BAD_REQUEST, "PE-008", "한 번에 최대 100개의 게시물만 조회할 수 있습니다."),
+    MEDIA_INGESTION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PE-009", "업로드 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
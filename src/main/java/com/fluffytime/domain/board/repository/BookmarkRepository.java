@@ -1,8 +1,10 @@
 package com.fluffytime.domain.board.repository;
 
 import com.fluffytime.domain.board.entity.Bookmark;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +18,9 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     // 특정 사용자(userId)가 특정 게시물(postId)을 북마크했는지 여부를 확인
     boolean existsByUserUserIdAndPostPostId(Long userId, Long postId);
+
+    // 주어진 게시물 중 특정 사용자(userId)가 북마크한 게시물 ID만 조회
+    @Query("SELECT b.post.postId FROM Bookmark b "
+        + "WHERE b.user.userId = :userId AND b.post.postId IN :postIds")
+    List<Long> findBookmarkedPostIdsIn(Long userId, Collection<Long> postIds);
 }
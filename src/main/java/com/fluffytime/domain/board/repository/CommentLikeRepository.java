@@ -3,8 +3,11 @@ package com.fluffytime.domain.board.repository;
 import com.fluffytime.domain.board.entity.Comment;
 import com.fluffytime.domain.board.entity.CommentLike;
 import com.fluffytime.domain.user.entity.User;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +20,16 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     int countByComment(Comment comment);
 
     boolean existsByCommentAndUserUserId(Comment comment, Long userId);
+
+    // 좋아요 취소, 지운 행 수 반환 (누르지 않았으면 0)
+    @Modifying
+    @Query(value = "DELETE FROM comment_likes WHERE comment_id = :commentId AND user_id = :userId",
+        nativeQuery = true)
+    int deleteByCommentIdAndUserId(Long commentId, Long userId);
+
+    // 주어진 댓글 중 사용자가 좋아요를 누른 댓글 ID만 조회
+    @Query("SELECT cl.comment.commentId FROM CommentLike cl "
+        + "WHERE cl.user.userId = :userId AND cl.comment.commentId IN :commentIds")
+    List<Long> findLikedCommentIdsIn(Long userId, Collection<Long> commentIds);
+
 }
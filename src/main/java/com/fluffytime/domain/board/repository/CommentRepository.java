@@ -1,12 +1,52 @@
 package com.fluffytime.domain.board.repository;
 
 import com.fluffytime.domain.board.entity.Comment;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findByPostPostId(Long postId);
+
+    // 좋아요/답글 수 증감 (행을 읽지 않고 한 문장으로 반영, 0 밑으로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE comments SET like_count = GREATEST(like_count + :delta, 0) "
+        + "WHERE comment_id = :commentId", nativeQuery = true)
+    int addLikeCount(Long commentId, int delta);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = GREATEST(reply_count + :delta, 0) "
+        + "WHERE comment_id = :commentId", nativeQuery = true)
+    int addReplyCount(Long commentId, int delta);
+
+    // 댓글이 달린 게시물 ID (댓글 엔티티를 읽지 않음)
+    @Query("SELECT c.post.postId FROM Comment c WHERE c.commentId = :commentId")
+    Optional<Long> findPostIdByCommentId(Long commentId);
+
+    // 사용자가 댓글을 단 게시물 ID
+    @Query("SELECT DISTINCT c.post.postId FROM Comment c WHERE c.user.userId = :userId")
+    List<Long> findPostIdsByUserId(Long userId);
+
+    // 댓글별 좋아요 수 (commentId, likeCount), 좋아요 응답용
+    @Query("SELECT c.commentId, c.likeCount FROM Comment c WHERE c.commentId IN :commentIds")
+    List<Object[]> findLikeCounts(Collection<Long> commentIds);
+
+    @Query("SELECT COALESCE(MAX(c.commentId), 0) FROM Comment c")
+    long findMaxCommentId();
+
+    // (fromId, toId] 범위 댓글의 좋아요/답글 수를 실제 행 수로 다시 계산
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comments c SET "
+        + "c.like_count = (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = c.comment_id), "
+        + "c.reply_count = (SELECT COUNT(*) FROM replies r WHERE r.comment_id = c.comment_id) "
+        + "WHERE c.comment_id > :fromId AND c.comment_id <= :toId", nativeQuery = true)
+    int repairCounts(long fromId, long toId);
 }
@@ -0,0 +1,51 @@
+package com.fluffytime.domain.board.repository;
+
+import com.fluffytime.domain.board.entity.MediaObject;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+// 참조 수는 게시물/프로필 사진 행을 바꾸는 트랜잭션에 참여해 함께 커밋/롤백됨
+// (별도 트랜잭션을 열지 않으므로 요청 하나가 커넥션을 두 개 이상 잡지 않음)
+public interface MediaObjectRepository extends JpaRepository<MediaObject, String> {
+
+    @Query("SELECT m.fileName FROM MediaObject m WHERE m.contentHash = :contentHash")
+    Optional<String> findFileNameByContentHash(@Param("contentHash") String contentHash);
+
+    // 같은 내용의 파일이 이미 있으면 참조 수 증가 (변경된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE MediaObject m "
+        + "SET m.refCount = m.refCount + 1 "
+        + "WHERE m.contentHash = :contentHash")
+    int incrementRefCount(@Param("contentHash") String contentHash);
+
+    // 새로 올린 파일 등록
+    // 동시에 같은 내용이 올라와 먼저 등록된 행이 있으면 그 행의 참조 수를 늘림
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO media_objects "
+        + "(content_hash, file_name, filesize, mimetype, ref_count, created_at) "
+        + "VALUES (:contentHash, :fileName, :filesize, :mimetype, 1, NOW()) "
+        + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    void insertOrIncrement(@Param("contentHash") String contentHash,
+        @Param("fileName") String fileName, @Param("filesize") long filesize,
+        @Param("mimetype") String mimetype);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MediaObject m "
+        + "SET m.refCount = m.refCount - 1 "
+        + "WHERE m.fileName = :fileName AND m.refCount > 0")
+    int decrementRefCount(@Param("fileName") String fileName);
+
+    // 참조가 남아 있지 않을 때만 삭제 (그 사이 다시 참조되었으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MediaObject m "
+        + "WHERE m.fileName = :fileName AND m.refCount = 0")
+    int deleteIfUnreferenced(@Param("fileName") String fileName);
+}
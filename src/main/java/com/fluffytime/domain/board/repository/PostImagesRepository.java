@@ -1,8 +1,19 @@
 package com.fluffytime.domain.board.repository;
 
 import com.fluffytime.domain.board.entity.PostImages;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PostImagesRepository extends JpaRepository<PostImages, Long> {
 
+    List<PostImages> findAllByPost_PostId(Long postId);
+
+    // 사용자의 모든 게시물 사진 파일 이름 (회원 탈퇴 시 참조 해제용)
+    @Query("SELECT pi.filename FROM PostImages pi WHERE pi.post.user.userId = :userId")
+    List<String> findFilenamesByUserId(Long userId);
+
+    // 같은 파일(중복 제거로 공유된 파일)에 대해 이미 만들어 둔 축소본 조회
+    Optional<PostImages> findFirstByFilenameAndThumbnailPathIsNotNull(String filename);
 }
\ No newline at end of file
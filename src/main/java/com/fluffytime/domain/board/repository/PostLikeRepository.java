@@ -3,8 +3,13 @@ package com.fluffytime.domain.board.repository;
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.PostLike;
 import com.fluffytime.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +22,21 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     int countByPost(Post post);
 
     boolean existsByPostAndUserUserId(Post post, Long userId);
+
+    // 좋아요 누른 시각 (누르지 않았거나 시각 컬럼 추가 전에 저장된 좋아요면 빈 값)
+    @Query("SELECT pl.createdAt FROM PostLike pl "
+        + "WHERE pl.post.postId = :postId AND pl.user.userId = :userId")
+    Optional<LocalDateTime> findCreatedAt(Long postId, Long userId);
+
+    // 좋아요 취소, 지운 행 수 반환 (누르지 않았으면 0)
+    @Modifying
+    @Query(value = "DELETE FROM post_likes WHERE post_id = :postId AND user_id = :userId",
+        nativeQuery = true)
+    int deleteByPostIdAndUserId(Long postId, Long userId);
+
+    // 주어진 게시물 중 사용자가 좋아요를 누른 게시물 ID만 조회
+    @Query("SELECT pl.post.postId FROM PostLike pl "
+        + "WHERE pl.user.userId = :userId AND pl.post.postId IN :postIds")
+    List<Long> findLikedPostIdsIn(Long userId, Collection<Long> postIds);
+
 }
@@ -4,17 +4,193 @@ import com.fluffytime.domain.admin.dto.DailyContentsCount;
 import com.fluffytime.domain.admin.dto.DailyCount;
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import com.fluffytime.domain.search.dto.response.ExploreCardResponse;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
-    List<Post> findAllByOrderByCreatedAtDesc();
     List<Post> findAllByUser_UserIdAndTempStatus(Long userId, TempStatus tempStatus);
 
+    // 좋아요/댓글/북마크 수 증감 (행을 읽지 않고 한 문장으로 반영, 0 밑으로 내려가지 않음)
+    @Modifying
+    @Query(
+        value = "UPDATE posts SET like_count = GREATEST(like_count + :delta, 0) " +
+            "WHERE post_id = :postId",
+        nativeQuery = true
+    )
+    int addLikeCount(Long postId, int delta);
+
+    @Modifying
+    @Query(
+        value = "UPDATE posts SET comment_count = GREATEST(comment_count + :delta, 0) " +
+            "WHERE post_id = :postId",
+        nativeQuery = true
+    )
+    int addCommentCount(Long postId, int delta);
+
+    @Modifying
+    @Query(
+        value = "UPDATE posts SET bookmark_count = GREATEST(bookmark_count + :delta, 0) " +
+            "WHERE post_id = :postId",
+        nativeQuery = true
+    )
+    int addBookmarkCount(Long postId, int delta);
+
+    // 게시물별 작성자 ID (postId, userId)
+    @Query(
+        value = "SELECT p.postId, p.user.userId FROM Post p WHERE p.postId IN :postIds"
+    )
+    List<Object[]> findAuthorIds(Collection<Long> postIds);
+
+    // 게시물별 좋아요 수 (postId, likeCount), 좋아요 응답용
+    @Query(
+        value = "SELECT p.postId, p.likeCount FROM Post p WHERE p.postId IN :postIds"
+    )
+    List<Object[]> findLikeCounts(Collection<Long> postIds);
+
+    @Query(
+        value = "SELECT COALESCE(MAX(p.postId), 0) FROM Post p"
+    )
+    long findMaxPostId();
+
+    // (fromId, toId] 범위 게시물의 좋아요/댓글/북마크 수를 실제 행 수로 다시 계산
+    @Transactional
+    @Modifying
+    @Query(
+        value = "UPDATE posts p SET " +
+            "p.like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.post_id), " +
+            "p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id), " +
+            "p.bookmark_count = (SELECT COUNT(*) FROM bookmarks b WHERE b.post_id = p.post_id) " +
+            "WHERE p.post_id > :fromId AND p.post_id <= :toId",
+        nativeQuery = true
+    )
+    int repairCounts(long fromId, long toId);
+
+    // 자동 저장된 임시 저장 글 반영
+    // 그 사이 최종 등록/삭제되었거나 더 최신 내용으로 저장된 글은 건드리지 않음
+    @Modifying
+    @Query(
+        value = "UPDATE Post p SET p.content = :content, p.hideLikeCount = :hideLikeCount, " +
+            "p.commentsDisabled = :commentsDisabled, p.updatedAt = :updatedAt " +
+            "WHERE p.postId = :postId AND p.tempStatus = :tempStatus " +
+            "AND (p.updatedAt IS NULL OR p.updatedAt < :updatedAt)"
+    )
+    int updateDraft(
+        Long postId,
+        String content,
+        boolean hideLikeCount,
+        boolean commentsDisabled,
+        LocalDateTime updatedAt,
+        TempStatus tempStatus
+    );
+
+    // 탐색 첫 페이지 카드 조회 (최신순, 같은 시각이면 postId 역순)
+    // 작성자, 프로필 사진, 첫번째 게시물 사진을 한 번의 쿼리로 가져옴
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.response.ExploreCardResponse(" +
+            "p.postId, u.userId, u.nickname, pi.filePath, " +
+            "(SELECT COALESCE(img.mediumPath, img.filepath) FROM PostImages img WHERE img.imageId = " +
+            "(SELECT MIN(fi.imageId) FROM PostImages fi WHERE fi.post = p)), " +
+            "p.content, p.createdAt) " +
+            "FROM Post p JOIN p.user u " +
+            "LEFT JOIN u.profile pr LEFT JOIN pr.profileImages pi " +
+            "WHERE p.tempStatus = :tempStatus " +
+            "ORDER BY p.createdAt DESC, p.postId DESC"
+    )
+    List<ExploreCardResponse> findExploreCards(TempStatus tempStatus, Pageable pageable);
+
+    // 커서(createdAt, postId) 이후의 탐색 카드 조회
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.response.ExploreCardResponse(" +
+            "p.postId, u.userId, u.nickname, pi.filePath, " +
+            "(SELECT COALESCE(img.mediumPath, img.filepath) FROM PostImages img WHERE img.imageId = " +
+            "(SELECT MIN(fi.imageId) FROM PostImages fi WHERE fi.post = p)), " +
+            "p.content, p.createdAt) " +
+            "FROM Post p JOIN p.user u " +
+            "LEFT JOIN u.profile pr LEFT JOIN pr.profileImages pi " +
+            "WHERE p.tempStatus = :tempStatus " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC"
+    )
+    List<ExploreCardResponse> findExploreCardsAfter(
+        TempStatus tempStatus,
+        LocalDateTime createdAt,
+        Long postId,
+        Pageable pageable
+    );
+
+    // postId 목록으로 탐색 카드 조회 (Redis 카드 캐시 미스 보충용)
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.response.ExploreCardResponse(" +
+            "p.postId, u.userId, u.nickname, pi.filePath, " +
+            "(SELECT COALESCE(img.mediumPath, img.filepath) FROM PostImages img WHERE img.imageId = " +
+            "(SELECT MIN(fi.imageId) FROM PostImages fi WHERE fi.post = p)), " +
+            "p.content, p.createdAt) " +
+            "FROM Post p JOIN p.user u " +
+            "LEFT JOIN u.profile pr LEFT JOIN pr.profileImages pi " +
+            "WHERE p.tempStatus = :tempStatus AND p.postId IN :postIds"
+    )
+    List<ExploreCardResponse> findExploreCardsByPostIdIn(TempStatus tempStatus, List<Long> postIds);
+
+    // 탐색 타임라인 재구성용 (createdAt, postId) 조회
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.request.ExploreCursor(p.createdAt, p.postId) " +
+            "FROM Post p " +
+            "WHERE p.tempStatus = :tempStatus " +
+            "ORDER BY p.createdAt DESC, p.postId DESC"
+    )
+    List<ExploreCursor> findExploreEntries(TempStatus tempStatus, Pageable pageable);
+
+    // 지정한 작성자들의 최신 게시물 (createdAt, postId) 조회 (홈 타임라인 구성용)
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.request.ExploreCursor(p.createdAt, p.postId) " +
+            "FROM Post p " +
+            "WHERE p.tempStatus = :tempStatus AND p.user.userId IN :userIds " +
+            "ORDER BY p.createdAt DESC, p.postId DESC"
+    )
+    List<ExploreCursor> findTimelineEntries(TempStatus tempStatus, List<Long> userIds,
+        Pageable pageable);
+
+    // 커서 이후 지정한 작성자들의 게시물 (createdAt, postId) 조회
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.request.ExploreCursor(p.createdAt, p.postId) " +
+            "FROM Post p " +
+            "WHERE p.tempStatus = :tempStatus AND p.user.userId IN :userIds " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC"
+    )
+    List<ExploreCursor> findTimelineEntriesAfter(
+        TempStatus tempStatus,
+        List<Long> userIds,
+        LocalDateTime createdAt,
+        Long postId,
+        Pageable pageable
+    );
+
+    // 사용자가 작성한 게시물 ID (프로필 변경 시 캐시된 카드/버전 갱신용)
+    @Query("SELECT p.postId FROM Post p WHERE p.user.userId = :userId")
+    List<Long> findIdsByUserId(Long userId);
+
+    // 주어진 시각 이후로 바뀌지 않은 상태별 게시물 ID (업로드 중으로 남은 게시물 정리용)
+    @Query(
+        value = "SELECT p.postId FROM Post p " +
+            "WHERE p.tempStatus = :tempStatus " +
+            "AND COALESCE(p.updatedAt, p.createdAt) < :before"
+    )
+    List<Long> findIdsByTempStatusAndUpdatedBefore(
+        TempStatus tempStatus,
+        LocalDateTime before
+    );
+
     @Query(
         value = "SELECT new com.fluffytime.domain.admin.dto.DailyContentsCount(p.createdAt, COUNT(p)) " +
             "FROM Post p " +
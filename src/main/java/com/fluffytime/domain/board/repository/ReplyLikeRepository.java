@@ -3,8 +3,11 @@ package com.fluffytime.domain.board.repository;
 import com.fluffytime.domain.board.entity.Reply;
 import com.fluffytime.domain.board.entity.ReplyLike;
 import com.fluffytime.domain.user.entity.User;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +20,16 @@ public interface ReplyLikeRepository extends JpaRepository<ReplyLike, Long> {
     int countByReply(Reply reply);
 
     boolean existsByReplyAndUserUserId(Reply reply, Long userId);
+
+    // 좋아요 취소, 지운 행 수 반환 (누르지 않았으면 0)
+    @Modifying
+    @Query(value = "DELETE FROM reply_likes WHERE reply_id = :replyId AND user_id = :userId",
+        nativeQuery = true)
+    int deleteByReplyIdAndUserId(Long replyId, Long userId);
+
+    // 주어진 답글 중 사용자가 좋아요를 누른 답글 ID만 조회
+    @Query("SELECT rl.reply.replyId FROM ReplyLike rl "
+        + "WHERE rl.user.userId = :userId AND rl.reply.replyId IN :replyIds")
+    List<Long> findLikedReplyIdsIn(Long userId, Collection<Long> replyIds);
+
 }
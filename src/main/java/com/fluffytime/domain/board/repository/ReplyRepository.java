@@ -1,10 +1,44 @@
 package com.fluffytime.domain.board.repository;
 
 import com.fluffytime.domain.board.entity.Reply;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
 
     List<Reply> findByCommentCommentId(Long commentId);
+
+    // 좋아요 수 증감 (행을 읽지 않고 한 문장으로 반영, 0 밑으로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE replies SET like_count = GREATEST(like_count + :delta, 0) "
+        + "WHERE reply_id = :replyId", nativeQuery = true)
+    int addLikeCount(Long replyId, int delta);
+
+    // 답글이 달린 게시물 ID (답글 엔티티를 읽지 않음)
+    @Query("SELECT r.comment.post.postId FROM Reply r WHERE r.replyId = :replyId")
+    Optional<Long> findPostIdByReplyId(Long replyId);
+
+    // 사용자가 답글을 단 게시물 ID
+    @Query("SELECT DISTINCT r.comment.post.postId FROM Reply r WHERE r.user.userId = :userId")
+    List<Long> findPostIdsByUserId(Long userId);
+
+    // 답글별 좋아요 수 (replyId, likeCount), 좋아요 응답용
+    @Query("SELECT r.replyId, r.likeCount FROM Reply r WHERE r.replyId IN :replyIds")
+    List<Object[]> findLikeCounts(Collection<Long> replyIds);
+
+    @Query("SELECT COALESCE(MAX(r.replyId), 0) FROM Reply r")
+    long findMaxReplyId();
+
+    // (fromId, toId] 범위 답글의 좋아요 수를 실제 행 수로 다시 계산
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE replies r SET "
+        + "r.like_count = (SELECT COUNT(*) FROM reply_likes l WHERE l.reply_id = r.reply_id) "
+        + "WHERE r.reply_id > :fromId AND r.reply_id <= :toId", nativeQuery = true)
+    int repairCounts(long fromId, long toId);
 }
@@ -2,10 +2,45 @@ package com.fluffytime.domain.board.repository;
 
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.TagPost;
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TagPostRepository extends JpaRepository<TagPost, Long> {
     void deleteAllByPost(Post post);
+
+    // 게시물의 태그 연결을 태그와 함께 조회
+    @Query("SELECT tp FROM TagPost tp JOIN FETCH tp.tag WHERE tp.post = :post")
+    List<TagPost> findAllWithTagByPost(Post post);
+
+    // 태그가 달린 최신 게시물 (createdAt, postId) 조회
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.request.ExploreCursor(p.createdAt, p.postId) " +
+            "FROM TagPost tp JOIN tp.post p " +
+            "WHERE tp.tag.tagId = :tagId AND p.tempStatus = :tempStatus " +
+            "ORDER BY p.createdAt DESC, p.postId DESC"
+    )
+    List<ExploreCursor> findTagEntries(Long tagId, TempStatus tempStatus, Pageable pageable);
+
+    // 커서 이후 태그가 달린 게시물 (createdAt, postId) 조회
+    @Query(
+        value = "SELECT new com.fluffytime.domain.search.dto.request.ExploreCursor(p.createdAt, p.postId) " +
+            "FROM TagPost tp JOIN tp.post p " +
+            "WHERE tp.tag.tagId = :tagId AND p.tempStatus = :tempStatus " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC"
+    )
+    List<ExploreCursor> findTagEntriesAfter(
+        Long tagId,
+        TempStatus tempStatus,
+        LocalDateTime createdAt,
+        Long postId,
+        Pageable pageable
+    );
 }
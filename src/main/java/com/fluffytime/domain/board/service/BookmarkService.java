@@ -1,22 +1,26 @@
 package com.fluffytime.domain.board.service;
 
+import com.fluffytime.domain.board.dao.BookmarkDao;
 import com.fluffytime.domain.board.dto.response.BookmarkResponse;
+import com.fluffytime.domain.board.event.EngagementType;
+import com.fluffytime.domain.board.event.PostEngagementEvent;
 import com.fluffytime.domain.board.exception.BookmarkAlreadyExists;
 import com.fluffytime.domain.board.exception.BookmarkNotFound;
 import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
 import com.fluffytime.global.common.exception.global.PostNotFound;
 import com.fluffytime.global.common.exception.global.UserNotFound;
 import com.fluffytime.domain.board.entity.Bookmark;
-import com.fluffytime.domain.board.entity.Post;
-import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.board.repository.BookmarkRepository;
 import com.fluffytime.domain.board.repository.PostRepository;
 import com.fluffytime.domain.user.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,9 +30,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class BookmarkService {
 
     private final BookmarkRepository bookmarkRepository;
+    private final BookmarkDao bookmarkDao;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final JwtTokenizer jwtTokenizer;
+    private final ApplicationEventPublisher eventPublisher;
 
     // JWT 토큰에서 사용자 ID 추출
     public Long findUserByAccessToken(HttpServletRequest request) {
@@ -43,24 +49,30 @@ public class BookmarkService {
     }
 
     // 북마크 생성하기
+    // 게시물/사용자 엔티티를 읽지 않고 INSERT 한 문장으로 처리함 (유니크 키로 중복 북마크를 막음)
     @Transactional
     public BookmarkResponse createBookmark(Long postId, HttpServletRequest request) {
         Long userId = findUserByAccessToken(request);
 
-        User user = userRepository.findById(userId).orElseThrow(UserNotFound::new);
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
-
-        if (bookmarkRepository.existsByUserUserIdAndPostPostId(userId, postId)) {
+        Long bookmarkId;
+        try {
+            bookmarkId = bookmarkDao.insert(postId, userId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 오류: 게시물이나 사용자가 없음 (탈퇴한 사용자의 토큰 등)
+            if (!postRepository.existsById(postId)) {
+                throw new PostNotFound();
+            }
+            throw new UserNotFound();
+        }
+        if (bookmarkId == null) {
             throw new BookmarkAlreadyExists();
         }
 
-        Bookmark bookmark = Bookmark.builder()
-            .user(user)
-            .post(post)
-            .build();
+        // 새로 저장했을 때만 북마크 수를 올림
+        postRepository.addBookmarkCount(postId, 1);
 
-        bookmarkRepository.save(bookmark);
-        return new BookmarkResponse(bookmark.getBookmarkId(), userId, postId);
+        eventPublisher.publishEvent(new PostEngagementEvent(postId, EngagementType.BOOKMARK, 1));
+        return new BookmarkResponse(bookmarkId, userId, postId);
     }
 
     // 북마크 삭제하기
@@ -85,7 +97,11 @@ public class BookmarkService {
         }
 
         bookmarkRepository.delete(bookmark);
+        postRepository.addBookmarkCount(bookmark.getPost().getPostId(), -1);
         log.info("북마크 삭제 성공, 북마크 ID: {}", bookmarkId);
+
+        eventPublisher.publishEvent(new PostEngagementEvent(bookmark.getPost().getPostId(),
+            EngagementType.BOOKMARK, -1, bookmark.getCreatedAt()));
     }
 
     // 사용자가 북마크한 게시물 목록 조회하기
@@ -119,8 +135,14 @@ public class BookmarkService {
     public boolean checkIfUserBookmarkedPost(Long postId, HttpServletRequest request) {
         Long userId = findUserByAccessToken(request);
 
-        userRepository.findById(userId).orElseThrow(UserNotFound::new);
-        postRepository.findById(postId).orElseThrow(PostNotFound::new);
+        // 엔티티를 읽지 않고 존재 여부만 확인 (여러 게시물은 ViewerStateService 로 한 번에 조회)
+        // 탈퇴한 사용자의 토큰이면 이전과 같이 UserNotFound
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFound();
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFound();
+        }
 
         return bookmarkRepository.existsByUserUserIdAndPostPostId(userId, postId);
     }
@@ -1,11 +1,12 @@
 package com.fluffytime.domain.board.service;
 
+import com.fluffytime.domain.board.dao.LikeDao;
 import com.fluffytime.domain.board.dto.request.CommentLikeRequest;
 import com.fluffytime.domain.board.dto.response.CommentLikeResponse;
 import com.fluffytime.domain.board.entity.Comment;
 import com.fluffytime.domain.board.entity.CommentLike;
-import com.fluffytime.domain.board.exception.LikeIsExists;
-import com.fluffytime.domain.board.exception.NoLikeFound;
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
+import com.fluffytime.domain.board.event.CommentsChangedEvent;
 import com.fluffytime.domain.board.repository.CommentLikeRepository;
 import com.fluffytime.domain.board.repository.CommentRepository;
 import com.fluffytime.domain.notification.service.NotificationService;
@@ -22,6 +23,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,62 +38,69 @@ public class CommentLikeService {
     private final CommentLikeRepository commentLikeRepository;
     private final JwtTokenizer jwtTokenizer;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeQueryService likeQueryService;
+    private final LikeDao likeDao;
 
-    //댓글 좋아요 등록
+    //댓글 좋아요 등록 (이미 눌렀으면 현재 상태만 반환)
+    // 댓글/사용자 엔티티를 읽지 않고 INSERT 한 문장으로 처리함
     @Transactional
-    public CommentLikeResponse likeComment(Long commentId,
-        CommentLikeRequest requestDto) {
-        Comment comment = commentRepository.findById(commentId)
-            .orElseThrow(CommentNotFound::new);
-        User user = userRepository.findById(requestDto.getUserId())
-            .orElseThrow(UserNotFound::new);
-
-        //좋아요를 눌렀는지 안 눌렀는지 확인
-        if (commentLikeRepository.findByCommentAndUser(comment, user) != null) {
-            throw new LikeIsExists();
+    public CommentLikeResponse likeComment(Long commentId, CommentLikeRequest requestDto) {
+        Long userId = requestDto.getUserId();
+
+        boolean created;
+        try {
+            created = likeDao.insert(LikeTarget.COMMENT, commentId, userId);
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 오류: 댓글이나 사용자가 없음 (탈퇴한 사용자의 토큰 등)
+            if (!commentRepository.existsById(commentId)) {
+                throw new CommentNotFound();
+            }
+            throw new UserNotFound();
         }
 
-        CommentLike commentLike = CommentLike.builder()
-            .comment(comment)
-            .user(user)
-            .build();
-        commentLikeRepository.save(commentLike);
+        int likeCount;
+        if (created) {
+            commentRepository.addLikeCount(commentId, 1);
+
+            // 알림 생성 및 전송 (새로 눌렀을 때만 댓글/사용자를 읽음)
+            notificationService.createLikesNotification(
+                commentRepository.getReferenceById(commentId),
+                userRepository.getReferenceById(userId));
 
-        // 알림 생성 및 전송
-        notificationService.createLikesNotification(comment, commentLike.getUser());
+            publishCommentsChanged(commentId);
 
-        int likeCount = commentLikeRepository.countByComment(comment); //현재 좋아요 수
+            likeCount = likeQueryService.getCount(LikeTarget.COMMENT, commentId); //현재 좋아요 수
+        } else {
+            // 이미 누름
+            likeCount = likeQueryService.getCount(LikeTarget.COMMENT, commentId);
+        }
 
         return CommentLikeResponse.builder()
-            .userId(user.getUserId())
-            .nickname(user.getNickname())
+            .userId(userId)
             .likeCount(likeCount)
             .isLiked(true)
             .build();
     }
 
-    //댓글 좋아요 취소
+    //댓글 좋아요 취소 (누르지 않았으면 현재 상태만 반환)
     @Transactional
-    public CommentLikeResponse unlikeComment(Long commentId,
-        CommentLikeRequest requestDto) {
-        Comment comment = commentRepository.findById(commentId)
-            .orElseThrow(CommentNotFound::new);
-        User user = userRepository.findById(requestDto.getUserId())
-            .orElseThrow(UserNotFound::new);
+    public CommentLikeResponse unlikeComment(Long commentId, CommentLikeRequest requestDto) {
+        Long userId = requestDto.getUserId();
 
-        //좋아요를 눌렀는지 안 눌렀는지 확인
-        CommentLike exisitingLike = commentLikeRepository.findByCommentAndUser(comment, user);
-        if (exisitingLike == null) {
-            throw new NoLikeFound();
-        }
+        int likeCount;
+        if (commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId) > 0) {
+            commentRepository.addLikeCount(commentId, -1);
 
-        commentLikeRepository.delete(exisitingLike);
+            publishCommentsChanged(commentId);
 
-        int likeCount = commentLikeRepository.countByComment(comment);
+            likeCount = likeQueryService.getCount(LikeTarget.COMMENT, commentId); //현재 좋아요 수
+        } else {
+            likeCount = likeQueryService.getCount(LikeTarget.COMMENT, commentId);
+        }
 
         return CommentLikeResponse.builder()
-            .userId(user.getUserId())
-            .nickname(user.getNickname())
+            .userId(userId)
             .likeCount(likeCount)
             .isLiked(false)
             .build();
@@ -102,11 +112,29 @@ public class CommentLikeService {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(CommentNotFound::new);
 
+        int likeCount = comment.getLikeCount();
         return commentLikeRepository.findAllByComment(comment).stream()
-            .map(like -> convertToCommentLikeResponseDto(like, comment))
+            .map(like -> convertToCommentLikeResponseDto(like, likeCount))
             .collect(Collectors.toList());
     }
 
+    // 댓글 목록이 바뀌었음을 알림 (댓글 엔티티를 읽지 않고 게시물 ID만 조회)
+    private void publishCommentsChanged(Long commentId) {
+        commentRepository.findPostIdByCommentId(commentId)
+            .ifPresent(postId -> eventPublisher.publishEvent(new CommentsChangedEvent(postId)));
+    }
+
+    //accessToken으로 사용자 ID 찾기 (사용자 엔티티를 읽지 않음)
+    public Long findUserIdByAccessToken(HttpServletRequest httpServletRequest) {
+        String accessToken = jwtTokenizer.getTokenFromCookie(httpServletRequest, "accessToken");
+
+        if (accessToken == null) {
+            throw new UserNotFound();
+        }
+
+        return jwtTokenizer.getUserIdFromToken(accessToken);
+    }
+
     //accessToken으로 사용자 찾기
     @Transactional(readOnly = true)
     public User findByAccessToken(HttpServletRequest httpServletRequest) {
@@ -127,12 +155,11 @@ public class CommentLikeService {
 
 
     //댓글 좋아요 response convert
-    private CommentLikeResponse convertToCommentLikeResponseDto(CommentLike like,
-        Comment comment) {
+    private CommentLikeResponse convertToCommentLikeResponseDto(CommentLike like, int likeCount) {
         return CommentLikeResponse.builder()
             .userId(like.getUser().getUserId())
             .nickname(like.getUser().getNickname())
-            .likeCount(commentLikeRepository.countByComment(comment))
+            .likeCount(likeCount)
             .isLiked(true)
             .profileImageurl(getProfileImageUrl(like.getUser()))
             .intro(Optional.ofNullable(like.getUser().getProfile()).map(Profile::getIntro)
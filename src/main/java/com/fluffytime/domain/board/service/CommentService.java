@@ -6,12 +6,17 @@ import com.fluffytime.domain.board.dto.response.ReplyResponse;
 import com.fluffytime.domain.board.entity.Comment;
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.Reply;
-import com.fluffytime.domain.board.repository.CommentLikeRepository;
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
+import com.fluffytime.domain.board.event.CommentsChangedEvent;
+import com.fluffytime.domain.board.event.EngagementType;
+import com.fluffytime.domain.board.event.PostEngagementEvent;
 import com.fluffytime.domain.board.repository.CommentRepository;
 import com.fluffytime.domain.board.repository.PostRepository;
 import com.fluffytime.domain.notification.service.NotificationService;
 import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.user.repository.UserRepository;
+import com.fluffytime.domain.user.service.BlockFilter;
+import com.fluffytime.domain.user.service.BlockFilterService;
 import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
 import com.fluffytime.global.common.exception.global.CommentNotFound;
 import com.fluffytime.global.common.exception.global.PostNotFound;
@@ -19,9 +24,11 @@ import com.fluffytime.global.common.exception.global.UserNotFound;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,8 +41,10 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final JwtTokenizer jwtTokenizer;
-    private final CommentLikeRepository commentLikeRepository;
+    private final LikeQueryService likeQueryService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockFilterService blockFilterService;
 
     @Transactional
     public Comment createComment(CommentRequest requestDto) {
@@ -50,18 +59,27 @@ public class CommentService {
             .post(post)
             .build();
         Comment savedComment = commentRepository.save(comment);
+        postRepository.addCommentCount(post.getPostId(), 1);
 
         // 알림 생성 및 전송
         notificationService.createCommentsNotification(post, comment.getUser());
+
+        eventPublisher.publishEvent(
+            new PostEngagementEvent(post.getPostId(), EngagementType.COMMENT, 1));
         return savedComment;
     }
 
-    //댓글 조회 - 게시글마다
+    //댓글 조회 - 게시글마다 (차단한 사용자의 댓글/답글 제외)
     @Transactional
     public List<CommentResponse> getCommentByPostId(Long postId, Long currentUserId) {
-        List<Comment> commentList = commentRepository.findByPostPostId(postId);
+        BlockFilter blockFilter = blockFilterService.forViewer(currentUserId);
+        List<Comment> commentList = blockFilter.filter(commentRepository.findByPostPostId(postId),
+            comment -> comment.getUser().getUserId());
+        Set<Long> likedCommentIds = findLikedCommentIds(commentList, currentUserId);
+        Set<Long> likedReplyIds = findLikedReplyIds(commentList, currentUserId);
         return commentList.stream()
-            .map(comment -> convertToCommentResponseDto(comment, currentUserId))
+            .map(comment -> convertToCommentResponseDto(comment, currentUserId, blockFilter,
+                likedCommentIds, likedReplyIds))
             .collect(Collectors.toList());
     }
 
@@ -73,6 +91,8 @@ public class CommentService {
 
         comment.setContent(content);
         commentRepository.save(comment);
+
+        eventPublisher.publishEvent(new CommentsChangedEvent(comment.getPost().getPostId()));
     }
 
     //댓글 삭제
@@ -81,6 +101,11 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(CommentNotFound::new);
         commentRepository.delete(comment);
+        postRepository.addCommentCount(comment.getPost().getPostId(), -1);
+
+        eventPublisher.publishEvent(
+            new PostEngagementEvent(comment.getPost().getPostId(), EngagementType.COMMENT, -1,
+                comment.getCreatedAt()));
     }
 
     //accessToken으로 사용자 찾기
@@ -94,6 +119,15 @@ public class CommentService {
         return user;
     }
 
+    //accessToken으로 사용자 ID만 찾기 (사용자 엔티티를 조회하지 않음)
+    public Long findUserIdByAccessToken(HttpServletRequest httpServletRequest) {
+        String accessToken = jwtTokenizer.getTokenFromCookie(httpServletRequest, "accessToken");
+        if (accessToken == null) {
+            throw new UserNotFound();
+        }
+        return jwtTokenizer.getUserIdFromToken(accessToken);
+    }
+
     //사용자 조회
     @Transactional
     public Optional<User> findUserById(Long userId) {
@@ -107,14 +141,16 @@ public class CommentService {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(CommentNotFound::new);
 
-        return convertToCommentResponseDto(comment, currentUserId);
+        return convertToCommentResponseDto(comment, currentUserId, BlockFilter.empty(),
+            findLikedCommentIds(List.of(comment), currentUserId),
+            findLikedReplyIds(List.of(comment), currentUserId));
     }
 
     //댓글 response convert
-    private CommentResponse convertToCommentResponseDto(Comment comment, Long currentUserId) {
-        int likeCount = commentLikeRepository.countByComment(comment);
-        boolean isLiked = commentLikeRepository.existsByCommentAndUserUserId(comment,
-            currentUserId);
+    private CommentResponse convertToCommentResponseDto(Comment comment, Long currentUserId,
+        BlockFilter blockFilter, Set<Long> likedCommentIds, Set<Long> likedReplyIds) {
+        int likeCount = comment.getLikeCount();
+        boolean isLiked = likedCommentIds.contains(comment.getCommentId());
 
         return CommentResponse.builder()
             .commentId(comment.getCommentId())
@@ -122,8 +158,10 @@ public class CommentService {
             .content(comment.getContent())
             .nickname(comment.getUser().getNickname())
             .createdAt(comment.getCreatedAt())
-            .replyList(comment.getReplyList().stream()
-                .map(reply -> convertToReplyResponseDto(reply, currentUserId))
+            .replyList(blockFilter.filter(comment.getReplyList(), reply -> reply.getUser().getUserId())
+                .stream()
+                .map(reply -> convertToReplyResponseDto(reply, currentUserId,
+                    likedReplyIds.contains(reply.getReplyId())))
                 .collect(Collectors.toList()))
             .isAuthor(comment.getUser().getUserId().equals(currentUserId))
             .profileImageurl(getProfileImageUrl(comment.getUser()))
@@ -133,7 +171,8 @@ public class CommentService {
     }
 
     //답글 response convert
-    private ReplyResponse convertToReplyResponseDto(Reply reply, Long currentUserId) {
+    private ReplyResponse convertToReplyResponseDto(Reply reply, Long currentUserId,
+        boolean isLiked) {
         return ReplyResponse.builder()
             .replyId(reply.getReplyId())
             .userId(reply.getUser().getUserId())
@@ -142,12 +181,25 @@ public class CommentService {
             .createdAt(reply.getCreatedAt())
             .isAuthor(reply.getUser().getUserId().equals(currentUserId))
             .profileImageurl(getProfileImageUrl(reply.getUser()))
-            .likeCount(reply.getLikes().size())
-            .isLiked(reply.getLikes().stream()
-                .anyMatch(like -> like.getUser().getUserId().equals(currentUserId)))
+            .likeCount(reply.getLikeCount())
+            .isLiked(isLiked)
             .build();
     }
 
+    // 댓글/답글 좋아요 여부는 하나씩 조회하지 않고 각각 IN 쿼리 한 번으로 가져옴
+    private Set<Long> findLikedCommentIds(List<Comment> comments, Long currentUserId) {
+        return likeQueryService.findLiked(LikeTarget.COMMENT, currentUserId,
+            comments.stream().map(Comment::getCommentId).toList());
+    }
+
+    private Set<Long> findLikedReplyIds(List<Comment> comments, Long currentUserId) {
+        return likeQueryService.findLiked(LikeTarget.REPLY, currentUserId,
+            comments.stream()
+                .flatMap(comment -> comment.getReplyList().stream())
+                .map(Reply::getReplyId)
+                .toList());
+    }
+
     //프로필 이미지 response convert
     private String getProfileImageUrl(User user) {
         return Optional.ofNullable(user.getProfile())
@@ -0,0 +1,166 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.dao.PendingUploadDao;
+import com.fluffytime.domain.board.dto.PendingUpload;
+import com.fluffytime.domain.board.dto.request.UploadCompleteRequest;
+import com.fluffytime.domain.board.dto.request.UploadUrlRequest;
+import com.fluffytime.domain.board.dto.response.UploadUrlResponse;
+import com.fluffytime.domain.board.exception.FileSizeExceeded;
+import com.fluffytime.domain.board.exception.TooManyFiles;
+import com.fluffytime.domain.board.exception.UnsupportedFileFormat;
+import com.fluffytime.domain.board.exception.UploadNotVerified;
+import com.fluffytime.domain.board.service.PostMediaService.UploadedMedia;
+import com.fluffytime.global.config.aws.S3Service;
+import com.fluffytime.global.config.storage.MediaTypes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+// 클라이언트가 서버를 거치지 않고 S3에 직접 업로드하도록 서명 URL 을 발급하고,
+// 게시글 등록 시 업로드된 파일을 HEAD 요청으로 확인함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.storage.type", havingValue = "s3", matchIfMissing = true)
+public class DirectUploadService {
+
+    // 이보다 큰 파일은 멀티파트로 업로드 (20MB)
+    private static final long MULTIPART_THRESHOLD = 4L * S3Service.PART_SIZE;
+    private static final long MAX_FILE_SIZE = 104857600; // 모든 파일에 대해 최대 100MB로 설정
+    private static final int MAX_FILE_COUNT = 10;
+
+    private final S3Service s3Service;
+    private final PendingUploadDao pendingUploadDao;
+
+    // 업로드 URL 발급
+    public UploadUrlResponse createUploadUrl(Long userId, UploadUrlRequest request) {
+        if (!MediaTypes.isAllowed(request.getContentType())) {
+            throw new UnsupportedFileFormat();
+        }
+        if (request.getSize() <= 0 || request.getSize() > MAX_FILE_SIZE) {
+            throw new FileSizeExceeded();
+        }
+
+        String key = s3Service.createFileName(request.getFilename());
+
+        if (request.getSize() <= MULTIPART_THRESHOLD) {
+            String uploadUrl = s3Service.presignPutObject(key, request.getContentType(),
+                request.getSize());
+            pendingUploadDao.savePendingUpload(key,
+                new PendingUpload(userId, request.getContentType(), request.getSize(), null));
+            return UploadUrlResponse.single(key, uploadUrl);
+        }
+
+        String uploadId = s3Service.createMultipartUpload(key, request.getContentType());
+        List<String> partUrls = s3Service.presignUploadParts(key, uploadId, request.getSize());
+        pendingUploadDao.savePendingUpload(key,
+            new PendingUpload(userId, request.getContentType(), request.getSize(), uploadId));
+        return UploadUrlResponse.multipart(key, uploadId, S3Service.PART_SIZE, partUrls);
+    }
+
+    // 멀티파트 업로드 완료 (클라이언트가 받은 파트별 ETag 로 파일을 합침)
+    public void completeUpload(Long userId, UploadCompleteRequest request) {
+        PendingUpload pendingUpload = getOwnPendingUpload(userId, request.getKey());
+        if (pendingUpload.getUploadId() == null
+            || !pendingUpload.getUploadId().equals(request.getUploadId())
+            || request.getParts() == null || request.getParts().isEmpty()) {
+            throw new UploadNotVerified();
+        }
+
+        List<CompletedPart> parts = request.getParts().stream()
+            .sorted(Comparator.comparingInt(UploadCompleteRequest.Part::getPartNumber))
+            .map(part -> CompletedPart.builder()
+                .partNumber(part.getPartNumber())
+                .eTag(part.getEtag())
+                .build())
+            .toList();
+        s3Service.completeMultipartUpload(request.getKey(), request.getUploadId(), parts);
+    }
+
+    // 게시글에 연결할 파일들을 확인 (같은 키는 한 번만)
+    // 본인이 발급받은 키인지, 실제로 올라왔는지, 신고한 형식/크기와 같은지 확인함
+    // S3 HEAD 요청이 DB 커넥션을 잡고 기다리지 않도록 게시글 저장 트랜잭션 전에 호출함
+    public List<UploadedMedia> verifyUploads(Long userId, List<String> keys) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (distinct.size() > MAX_FILE_COUNT) {
+            throw new TooManyFiles();
+        }
+
+        List<UploadedMedia> uploaded = new ArrayList<>(distinct.size());
+        for (String key : distinct) {
+            PendingUpload pendingUpload = getOwnPendingUpload(userId, key);
+            HeadObjectResponse head = s3Service.findFile(key)
+                .orElseThrow(UploadNotVerified::new);
+
+            if (head.contentLength() != pendingUpload.getSize()
+                || !pendingUpload.getContentType().equals(head.contentType())) {
+                log.warn("업로드된 파일이 신고한 정보와 다름: {}", key);
+                throw new UploadNotVerified();
+            }
+
+            uploaded.add(new UploadedMedia(key, s3Service.getFileUrl(key),
+                head.contentLength(), head.contentType()));
+        }
+        return uploaded;
+    }
+
+    // 확인한 파일의 업로드 대기 정보를 가져가 같은 파일을 다른 게시글에 다시 연결하지 못하도록 함
+    // 대기 정보는 GETDEL 로 가져가므로 같은 키로 동시에 등록해도 한 요청만 성공함
+    // 게시글 저장 트랜잭션이 롤백되면 가져간 대기 정보를 되돌려 같은 파일로 다시 등록할 수 있음
+    public void claimUploads(Long userId, List<UploadedMedia> uploads) {
+        Map<String, PendingUpload> claimed = new LinkedHashMap<>();
+        boolean restoreOnRollback = TransactionSynchronizationManager.isSynchronizationActive();
+        if (restoreOnRollback) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            restore(claimed);
+                        }
+                    }
+                });
+        }
+
+        try {
+            for (UploadedMedia media : uploads) {
+                String key = media.getFilename();
+                PendingUpload pendingUpload = pendingUploadDao.claimPendingUpload(key)
+                    .orElseThrow(UploadNotVerified::new);
+                claimed.put(key, pendingUpload);
+                if (!pendingUpload.getUserId().equals(userId)) {
+                    throw new UploadNotVerified();
+                }
+            }
+        } catch (RuntimeException e) {
+            if (!restoreOnRollback) {
+                restore(claimed);
+            }
+            throw e;
+        }
+    }
+
+    private void restore(Map<String, PendingUpload> claimed) {
+        claimed.forEach(pendingUploadDao::savePendingUpload);
+    }
+
+    private PendingUpload getOwnPendingUpload(Long userId, String key) {
+        PendingUpload pendingUpload = key == null ? null
+            : pendingUploadDao.getPendingUpload(key).orElse(null);
+        if (pendingUpload == null || !pendingUpload.getUserId().equals(userId)) {
+            throw new UploadNotVerified();
+        }
+        return pendingUpload;
+    }
+}
@@ -0,0 +1,99 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.repository.CommentRepository;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.board.repository.ReplyRepository;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// 게시물/댓글/답글 행에 저장한 좋아요/댓글/답글/북마크 수 보정
+// 증감 쿼리는 항상 같은 트랜잭션에서 실행되지만, 직접 수정한 데이터나 연관 행의 일괄 삭제로 어긋난 수를
+// ID 범위별로 나눠 실제 행 수로 다시 계산함 (범위마다 짧은 트랜잭션이라 잠금이 오래 잡히지 않음)
+// 여러 인스턴스가 같은 시각에 실행해도 MySQL 이름 잠금을 잡은 한 곳에서만 보정함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EngagementCountRepairService {
+
+    private static final String LOCK_NAME = "fluffytime.engagement_count_repair";
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 번에 다시 계산하는 ID 범위
+    @Value("${engagement.count.repair-batch-size:1000}")
+    private int batchSize;
+
+    // 시작할 때 한 번 보정 (수 컬럼이 새로 추가되어 0으로 채워진 기존 행을 바로잡음)
+    // 전체 행을 다시 계산하므로 컬럼을 추가하는 배포에서만 켬
+    @Value("${engagement.count.repair-on-startup:false}")
+    private boolean repairOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (repairOnStartup) {
+            repair();
+        }
+    }
+
+    @Scheduled(cron = "${engagement.count.repair-cron:0 30 4 * * *}")
+    public void repair() {
+        // 이름 잠금은 잡은 연결에 묶이므로 같은 연결에서 풀고, 연결이 끊기면 MySQL 이 자동으로 풂
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!namedLock(connection, "SELECT GET_LOCK(?, 0)")) {
+                log.info("다른 인스턴스에서 수 보정 중, 건너뜀");
+                return null;
+            }
+            try {
+                repair("게시물", postRepository::findMaxPostId, postRepository::repairCounts);
+                repair("댓글", commentRepository::findMaxCommentId, commentRepository::repairCounts);
+                repair("답글", replyRepository::findMaxReplyId, replyRepository::repairCounts);
+            } finally {
+                namedLock(connection, "SELECT RELEASE_LOCK(?)");
+            }
+            return null;
+        });
+    }
+
+    private boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void repair(String name, LongSupplier maxId, RangeRepair rangeRepair) {
+        try {
+            long max = maxId.getAsLong();
+            int updated = 0;
+            for (long fromId = 0; fromId < max; fromId += batchSize) {
+                updated += rangeRepair.repair(fromId, Math.min(fromId + batchSize, max));
+            }
+            log.info("{} 수 보정 완료, 대상 행 수: {}", name, updated);
+        } catch (Exception e) {
+            log.warn("{} 수 보정 실패", name, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeRepair {
+
+        int repair(long fromId, long toId);
+    }
+}
@@ -0,0 +1,350 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.entity.PostImages;
+import com.fluffytime.domain.board.event.PostImagesAddedEvent;
+import com.fluffytime.domain.board.repository.PostImagesRepository;
+import com.fluffytime.global.config.storage.MediaStorage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.w3c.dom.Node;
+
+// 게시글 사진 축소본 생성
+// 커밋 후 백그라운드에서 원본을 내려받아 너비별 축소본(150/640/1080px)과 흐린 미리보기를 만들어 저장함
+// 다시 인코딩하므로 축소본에는 EXIF(촬영 위치 등) 메타데이터가 남지 않음
+// 그래서 EXIF 방향(Orientation)은 축소하기 전에 픽셀에 직접 적용함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private static final int THUMBNAIL_WIDTH = 150;
+    private static final int MEDIUM_WIDTH = 640;
+    private static final int LARGE_WIDTH = 1080;
+    private static final int PLACEHOLDER_WIDTH = 16;
+
+    private static final float QUALITY = 0.8f;
+    private static final float PLACEHOLDER_QUALITY = 0.5f;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER = "225";
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private final MediaStorage mediaStorage;
+    private final PostImagesRepository postImagesRepository;
+    private final PostMediaService postMediaService;
+
+    // 동시에 처리하는 게시글 수 (원본을 통째로 디코딩하므로 작게 유지)
+    @Value("${media.derivatives.pool-size:2}")
+    private int poolSize;
+
+    // 대기 중인 작업 수 한도 (넘으면 축소본 없이 원본을 그대로 사용)
+    @Value("${media.derivatives.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 디코딩하는 최대 화소 수 (작은 파일이 거대한 이미지로 풀리는 압축 폭탄 방지)
+    @Value("${media.derivatives.max-pixels:50000000}")
+    private long maxPixels;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, pool) -> log.warn("축소본 생성 대기열이 가득 차 건너뜀"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 커밋 후 백그라운드에서 축소본 생성
+    @TransactionalEventListener
+    public void onPostImagesAdded(PostImagesAddedEvent event) {
+        executor.execute(() -> createDerivatives(event.getPostId()));
+    }
+
+    private void createDerivatives(Long postId) {
+        List<PostImages> images = postImagesRepository.findAllByPost_PostId(postId).stream()
+            .filter(image -> image.getMimetype().startsWith("image/"))
+            .filter(image -> image.getThumbnailPath() == null)
+            .toList();
+
+        for (PostImages image : images) {
+            try {
+                createDerivatives(image);
+            } catch (Exception e) {
+                // 축소본이 없어도 원본으로 보여줄 수 있으므로 실패는 기록만 함
+                log.warn("축소본 생성 실패, 이미지 ID: {}", image.getImageId(), e);
+            }
+        }
+    }
+
+    private void createDerivatives(PostImages image) throws IOException {
+        // 중복 제거로 같은 파일을 가리키는 사진이 이미 축소본을 만들어 두었으면 그대로 사용
+        PostImages processed = postImagesRepository
+            .findFirstByFilenameAndThumbnailPathIsNotNull(image.getFilename()).orElse(null);
+        if (processed != null) {
+            postMediaService.saveDerivatives(image.getImageId(), processed.getThumbnailPath(),
+                processed.getMediumPath(), processed.getLargePath(), processed.getPlaceholder());
+            return;
+        }
+
+        BufferedImage original = read(image);
+        if (original == null) {
+            return;
+        }
+
+        // 원본보다 큰 축소본은 만들지 않고 원본 너비로 맞춤 (같은 너비면 앞서 만든 파일을 그대로 사용)
+        String thumbnailPath = upload(image, THUMBNAIL_WIDTH, resize(original, THUMBNAIL_WIDTH));
+        String mediumPath = original.getWidth() > THUMBNAIL_WIDTH
+            ? upload(image, MEDIUM_WIDTH, resize(original, MEDIUM_WIDTH)) : thumbnailPath;
+        String largePath = original.getWidth() > MEDIUM_WIDTH
+            ? upload(image, LARGE_WIDTH, resize(original, LARGE_WIDTH)) : mediumPath;
+
+        String placeholder = "data:image/jpeg;base64," + Base64.getEncoder()
+            .encodeToString(encode(resize(original, PLACEHOLDER_WIDTH), PLACEHOLDER_QUALITY));
+
+        postMediaService.saveDerivatives(image.getImageId(), thumbnailPath, mediumPath, largePath,
+            placeholder);
+        log.info("축소본 생성 완료, 이미지 ID: {}", image.getImageId());
+    }
+
+    // 원본을 디코딩하고 EXIF 방향대로 돌림 (읽지 못하는 형식이거나 너무 큰 사진이면 null)
+    // 픽셀을 디코딩하기 전에 헤더의 크기부터 확인하고,
+    // 가장 큰 축소본의 두 배보다 훨씬 큰 사진은 건너뛰며 읽어(subsampling) 메모리 사용을 줄임
+    private BufferedImage read(PostImages image) throws IOException {
+        try (InputStream inputStream = mediaStorage.downloadFile(image.getFilename());
+            ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? Collections.emptyIterator()
+                : ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                // ImageIO 가 읽지 못하는 형식 (webp, avif)
+                log.info("축소본을 만들 수 없는 형식, 이미지 ID: {}, 형식: {}", image.getImageId(),
+                    image.getMimetype());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("사진이 너무 커서 축소본을 만들지 않음, 이미지 ID: {}, 크기: {}x{}",
+                        image.getImageId(), width, height);
+                    return null;
+                }
+
+                int orientation = orientation(reader);
+                // 90도 돌아가는 방향이면 세로 길이가 화면에 보이는 너비가 됨
+                int displayWidth = orientation >= 5 ? height : width;
+                int subsampling = Math.max(1, displayWidth / (LARGE_WIDTH * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return orient(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG 의 EXIF 방향 값 (1~8, 없거나 읽을 수 없으면 1)
+    private int orientation(ImageReader reader) throws IOException {
+        IIOMetadata metadata = reader.getImageMetadata(0);
+        if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames())
+            .contains(JPEG_METADATA_FORMAT)) {
+            return 1;
+        }
+
+        Node markers = ((IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT))
+            .getElementsByTagName("markerSequence").item(0);
+        if (markers == null) {
+            return 1;
+        }
+        for (Node marker = markers.getFirstChild(); marker != null;
+            marker = marker.getNextSibling()) {
+            Node tag = marker.getAttributes().getNamedItem("MarkerTag");
+            if (tag != null && APP1_MARKER.equals(tag.getNodeValue())
+                && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] data) {
+                int orientation = exifOrientation(data);
+                if (orientation != 0) {
+                    return orientation;
+                }
+            }
+        }
+        return 1;
+    }
+
+    // APP1 세그먼트("Exif\0\0" + TIFF)의 첫 번째 IFD 에서 방향 태그를 찾음 (Exif 가 아니면 0)
+    private static int exifOrientation(byte[] data) {
+        if (data.length < 14 || data[0] != 'E' || data[1] != 'x' || data[2] != 'i'
+            || data[3] != 'f' || data[4] != 0 || data[5] != 0) {
+            return 0;
+        }
+
+        ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return 1;
+        }
+
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd > tiff.limit() - 2) {
+            return 1;
+        }
+        int count = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry > tiff.limit() - 12) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    // EXIF 방향대로 돌리거나 뒤집어 화면에 보이는 방향의 이미지를 만듦
+    private BufferedImage orient(BufferedImage source, int orientation) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 뒤집기
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 뒤집기
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 대각선 뒤집기
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 반대 대각선 뒤집기
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90도
+            default -> null;
+        };
+        if (transform == null) {
+            return source;
+        }
+
+        boolean rotated = orientation >= 5;
+        BufferedImage target = new BufferedImage(rotated ? height : width,
+            rotated ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private String upload(PostImages image, int width, BufferedImage resized) throws IOException {
+        String fileName = derivativeFileName(image.getFilename(), width);
+        mediaStorage.uploadBytes(fileName, "image/jpeg", encode(resized, QUALITY));
+        return mediaStorage.getFileUrl(fileName);
+    }
+
+    // 원본 파일 이름으로 축소본 파일 이름을 알 수 있도록 함 (원본 삭제 시 함께 삭제)
+    public static List<String> derivativeFileNames(String fileName) {
+        return List.of(derivativeFileName(fileName, THUMBNAIL_WIDTH),
+            derivativeFileName(fileName, MEDIUM_WIDTH),
+            derivativeFileName(fileName, LARGE_WIDTH));
+    }
+
+    private static String derivativeFileName(String fileName, int width) {
+        return fileName + "_w" + width + ".jpg";
+    }
+
+    // 너비를 width 로 줄임 (원본이 더 작으면 원본 크기 그대로)
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춤
+    private BufferedImage resize(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1,
+            (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(currentWidth / 2, targetWidth);
+            currentHeight = Math.max(currentHeight / 2, targetHeight);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    // JPEG 은 투명도를 지원하지 않으므로 흰 배경 위에 그림
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
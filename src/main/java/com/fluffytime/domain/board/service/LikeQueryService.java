@@ -0,0 +1,60 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
+import com.fluffytime.domain.board.repository.CommentLikeRepository;
+import com.fluffytime.domain.board.repository.CommentRepository;
+import com.fluffytime.domain.board.repository.PostLikeRepository;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.board.repository.ReplyLikeRepository;
+import com.fluffytime.domain.board.repository.ReplyRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 좋아요 수 / 좋아요 여부 조회 (COUNT 조회 없음)
+// 좋아요 수는 게시물/댓글/답글 행의 like_count 를 좋아요 행과 같은 트랜잭션에서 증감하므로 기본 키로 바로 읽고,
+// 좋아요 여부는 (대상 ID, 사용자 ID) 유니크 인덱스로 확인함
+// 목록, 단건 조회, 좋아요 응답이 모두 같은 MySQL 값을 읽으므로 서로 어긋나지 않음
+@Service
+@RequiredArgsConstructor
+public class LikeQueryService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final ReplyLikeRepository replyLikeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+
+    // 현재 좋아요 수 (좋아요를 저장/삭제한 트랜잭션 안에서 부르면 방금 반영한 수)
+    public int getCount(LikeTarget target, Long id) {
+        List<Object[]> rows = switch (target) {
+            case POST -> postRepository.findLikeCounts(List.of(id));
+            case COMMENT -> commentRepository.findLikeCounts(List.of(id));
+            case REPLY -> replyRepository.findLikeCounts(List.of(id));
+        };
+        return rows.isEmpty() ? 0 : (Integer) rows.get(0)[1];
+    }
+
+    public boolean isLiked(LikeTarget target, Long id, Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        return !findLiked(target, userId, List.of(id)).isEmpty();
+    }
+
+    // 주어진 대상 중 사용자가 좋아요를 누른 대상 ID (목록은 한 번의 IN 쿼리로 확인)
+    public Set<Long> findLiked(LikeTarget target, Long userId, Collection<Long> ids) {
+        if (userId == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(switch (target) {
+            case POST -> postLikeRepository.findLikedPostIdsIn(userId, ids);
+            case COMMENT -> commentLikeRepository.findLikedCommentIdsIn(userId, ids);
+            case REPLY -> replyLikeRepository.findLikedReplyIdsIn(userId, ids);
+        });
+    }
+}
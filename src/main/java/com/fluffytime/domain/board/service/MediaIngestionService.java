@@ -0,0 +1,247 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.MediaIngestionRequestedEvent;
+import com.fluffytime.domain.board.event.MediaIngestionRequestedEvent.SpooledMedia;
+import com.fluffytime.domain.board.exception.FileUploadFailed;
+import com.fluffytime.domain.board.exception.MediaIngestionBusy;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.board.service.PostMediaService.UploadedMedia;
+import com.fluffytime.global.config.storage.MediaStorage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+// 게시글 첨부 파일 비동기 업로드
+// 요청 스레드에서는 파일을 로컬 디스크로 옮겨 두기만 하고,
+// 커밋 후 크기가 제한된 백그라운드 풀에서 S3 업로드 → 게시글에 첨부함
+// 풀과 대기열이 모두 차면 요청 스레드에서 업로드하지 않고 503 으로 거절함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaIngestionService {
+
+    private final MediaStorage mediaStorage;
+    private final MediaObjectService mediaObjectService;
+    private final PostMediaService postMediaService;
+    private final PostRepository postRepository;
+
+    // 업로드 파일을 임시로 옮겨 둘 디렉토리
+    @Value("${media.ingestion.spool-dir:${java.io.tmpdir}/fluffytime-media}")
+    private String spoolDir;
+
+    // 동시에 업로드하는 게시글 수
+    @Value("${media.ingestion.pool-size:4}")
+    private int poolSize;
+
+    // 대기 중인 업로드 작업 수 한도 (넘으면 503 으로 거절)
+    @Value("${media.ingestion.queue-capacity:50}")
+    private int queueCapacity;
+
+    // 이 시간 넘게 업로드 중으로 남은 게시물은 실패 처리
+    @Value("${media.ingestion.stale-after-minutes:60}")
+    private long staleAfterMinutes;
+
+    private ThreadPoolExecutor executor;
+
+    // 파일을 옮긴 뒤 업로드가 끝날 때까지(커밋 대기 포함) 자리를 잡아 두어
+    // 커밋 후 풀에 넣을 때 대기열이 차서 거절되는 일이 없도록 함
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(Path.of(spoolDir));
+
+        permits = new Semaphore(poolSize + queueCapacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "media-ingestion-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+            // 시작하지 못한 작업은 게시물을 실패 상태로 바꾸고 옮겨 둔 파일을 지움 (작성자가 다시 올릴 수 있음)
+            // 진행 중인 작업은 중단되면서 ingest 에서 같은 처리를 함
+            List<Runnable> pending = executor.shutdownNow();
+            log.warn("미디어 업로드 작업이 끝나지 않은 채 종료됨, 시작하지 못한 작업 수: {}", pending.size());
+            for (Runnable runnable : pending) {
+                abandon(((IngestionTask) runnable).event);
+            }
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 업로드 파일을 로컬 디스크로 옮김 (요청이 끝나면 원본 임시 파일이 삭제되므로)
+    // 업로드 자리가 없으면 파일을 옮기기 전에 503 으로 거절
+    public List<SpooledMedia> spool(MultipartFile[] files) {
+        if (!permits.tryAcquire()) {
+            throw new MediaIngestionBusy();
+        }
+        List<SpooledMedia> spooled = new ArrayList<>();
+        try {
+            for (MultipartFile file : files) {
+                Path path = Files.createTempFile(Path.of(spoolDir), "upload-", ".tmp");
+                // 옮기면서 내용 해시를 같이 계산 (중복 파일이면 업로드를 건너뜀)
+                MessageDigest digest = MediaObjectService.newDigest();
+                try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                    Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+                spooled.add(new SpooledMedia(path, file.getOriginalFilename(), file.getContentType(),
+                    file.getSize(), MediaObjectService.toHex(digest)));
+            }
+            return spooled;
+        } catch (IOException e) {
+            log.error("업로드 파일 임시 저장 실패", e);
+            deleteSpooled(spooled);
+            permits.release();
+            throw new FileUploadFailed();
+        } catch (RuntimeException e) {
+            deleteSpooled(spooled);
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 커밋 후 백그라운드 업로드 시작
+    @TransactionalEventListener
+    // 자리를 미리 잡아 두었으므로 종료 중일 때만 거절됨 (커밋 후라 예외를 던지지 않고 실패 처리)
+    public void onMediaIngestionRequested(MediaIngestionRequestedEvent event) {
+        try {
+            executor.execute(new IngestionTask(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("미디어 업로드 작업을 시작하지 못함, ID: {}", event.getPostId());
+            abandon(event);
+        }
+    }
+
+    // 게시글 저장이 롤백되면 옮겨 둔 파일 삭제
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onMediaIngestionRolledBack(MediaIngestionRequestedEvent event) {
+        deleteSpooled(event.getFiles());
+        permits.release();
+    }
+
+    // 업로드 중으로 오래 남은 게시물을 실패 처리하고 남은 임시 파일을 지움
+    // 업로드 도중 서버가 종료되면 게시물이 계속 업로드 중으로 남으므로 시작할 때와 주기적으로 확인함
+    // (다른 서버가 처리 중인 게시물은 건드리지 않도록 오래된 것만 정리)
+    @Scheduled(initialDelay = 0, fixedDelayString = "${media.ingestion.sweep-interval-ms:600000}")
+    public void sweepStale() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(staleAfterMinutes);
+        List<Long> postIds = postRepository.findIdsByTempStatusAndUpdatedBefore(
+            TempStatus.PROCESSING, before);
+        for (Long postId : postIds) {
+            postMediaService.fail(postId);
+        }
+        if (!postIds.isEmpty()) {
+            log.warn("업로드 중으로 남은 게시물 실패 처리, 게시물 수: {}", postIds.size());
+        }
+
+        Instant spooledBefore = before.atZone(ZoneId.systemDefault()).toInstant();
+        try (Stream<Path> paths = Files.list(Path.of(spoolDir))) {
+            paths.forEach(path -> {
+                try {
+                    if (Files.getLastModifiedTime(path).toInstant().isBefore(spooledBefore)) {
+                        Files.deleteIfExists(path);
+                    }
+                } catch (IOException e) {
+                    log.warn("오래된 임시 업로드 파일 삭제 실패: {}", path, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("임시 업로드 디렉토리 확인 실패: {}", spoolDir, e);
+        }
+    }
+
+    private void ingest(MediaIngestionRequestedEvent event) {
+        try {
+            // 파일들을 동시에 업로드 (하나라도 실패하면 나머지는 중단되고 올라간 파일은 삭제됨)
+            List<SpooledMedia> files = event.getFiles();
+            List<String> fileNames = mediaObjectService.uploadAll(files, mediaObjectService::source);
+
+            List<UploadedMedia> uploaded = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                uploaded.add(new UploadedMedia(fileNames.get(i), mediaStorage.getFileUrl(fileNames.get(i)),
+                    files.get(i).getSize(), files.get(i).getContentType()));
+            }
+            postMediaService.complete(event.getPostId(), uploaded);
+            log.info("게시물 첨부 파일 업로드 완료, ID: {}, 파일 수: {}", event.getPostId(), uploaded.size());
+        } catch (Exception e) {
+            log.error("게시물 첨부 파일 업로드 실패, ID: {}", event.getPostId(), e);
+            postMediaService.fail(event.getPostId());
+        } finally {
+            deleteSpooled(event.getFiles());
+            permits.release();
+        }
+    }
+
+    // 시작하지 못한 업로드 작업 정리
+    private void abandon(MediaIngestionRequestedEvent event) {
+        try {
+            postMediaService.fail(event.getPostId());
+        } catch (Exception e) {
+            log.error("게시물 업로드 실패 처리 실패, ID: {}", event.getPostId(), e);
+        } finally {
+            deleteSpooled(event.getFiles());
+            permits.release();
+        }
+    }
+
+    private void deleteSpooled(List<SpooledMedia> files) {
+        for (SpooledMedia file : files) {
+            try {
+                Files.deleteIfExists(file.getPath());
+            } catch (IOException e) {
+                log.warn("임시 업로드 파일 삭제 실패: {}", file.getPath(), e);
+            }
+        }
+    }
+
+    // 종료 시 대기열에 남은 작업의 게시물을 찾을 수 있도록 이벤트를 들고 있는 작업
+    private class IngestionTask implements Runnable {
+
+        private final MediaIngestionRequestedEvent event;
+
+        private IngestionTask(MediaIngestionRequestedEvent event) {
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+            ingest(event);
+        }
+    }
+}
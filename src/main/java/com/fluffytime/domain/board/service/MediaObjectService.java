@@ -0,0 +1,246 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.event.MediaIngestionRequestedEvent.SpooledMedia;
+import com.fluffytime.domain.board.event.MediaReleasedEvent;
+import com.fluffytime.domain.board.exception.FileUploadFailed;
+import com.fluffytime.domain.board.repository.MediaObjectRepository;
+import com.fluffytime.global.config.storage.MediaStorage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+// 내용이 같은 파일은 저장소에 한 번만 올리고 여러 게시물 사진/프로필 사진이 같은 파일을 가리키도록 함
+// 파일 내용의 SHA-256 으로 기존 파일을 찾고, 참조 수가 0이 되면 저장소에서 삭제함
+// 참조 수는 사진 행을 저장/삭제하는 트랜잭션 안에서 바꾸고(없으면 짧은 트랜잭션을 새로 엶),
+// 동시에 올리는 업로드 스레드는 저장소에만 접근하므로 요청 하나가 DB 커넥션을 더 잡지 않음
+// 공유되는 파일이므로 저장소 파일 이름은 처음 올린 사람의 파일 이름 대신 내용 해시로 만듦
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaObjectService {
+
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("[A-Za-z0-9]{1,8}");
+
+    private final MediaStorage mediaStorage;
+    private final MediaObjectRepository mediaObjectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 저장할 파일 (내용 해시와, 주어진 이름으로 저장소에 올리는 방법)
+    @Getter
+    @AllArgsConstructor
+    public static class MediaSource {
+
+        private String contentHash;
+        private long size;
+        private String contentType;
+        private String extension;
+        private Function<String, String> upload;
+    }
+
+    // 업로드 파일 저장 후 저장된 파일 이름 반환 (같은 내용의 파일이 있으면 업로드하지 않음)
+    public String upload(MultipartFile file) {
+        return uploadAll(List.of(file), this::source).get(0);
+    }
+
+    public MediaSource source(MultipartFile file) {
+        String contentHash;
+        try (InputStream inputStream = file.getInputStream()) {
+            contentHash = sha256(inputStream);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", file.getOriginalFilename(), e);
+            throw new FileUploadFailed();
+        }
+        return new MediaSource(contentHash, file.getSize(), file.getContentType(),
+            extension(file.getOriginalFilename()), name -> mediaStorage.uploadFile(file, name));
+    }
+
+    // 로컬 디스크에 옮겨 둔 파일 (해시는 옮기면서 계산해 둠)
+    public MediaSource source(SpooledMedia file) {
+        return new MediaSource(file.getContentHash(), file.getSize(), file.getContentType(),
+            extension(file.getOriginalFilename()),
+            name -> mediaStorage.uploadFile(file.getPath(), name, file.getContentType()));
+    }
+
+    // 여러 파일을 저장하고 입력 순서대로 파일 이름 반환
+    // 1. 이미 있는 내용을 한 번에 조회 2. 없는 내용만 동시에 업로드 (DB 접근 없음) 3. 참조 수 반영
+    // 업로드가 실패하면 이미 올라간 파일을 지우고, 참조 수를 반영한 트랜잭션이 롤백되면 새로 올린 파일을 지움
+    public <T> List<String> uploadAll(List<T> files, Function<T, MediaSource> toSource) {
+        List<MediaSource> sources = files.stream().map(toSource).toList();
+
+        Map<String, String> existing = new HashMap<>();
+        mediaObjectRepository.findAllById(
+                sources.stream().map(MediaSource::getContentHash).distinct().toList())
+            .forEach(mediaObject ->
+                existing.put(mediaObject.getContentHash(), mediaObject.getFileName()));
+
+        // 같은 요청 안에서 내용이 같은 파일은 한 번만 올림
+        Map<String, MediaSource> missing = new LinkedHashMap<>();
+        sources.stream()
+            .filter(source -> !existing.containsKey(source.getContentHash()))
+            .forEach(source -> missing.putIfAbsent(source.getContentHash(), source));
+        List<MediaSource> toUpload = new ArrayList<>(missing.values());
+        List<String> uploadedNames = mediaStorage.uploadAll(toUpload,
+            source -> source.getUpload().apply(storedName(source)));
+
+        Map<String, String> uploaded = new HashMap<>();
+        for (int i = 0; i < toUpload.size(); i++) {
+            uploaded.put(toUpload.get(i).getContentHash(), uploadedNames.get(i));
+        }
+        return transactionTemplate.execute(status -> register(sources, existing, uploaded));
+    }
+
+    // 파일마다 참조 수를 늘리거나 새로 올린 파일을 등록하고 가리킬 파일 이름 반환
+    private List<String> register(List<MediaSource> sources, Map<String, String> existing,
+        Map<String, String> uploaded) {
+        // 이 트랜잭션이 롤백되면 새로 올린 파일은 아무도 가리키지 않으므로 삭제
+        Set<String> ownFiles = new HashSet<>(uploaded.values());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    ownFiles.forEach(mediaStorage::deleteFile);
+                }
+            }
+        });
+
+        Map<String, String> registered = new HashMap<>();
+        List<String> fileNames = new ArrayList<>(sources.size());
+        for (MediaSource source : sources) {
+            String contentHash = source.getContentHash();
+
+            // 이 트랜잭션에서 이미 등록/참조한 내용이면 (행을 잠그고 있으므로) 참조 수만 늘림
+            String fileName = registered.get(contentHash);
+            if (fileName != null) {
+                mediaObjectRepository.incrementRefCount(contentHash);
+                fileNames.add(fileName);
+                continue;
+            }
+
+            // 같은 내용의 파일이 있으면 참조 수만 늘림 (조회한 뒤 그 사이 삭제되었으면 0)
+            fileName = existing.get(contentHash);
+            if (fileName == null || mediaObjectRepository.incrementRefCount(contentHash) == 0) {
+                fileName = insert(source, uploaded, ownFiles);
+            } else {
+                log.info("중복 파일 재사용: {}", fileName);
+            }
+            registered.put(contentHash, fileName);
+            fileNames.add(fileName);
+        }
+        return fileNames;
+    }
+
+    // 새로 올린 파일 등록
+    // 동시에 같은 내용이 올라와 다른 쪽이 먼저 등록했다면 방금 올린 파일은 지우고 그 파일을 사용
+    private String insert(MediaSource source, Map<String, String> uploaded,
+        Set<String> ownFiles) {
+        String contentHash = source.getContentHash();
+        String fileName = uploaded.get(contentHash);
+        if (fileName == null) {
+            fileName = source.getUpload().apply(storedName(source));
+            ownFiles.add(fileName);
+        }
+
+        mediaObjectRepository.insertOrIncrement(contentHash, fileName, source.getSize(),
+            source.getContentType());
+        String registered = mediaObjectRepository.findFileNameByContentHash(contentHash)
+            .orElse(fileName);
+        if (!registered.equals(fileName)) {
+            ownFiles.remove(fileName);
+            mediaStorage.deleteFile(fileName);
+        }
+        return registered;
+    }
+
+    // 참조 수를 줄이고 더 이상 가리키는 곳이 없으면 저장된 파일(과 사진 축소본)을 커밋 후 삭제
+    // 색인에 없는 파일(중복 제거 이전에 올라간 파일, 직접 업로드한 파일)은 그대로 둠
+    public void release(List<String> fileNames) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> unreferenced = new ArrayList<>();
+            for (String fileName : fileNames) {
+                if (mediaObjectRepository.decrementRefCount(fileName) > 0
+                    && mediaObjectRepository.deleteIfUnreferenced(fileName) > 0) {
+                    unreferenced.add(fileName);
+                }
+            }
+            if (unreferenced.isEmpty()) {
+                return;
+            }
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        unreferenced.forEach(fileName -> {
+                            mediaStorage.deleteFile(fileName);
+                            ImageDerivativeService.derivativeFileNames(fileName)
+                                .forEach(mediaStorage::deleteFile);
+                        });
+                    }
+                });
+        });
+    }
+
+    // 게시물/프로필 사진을 삭제하는 트랜잭션 안에서 참조 해제 (같이 롤백됨)
+    @EventListener
+    public void onMediaReleased(MediaReleasedEvent event) {
+        release(event.getFileNames());
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 저장소 파일 이름: 내용 해시 + 원본 확장자
+    private String storedName(MediaSource source) {
+        return source.getExtension() == null ? source.getContentHash()
+            : source.getContentHash() + "." + source.getExtension();
+    }
+
+    private String extension(String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        if (extension == null || !SAFE_EXTENSION.matcher(extension).matches()) {
+            return null;
+        }
+        return extension.toLowerCase(Locale.ROOT);
+    }
+
+    private String sha256(InputStream inputStream) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest);
+    }
+}
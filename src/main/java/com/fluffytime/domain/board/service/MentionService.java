@@ -17,8 +17,13 @@ import com.fluffytime.global.common.exception.global.CommentNotFound;
 import com.fluffytime.global.common.exception.global.PostNotFound;
 import com.fluffytime.global.common.exception.global.ReplyNotFound;
 import com.fluffytime.global.common.exception.global.UserNotFound;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -68,11 +73,21 @@ public class MentionService {
         Mention lastMention = null; // 마지막으로 생성된 멘션을 저장하기 위한 변수
         boolean mentionCreated = false; // 멘션 생성 여부를 체크하는 변수
 
+        List<String> nicknames = new ArrayList<>();
         while (matcher.find()) {
-            String nickname = matcher.group(1);
+            nicknames.add(matcher.group(1));
+        }
+
+        // 멘션된 사용자는 한 번에 조회하고, 멘션/알림은 모아서 저장 (배치 insert)
+        Map<String, User> mentionedUsers = userRepository.findAllByNicknameIn(nicknames).stream()
+            .collect(Collectors.toMap(User::getNickname, Function.identity()));
+
+        for (String nickname : nicknames) {
             log.info("Found mention nickname: {}", nickname); // 추가 로그 출력
-            User mentionedUser = userRepository.findByNickname(nickname)
-                .orElseThrow(UserNotFound::new);
+            User mentionedUser = mentionedUsers.get(nickname);
+            if (mentionedUser == null) {
+                throw new UserNotFound();
+            }
 
             Mention mention = Mention.builder()
                 .post(post)
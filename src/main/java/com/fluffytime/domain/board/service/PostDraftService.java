@@ -0,0 +1,163 @@
+package com.fluffytime.domain.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluffytime.domain.board.dao.PostDraftDao;
+import com.fluffytime.domain.board.dto.PostDraft;
+import com.fluffytime.domain.board.dto.request.PostDraftRequest;
+import com.fluffytime.domain.board.dto.response.PostResponse;
+import com.fluffytime.domain.board.entity.Post;
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.exception.ContentLengthExceeded;
+import com.fluffytime.domain.board.exception.PostNotInTempStatus;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.global.common.exception.global.PostNotFound;
+import com.fluffytime.global.common.exception.global.ServerError;
+import com.fluffytime.global.common.exception.global.UserNotFound;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 임시 저장 글 자동 저장
+// 자동 저장은 사용자별 Redis Hash 에 바뀐 항목만 반영하고,
+// 입력이 멈춘 뒤(debounce) 주기적으로 한 번에 MySQL 에 씀 (write-behind)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDraftService {
+
+    private final PostDraftDao postDraftDao;
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final ObjectMapper objectMapper;
+
+    // 마지막 자동 저장 후 이 시간이 지나야 MySQL 에 반영
+    @Value("${post.draft.debounce-ms:3000}")
+    private long debounceMs;
+
+    // 한 번에 반영하는 글 수
+    @Value("${post.draft.flush-batch-size:100}")
+    private int flushBatchSize;
+
+    // 바뀐 항목만 Redis 에 반영
+    @Transactional(readOnly = true)
+    public void patchDraft(Long postId, PostDraftRequest request, Long userId) {
+        if (request.getContent() != null && request.getContent().length() > 2200) {
+            throw new ContentLengthExceeded();
+        }
+
+        PostDraft draft = read(postDraftDao.getDraft(userId, postId));
+        if (draft == null) {
+            draft = loadDraft(postId, userId);
+        }
+
+        if (request.getContent() != null) {
+            draft.setContent(request.getContent());
+        }
+        if (request.getHideLikeCount() != null) {
+            draft.setHideLikeCount(request.getHideLikeCount());
+        }
+        if (request.getCommentsDisabled() != null) {
+            draft.setCommentsDisabled(request.getCommentsDisabled());
+        }
+        if (request.getTags() != null) {
+            draft.setTags(request.getTags());
+        }
+
+        long now = System.currentTimeMillis();
+        draft.setUpdatedAt(now);
+        postDraftDao.saveDraft(userId, postId, write(draft), now);
+    }
+
+    // 아직 MySQL 에 반영되지 않은 자동 저장 내용으로 임시 저장 글 목록을 덮어씀
+    public void applyDrafts(Long userId, List<PostResponse> tempPosts) {
+        Map<Object, Object> drafts = postDraftDao.getDrafts(userId);
+        if (drafts.isEmpty()) {
+            return;
+        }
+
+        for (PostResponse tempPost : tempPosts) {
+            Object json = drafts.get(String.valueOf(tempPost.getPostId()));
+            PostDraft draft = json != null ? read(json.toString()) : null;
+            if (draft == null) {
+                continue;
+            }
+            tempPost.setContent(draft.getContent());
+            tempPost.setTags(draft.getTags());
+            tempPost.setHideLikeCount(draft.isHideLikeCount());
+            tempPost.setCommentsDisabled(draft.isCommentsDisabled());
+        }
+    }
+
+    // 입력이 멈춘 자동 저장 내용을 MySQL 에 반영
+    @Scheduled(fixedDelayString = "${post.draft.flush-interval-ms:5000}")
+    public void flushDrafts() {
+        Set<String> dirty = postDraftDao.getDirtyDrafts(
+            System.currentTimeMillis() - debounceMs, flushBatchSize);
+        if (dirty == null) {
+            return;
+        }
+
+        for (String member : dirty) {
+            String[] ids = member.split(":");
+            Long userId = Long.valueOf(ids[0]);
+            Long postId = Long.valueOf(ids[1]);
+            try {
+                PostDraft draft = read(postDraftDao.getDraft(userId, postId));
+                if (draft == null) {
+                    // Redis 에서 만료된 경우
+                    postDraftDao.removeDraft(userId, postId);
+                    continue;
+                }
+                postService.applyDraft(postId, draft);
+                postDraftDao.removeIfUnchanged(userId, postId, draft.getUpdatedAt());
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                log.warn("임시 저장 글 반영 실패, 게시물 ID: {}", postId, e);
+            }
+        }
+    }
+
+    // 처음 자동 저장할 때만 MySQL 에서 글을 읽어 소유자/상태를 확인하고 Redis 에 올림
+    private PostDraft loadDraft(Long postId, Long userId) {
+        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
+        if (!post.getUser().getUserId().equals(userId)) {
+            throw new UserNotFound();
+        }
+        if (post.getTempStatus() != TempStatus.TEMP) {
+            throw new PostNotInTempStatus();
+        }
+
+        List<String> tags = post.getTagPosts().stream()
+            .map(tagPost -> tagPost.getTag().getTagName())
+            .toList();
+        return new PostDraft(post.getContent(), post.isHideLikeCount(),
+            post.isCommentsDisabled(), tags, 0);
+    }
+
+    private PostDraft read(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, PostDraft.class);
+        } catch (JsonProcessingException e) {
+            log.warn("임시 저장 글 JSON 읽기 실패: {}", json, e);
+            return null;
+        }
+    }
+
+    private String write(PostDraft draft) {
+        try {
+            return objectMapper.writeValueAsString(draft);
+        } catch (JsonProcessingException e) {
+            throw new ServerError();
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.fluffytime.domain.board.service;
 
+import com.fluffytime.domain.board.dao.LikeDao;
 import com.fluffytime.domain.board.dto.request.PostLikeRequest;
 import com.fluffytime.domain.board.dto.response.PostLikeResponse;
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.PostLike;
-import com.fluffytime.domain.board.exception.LikeIsExists;
-import com.fluffytime.domain.board.exception.NoLikeFound;
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
+import com.fluffytime.domain.board.event.EngagementType;
+import com.fluffytime.domain.board.event.PostEngagementEvent;
 import com.fluffytime.domain.board.repository.PostLikeRepository;
 import com.fluffytime.domain.board.repository.PostRepository;
 import com.fluffytime.domain.notification.service.NotificationService;
@@ -16,10 +18,13 @@ import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
 import com.fluffytime.global.common.exception.global.PostNotFound;
 import com.fluffytime.global.common.exception.global.UserNotFound;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,56 +37,72 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final JwtTokenizer jwtTokenizer;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeQueryService likeQueryService;
+    private final LikeDao likeDao;
 
-    //게시글 좋아요 등록
+    //게시글 좋아요 등록 (이미 눌렀으면 현재 상태만 반환)
+    // 게시글/사용자 엔티티를 읽지 않고 INSERT 한 문장으로 처리함
     @Transactional
     public PostLikeResponse likePost(Long postId, PostLikeRequest requestDto) {
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
-        User user = userRepository.findById(requestDto.getUserId()).orElseThrow(UserNotFound::new);
-
-        //좋아요를 눌렀는지 안 눌렀는지 확인
-        if (postLikeRepository.findByPostAndUser(post, user) != null) {
-            throw new LikeIsExists();
+        Long userId = requestDto.getUserId();
+
+        boolean created;
+        try {
+            created = likeDao.insert(LikeTarget.POST, postId, userId);
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 오류: 게시글이나 사용자가 없음 (탈퇴한 사용자의 토큰 등)
+            if (!postRepository.existsById(postId)) {
+                throw new PostNotFound();
+            }
+            throw new UserNotFound();
         }
 
-        PostLike postLike = PostLike.builder()
-            .post(post)
-            .user(user)
-            .build();
-        postLikeRepository.save(postLike); //좋아요 등록
+        int likeCount;
+        if (created) {
+            postRepository.addLikeCount(postId, 1);
+
+            // 알림 생성 및 전송 (새로 눌렀을 때만 게시글/사용자를 읽음)
+            notificationService.createLikesNotification(postRepository.getReferenceById(postId),
+                userRepository.getReferenceById(userId));
 
-        // 알림 생성 및 전송
-        notificationService.createLikesNotification(post, postLike.getUser());
+            eventPublisher.publishEvent(new PostEngagementEvent(postId, EngagementType.LIKE, 1));
 
-        int likeCount = postLikeRepository.countByPost(post); //현재 좋아요 수
+            likeCount = likeQueryService.getCount(LikeTarget.POST, postId); //현재 좋아요 수
+        } else {
+            // 이미 누름
+            likeCount = likeQueryService.getCount(LikeTarget.POST, postId);
+        }
 
         return PostLikeResponse.builder()
-            .userId(user.getUserId())
-            .nickname(user.getNickname())
+            .userId(userId)
             .likeCount(likeCount)
             .isLiked(true)
             .build();
     }
 
-    //게시글 좋아요 취소
+    //게시글 좋아요 취소 (누르지 않았으면 현재 상태만 반환)
     @Transactional
     public PostLikeResponse unlikePost(Long postId, PostLikeRequest requestDto) {
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
-        User user = userRepository.findById(requestDto.getUserId()).orElseThrow(UserNotFound::new);
+        Long userId = requestDto.getUserId();
 
-        //좋아요를 눌럿는지 안 눌렀는지 확인
-        PostLike exisitingLike = postLikeRepository.findByPostAndUser(post, user);
-        if (exisitingLike == null) {
-            throw new NoLikeFound();
-        }
+        // 인기 점수에서 뺄 점수를 계산하기 위해 좋아요를 누른 시각을 먼저 읽음
+        LocalDateTime likedAt = postLikeRepository.findCreatedAt(postId, userId).orElse(null);
+
+        int likeCount;
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) > 0) {
+            postRepository.addLikeCount(postId, -1);
 
-        postLikeRepository.delete(exisitingLike);
+            eventPublisher.publishEvent(
+                new PostEngagementEvent(postId, EngagementType.LIKE, -1, likedAt));
 
-        int likeCount = postLikeRepository.countByPost(post); //현재 좋아요 수
+            likeCount = likeQueryService.getCount(LikeTarget.POST, postId); //현재 좋아요 수
+        } else {
+            likeCount = likeQueryService.getCount(LikeTarget.POST, postId);
+        }
 
         return PostLikeResponse.builder()
-            .userId(user.getUserId())
-            .nickname(user.getNickname())
+            .userId(userId)
             .likeCount(likeCount)
             .isLiked(false)
             .build();
@@ -92,11 +113,23 @@ public class PostLikeService {
     public List<PostLikeResponse> getUsersWhoLikedPost(Long postId) {
         Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
 
+        int likeCount = post.getLikeCount();
         return postLikeRepository.findAllByPost(post).stream()
-            .map(like -> convertToPostLikeResponseDto(like, post))
+            .map(like -> convertToPostLikeResponseDto(like, likeCount))
             .collect(Collectors.toList());
     }
 
+    //accessToken으로 사용자 ID 찾기 (사용자 엔티티를 읽지 않음)
+    public Long findUserIdByAccessToken(HttpServletRequest httpServletRequest) {
+        String accessToken = jwtTokenizer.getTokenFromCookie(httpServletRequest, "accessToken");
+
+        if (accessToken == null) {
+            throw new UserNotFound();
+        }
+
+        return jwtTokenizer.getUserIdFromToken(accessToken);
+    }
+
     //accessToken으로 사용자 찾기
     @Transactional(readOnly = true)
     public User findByAccessToken(HttpServletRequest httpServletRequest) {
@@ -116,12 +149,11 @@ public class PostLikeService {
     }
 
     //게시글 좋아요 response convert
-    private PostLikeResponse convertToPostLikeResponseDto(PostLike like,
-        Post post) {
+    private PostLikeResponse convertToPostLikeResponseDto(PostLike like, int likeCount) {
         return PostLikeResponse.builder()
             .userId(like.getUser().getUserId())
             .nickname(like.getUser().getNickname())
-            .likeCount(postLikeRepository.countByPost(post))
+            .likeCount(likeCount)
             .isLiked(true)
             .profileImageurl(getProfileImageUrl(like.getUser()))
             .intro(Optional.ofNullable(like.getUser().getProfile()).map(Profile::getIntro)
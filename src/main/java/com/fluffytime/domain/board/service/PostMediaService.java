@@ -0,0 +1,142 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.dto.response.PostStatusResponse;
+import com.fluffytime.domain.board.entity.Post;
+import com.fluffytime.domain.board.entity.PostImages;
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.MediaReleasedEvent;
+import com.fluffytime.domain.board.event.PostCreatedEvent;
+import com.fluffytime.domain.board.event.PostImagesAddedEvent;
+import com.fluffytime.domain.board.event.PostMediaProcessedEvent;
+import com.fluffytime.domain.board.event.PostTagsChangedEvent;
+import com.fluffytime.domain.board.event.PostUpdatedEvent;
+import com.fluffytime.domain.board.repository.PostImagesRepository;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.notification.service.SseEmitters;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 백그라운드 업로드가 끝난 첨부 파일을 게시글에 연결하고 게시글을 공개 상태로 바꿈
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostMediaService {
+
+    private final PostRepository postRepository;
+    private final PostImagesRepository postImagesRepository;
+    private final ReelsService reelsService;
+    private final SseEmitters sseEmitters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 업로드된 파일 정보
+    @Getter
+    @AllArgsConstructor
+    public static class UploadedMedia {
+
+        private String filename;
+        private String filepath;
+        private long filesize;
+        private String mimetype;
+    }
+
+    // 커밋 후 리스너(요청 스레드에서 실행되는 경우)에서도 별도 트랜잭션으로 저장되도록 REQUIRES_NEW
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(Long postId, List<UploadedMedia> uploaded) {
+        Post post = postRepository.findById(postId).orElse(null);
+        if (post == null || post.getTempStatus() != TempStatus.PROCESSING) {
+            // 업로드 중 게시글이 삭제되었거나 오래 걸려 실패 처리된 경우, 올린 파일의 참조를 되돌림
+            log.warn("업로드 완료 시점에 처리 중인 게시물이 없음, ID: {}", postId);
+            eventPublisher.publishEvent(new MediaReleasedEvent(
+                uploaded.stream().map(UploadedMedia::getFilename).toList()));
+            return;
+        }
+
+        attach(post, uploaded);
+
+        post.setTempStatus(TempStatus.SAVE);
+        postRepository.save(post);
+
+        // 공개 상태가 되었으므로 탐색/홈/태그 타임라인에 반영
+        Long userId = post.getUser().getUserId();
+        List<Long> tagIds = post.getTagPosts().stream()
+            .map(tagPost -> tagPost.getTag().getTagId())
+            .toList();
+        eventPublisher.publishEvent(new PostCreatedEvent(postId, userId, post.getCreatedAt()));
+        eventPublisher.publishEvent(
+            new PostTagsChangedEvent(postId, post.getCreatedAt(), true, List.of(), tagIds));
+        eventPublisher.publishEvent(new PostMediaProcessedEvent(postId, userId, TempStatus.SAVE));
+    }
+
+    // 업로드된 파일을 게시글 첨부 파일로 저장 (동영상은 릴스에도 등록)
+    public void attach(Post post, List<UploadedMedia> uploaded) {
+        for (UploadedMedia media : uploaded) {
+            PostImages postImage = PostImages.builder()
+                .filename(media.getFilename())
+                .filepath(media.getFilepath())
+                .filesize(media.getFilesize())
+                .mimetype(media.getMimetype())
+                .post(post)
+                .build();
+            postImagesRepository.save(postImage);
+
+            // 동영상은 릴스에도 등록
+            if (media.getMimetype().startsWith("video/")) {
+                reelsService.reelsUpload(post, post.getUser(), media.getFilename(),
+                    media.getFilepath(), media.getFilesize(), media.getMimetype());
+            }
+        }
+
+        // 커밋 후 사진 축소본 생성
+        if (!uploaded.isEmpty()) {
+            eventPublisher.publishEvent(new PostImagesAddedEvent(post.getPostId()));
+        }
+    }
+
+    // 백그라운드에서 만든 축소본 경로 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveDerivatives(Long imageId, String thumbnailPath, String mediumPath,
+        String largePath, String placeholder) {
+        PostImages postImage = postImagesRepository.findById(imageId).orElse(null);
+        if (postImage == null) {
+            // 처리 중 게시글/사진이 삭제된 경우
+            return;
+        }
+
+        postImage.setThumbnailPath(thumbnailPath);
+        postImage.setMediumPath(mediumPath);
+        postImage.setLargePath(largePath);
+        postImage.setPlaceholder(placeholder);
+        postImagesRepository.save(postImage);
+
+        // 게시글 캐시(ETag, 탐색 카드)가 축소본을 반영하도록 함
+        eventPublisher.publishEvent(new PostUpdatedEvent(postImage.getPost().getPostId()));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(Long postId) {
+        Post post = postRepository.findById(postId).orElse(null);
+        if (post == null || post.getTempStatus() != TempStatus.PROCESSING) {
+            return;
+        }
+
+        post.setTempStatus(TempStatus.FAILED);
+        postRepository.save(post);
+        eventPublisher.publishEvent(
+            new PostMediaProcessedEvent(postId, post.getUser().getUserId(), TempStatus.FAILED));
+    }
+
+    // 커밋 후 작성자에게 처리 결과 알림
+    @TransactionalEventListener
+    public void onPostMediaProcessed(PostMediaProcessedEvent event) {
+        sseEmitters.sendPostStatus(event.getUserId(),
+            new PostStatusResponse(event.getPostId(), event.getStatus().name()));
+    }
+}
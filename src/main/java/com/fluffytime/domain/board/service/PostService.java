@@ -2,37 +2,56 @@ package com.fluffytime.domain.board.service;
 
 import static java.util.stream.Collectors.toList;
 
+import com.fluffytime.domain.board.dao.PostDraftDao;
+import com.fluffytime.domain.board.dto.PostDraft;
 import com.fluffytime.domain.board.dto.request.PostRequest;
 import com.fluffytime.domain.board.dto.response.PostResponse;
+import com.fluffytime.domain.board.dto.response.PostStatusResponse;
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.PostImages;
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
 import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.MediaIngestionRequestedEvent;
+import com.fluffytime.domain.board.event.MediaReleasedEvent;
+import com.fluffytime.domain.board.event.PostCreatedEvent;
+import com.fluffytime.domain.board.event.PostDeletedEvent;
+import com.fluffytime.domain.board.event.PostImagesAddedEvent;
+import com.fluffytime.domain.board.event.PostUpdatedEvent;
 import com.fluffytime.domain.board.exception.ContentLengthExceeded;
 import com.fluffytime.domain.board.exception.FileSizeExceeded;
-import com.fluffytime.domain.board.exception.FileUploadFailed;
 import com.fluffytime.domain.board.exception.PostNotInTempStatus;
 import com.fluffytime.domain.board.exception.TooManyFiles;
 import com.fluffytime.domain.board.exception.UnsupportedFileFormat;
+import com.fluffytime.domain.board.exception.UploadNotVerified;
 import com.fluffytime.domain.board.repository.PostImagesRepository;
 import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.board.service.PostMediaService.UploadedMedia;
 import com.fluffytime.domain.notification.repository.AdminNotificationRepository;
 import com.fluffytime.domain.notification.service.AdminNotificationService;
 import com.fluffytime.domain.user.entity.Profile;
 import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.user.repository.UserRepository;
 import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
+import com.fluffytime.global.common.exception.global.PermissionNotAccess;
 import com.fluffytime.global.common.exception.global.PostNotFound;
 import com.fluffytime.global.common.exception.global.UserNotFound;
-import com.fluffytime.global.config.aws.S3Service;
+import com.fluffytime.global.config.storage.MediaStorage;
+import com.fluffytime.global.config.storage.MediaTypes;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -46,7 +65,7 @@ public class PostService {
     private final UserRepository userRepository;
     private final PostImagesRepository postImagesRepository;
     private final JwtTokenizer jwtTokenizer;
-    private final S3Service s3Service;
+    private final MediaStorage mediaStorage;
     private final TagService tagService;
 
     private final AdminNotificationService adminNotificationService;
@@ -54,14 +73,47 @@ public class PostService {
 
     private final ReelsService reelsService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final MediaIngestionService mediaIngestionService;
+    // 직접 업로드는 S3 저장소에서만 사용 가능
+    private final ObjectProvider<DirectUploadService> directUploadService;
+    private final PostMediaService postMediaService;
+    private final MediaObjectService mediaObjectService;
+    private final PostDraftDao postDraftDao;
+    private final LikeQueryService likeQueryService;
+
+    // 첨부 파일을 백그라운드에서 업로드할지 여부 (false 면 요청 안에서 업로드)
+    @Value("${media.ingestion.async:true}")
+    private boolean asyncIngestion;
+
+    // 직접 업로드한 파일 확인 (S3 HEAD 요청은 게시글 저장 트랜잭션 밖에서 실행)
+    public List<UploadedMedia> verifyDirectUploads(PostRequest postRequest,
+        HttpServletRequest request) {
+        if (postRequest.getMediaKeys() == null || postRequest.getMediaKeys().isEmpty()) {
+            return List.of();
+        }
+        DirectUploadService uploadService = directUploadService.getIfAvailable();
+        if (uploadService == null) {
+            throw new UploadNotVerified();
+        }
+        return uploadService.verifyUploads(findUserIdByAccessToken(request),
+            postRequest.getMediaKeys());
+    }
 
     // 게시글 등록하기
+    // directUploads: verifyDirectUploads 로 확인한 직접 업로드 파일
     @Transactional
     public Long createPost(PostRequest postRequest, MultipartFile[] files,
-        HttpServletRequest request) {
+        List<UploadedMedia> directUploads, HttpServletRequest request) {
         // 업로드된 파일들의 유효성을 검증함
         validateFiles(files);
 
+        // 첨부 파일이 있으면 업로드 중(PROCESSING) 상태로 먼저 저장하고, 업로드가 끝나면 공개함
+        boolean hasFiles = files != null && files.length > 0;
+        boolean ingestAsync = asyncIngestion && hasFiles;
+        TempStatus status = ingestAsync ? TempStatus.PROCESSING : TempStatus.SAVE;
+
         User user = findUserByAccessToken(request);
         Post post;
 
@@ -75,8 +127,11 @@ public class PostService {
                 throw new PostNotInTempStatus();  // 상태가 올바르지 않으면 예외 발생
             }
 
+            // 자동 저장 중이던 내용은 최종 등록 내용으로 대체됨
+            postDraftDao.removeDraft(user.getUserId(), post.getPostId());
+
             // 상태를 최종 등록으로 업데이트
-            post.setTempStatus(TempStatus.SAVE);
+            post.setTempStatus(status);
             post.setUpdatedAt(LocalDateTime.now());
             post.setContent(postRequest.getContent());
             post.setHideLikeCount(postRequest.isHideLikeCount());
@@ -90,7 +145,7 @@ public class PostService {
                 .user(user)
                 .content(postRequest.getContent())
                 .createdAt(LocalDateTime.now())
-                .tempStatus(TempStatus.SAVE)  // 새로 생성되는 게시물은 최종 등록 상태로 설정
+                .tempStatus(status)  // 새로 생성되는 게시물은 최종 등록(또는 업로드 중) 상태로 설정
                 .hideLikeCount(postRequest.isHideLikeCount())
                 .commentsDisabled(postRequest.isCommentsDisabled())
                 .build();
@@ -98,14 +153,30 @@ public class PostService {
         adminNotificationService.createRegPostNotification(user,post);
         }
 
+        // 직접 업로드한 파일은 다른 검증을 모두 마친 뒤 가져감 (롤백되면 다시 쓸 수 있음)
+        if (!directUploads.isEmpty()) {
+            directUploadService.getObject().claimUploads(user.getUserId(), directUploads);
+        }
+
         // 파일 저장 로직
-        if (files != null && files.length > 0) {
+        if (ingestAsync) {
+            // 파일은 로컬에 옮겨 두고 커밋 후 백그라운드에서 업로드 (DB 커넥션을 업로드 동안 잡고 있지 않음)
+            eventPublisher.publishEvent(new MediaIngestionRequestedEvent(post.getPostId(),
+                user.getUserId(), mediaIngestionService.spool(files)));
+        } else if (hasFiles) {
             savePostFiles(files, post);
         }
+        postMediaService.attach(post, directUploads);
 
         // 태그 등록 로직
         tagService.regTags(postRequest.getTags(), post);
 
+        // 커밋 후 탐색 타임라인 등 읽기 모델 갱신 (업로드 중인 게시물은 업로드가 끝난 뒤 반영)
+        if (!ingestAsync) {
+            eventPublisher.publishEvent(
+                new PostCreatedEvent(post.getPostId(), user.getUserId(), post.getCreatedAt()));
+        }
+
         return post.getPostId();  // 생성된 게시물의 ID를 반환
     }
 
@@ -123,6 +194,9 @@ public class PostService {
             post = postRepository.findById(postRequest.getTempId())
                 .orElseThrow(PostNotFound::new);
 
+            // 자동 저장 중이던 내용은 지금 저장하는 내용으로 대체됨
+            postDraftDao.removeDraft(user.getUserId(), post.getPostId());
+
             // 게시물 내용 업데이트
             post.setContent(postRequest.getContent());
             post.setUpdatedAt(LocalDateTime.now());
@@ -140,6 +214,8 @@ public class PostService {
                     .orElseThrow(PostNotFound::new);
 
                 postRepository.delete(oldestTempPost);
+                postDraftDao.removeDraft(user.getUserId(), oldestTempPost.getPostId());
+                releaseMedia(oldestTempPost);
                 log.info("오래된 임시 저장 글 삭제, ID: {}", oldestTempPost.getPostId());
             }
 
@@ -167,87 +243,48 @@ public class PostService {
     }
 
     // 이미지 및 동영상 파일을 처리하는 메서드
+    // 파일들을 동시에 업로드한 뒤(이미지 먼저, 동영상 나중 순서 유지) 업로드 결과를 순서대로 저장함
     private void savePostFiles(MultipartFile[] files, Post post) {
         List<MultipartFile> imageFiles = Arrays.stream(files)
-            .filter(file -> isImageFormat(file.getContentType()))
+            .filter(file -> MediaTypes.isImage(file.getContentType()))
             .collect(Collectors.toList());
 
         List<MultipartFile> videoFiles = Arrays.stream(files)
-            .filter(file -> isVideoFormat(file.getContentType()))
+            .filter(file -> MediaTypes.isVideo(file.getContentType()))
             .collect(Collectors.toList());
 
-        saveImageFiles(imageFiles, post);
-        saveVideoFiles(videoFiles, post);
-    }
-
-    // 이미지 파일을 저장하는 메서드
-    private void saveImageFiles(List<MultipartFile> imageFiles, Post post) {
-        for (MultipartFile file : imageFiles) {
-            try {
-                String fileName = s3Service.uploadFile(file);
-                String fileUrl = s3Service.getFileUrl(fileName);
-
-                PostImages postImage = PostImages.builder()
-                    .filename(fileName)
-                    .filepath(fileUrl)
-                    .filesize(file.getSize())
-                    .mimetype(file.getContentType())
-                    .post(post)
-                    .build();
-
-                postImagesRepository.save(postImage);
-            } catch (Exception e) {
-                throw new FileUploadFailed();
-            }
-        }
-    }
-
-    // 동영상 파일을 저장하고 릴스에 업로드하는 메서드
-    private void saveVideoFiles(List<MultipartFile> videoFiles, Post post) {
-        for (MultipartFile file : videoFiles) {
-            try {
-                String fileName = s3Service.uploadFile(file);
-                String filepath = s3Service.getFileUrl(fileName);
-
-                // 원래 게시물에 동영상 파일을 저장
-                PostImages postVideo = PostImages.builder()
-                    .filename(fileName)
-                    .filepath(filepath)
-                    .filesize(file.getSize())
-                    .mimetype(file.getContentType())
-                    .post(post)
-                    .build();
-
-                postImagesRepository.save(postVideo);
-
-                // 릴스에 동영상 파일을 업로드
-
-                User user = post.getUser(); // Post에서 User 정보를 가져옴
-                String mimetype = file.getContentType(); // 파일의 mimetype 가져오기
+        List<MultipartFile> orderedFiles = new ArrayList<>(imageFiles);
+        orderedFiles.addAll(videoFiles);
+
+        // 같은 내용의 파일이 이미 있으면 업로드하지 않고 기존 파일을 공유함
+        // 하나라도 실패하면 나머지 업로드를 중단하고 이미 올라간 파일은 삭제됨
+        List<String> fileNames = mediaObjectService.uploadAll(orderedFiles,
+            mediaObjectService::source);
+
+        for (int i = 0; i < orderedFiles.size(); i++) {
+            MultipartFile file = orderedFiles.get(i);
+            String fileName = fileNames.get(i);
+            String filepath = mediaStorage.getFileUrl(fileName);
+
+            PostImages postImage = PostImages.builder()
+                .filename(fileName)
+                .filepath(filepath)
+                .filesize(file.getSize())
+                .mimetype(file.getContentType())
+                .post(post)
+                .build();
 
-                reelsService.reelsUpload(post, user, fileName, filepath, mimetype);
+            postImagesRepository.save(postImage);
 
-            } catch (Exception e) {
-                throw new FileUploadFailed();
+            // 동영상 파일은 릴스에도 업로드
+            if (MediaTypes.isVideo(file.getContentType())) {
+                reelsService.reelsUpload(post, post.getUser(), fileName, filepath,
+                    file.getSize(), file.getContentType());
             }
         }
-    }
-
-    private boolean isVideoFormat(String contentType) {
-        return contentType != null && (
-            contentType.equals("video/mp4") ||
-                contentType.equals("video/mpeg") ||
-                contentType.equals("video/quicktime")
-        );
-    }
 
-    private boolean isImageFormat(String contentType) {
-        return contentType != null && (
-            contentType.equals("image/jpeg") ||
-                contentType.equals("image/png") ||
-                contentType.equals("image/webp") ||
-                contentType.equals("image/avif")
-        );
+        // 커밋 후 사진 축소본 생성
+        eventPublisher.publishEvent(new PostImagesAddedEvent(post.getPostId()));
     }
 
     // 게시글 조회하기
@@ -260,6 +297,21 @@ public class PostService {
         return convertToPostResponse(post, currentUserId);
     }
 
+    // 게시글 처리 상태 조회 (첨부 파일 업로드 완료 여부 확인용)
+    @Transactional(readOnly = true)
+    public PostStatusResponse getPostStatus(Long id, HttpServletRequest request) {
+        Long userId = findUserIdByAccessToken(request);
+        Post post = postRepository.findById(id)
+            .orElseThrow(PostNotFound::new);
+
+        // 작성 중/업로드 중 게시글이 있는지 다른 사용자가 알 수 없도록 작성자만 조회
+        if (!post.getUser().getUserId().equals(userId)) {
+            throw new PermissionNotAccess();
+        }
+
+        return new PostStatusResponse(post.getPostId(), post.getTempStatus().name());
+    }
+
     // 게시글 수정하기
     @Transactional
     public PostResponse updatePost(Long id, PostRequest postRequest, MultipartFile[] files,
@@ -296,6 +348,8 @@ public class PostService {
         // 태그 등록 로직
         tagService.regTags(postRequest.getTags(), existingPost);
 
+        eventPublisher.publishEvent(new PostUpdatedEvent(existingPost.getPostId()));
+
         return convertToPostResponse(existingPost, currentUserId);
     }
 
@@ -316,6 +370,19 @@ public class PostService {
         adminNotificationService.createDeletePostNotification(user, post);
 //        adminNotificationRepository.updatePostIdToNull(post.getPostId());
         postRepository.deleteById(id);
+        releaseMedia(post);
+
+        eventPublisher.publishEvent(new PostDeletedEvent(id, user.getUserId()));
+    }
+
+    // 게시물 사진이 가리키던 S3 파일 참조 해제 (다른 곳에서 쓰지 않으면 커밋 후 삭제됨)
+    private void releaseMedia(Post post) {
+        List<String> fileNames = post.getPostImages().stream()
+            .map(PostImages::getFilename)
+            .toList();
+        if (!fileNames.isEmpty()) {
+            eventPublisher.publishEvent(new MediaReleasedEvent(fileNames));
+        }
     }
 
     // 임시 게시글 삭제하기
@@ -327,6 +394,8 @@ public class PostService {
         // 임시 저장된 상태인 경우에만 삭제함
         if (post.getTempStatus() == TempStatus.TEMP) {
             postRepository.deleteById(id);
+            postDraftDao.removeDraft(post.getUser().getUserId(), id);
+            releaseMedia(post);
             log.info("게시물 ID {}가 성공적으로 삭제되었습니다.", id);
         } else {
             throw new PostNotInTempStatus();
@@ -334,19 +403,34 @@ public class PostService {
     }
 
     // 임시 게시글 목록 조회하기
+    // 자동 저장 후 아직 반영되지 않은 내용은 PostDraftService.applyDrafts 로 덮어씀
     @Transactional(readOnly = true)
     public List<PostResponse> getTempPosts(Long currentUserId) {
-        // 현재 사용자 ID와 임시 저장 글의 사용자 ID를 비교하여 필터링함
-        List<Post> tempPosts = postRepository.findAll().stream()
-            .filter(post -> post.getTempStatus() == TempStatus.TEMP && post.getUser().getUserId()
-                .equals(currentUserId))
-            .collect(Collectors.toList());
+        // (user_id, temp_status) 인덱스로 현재 사용자의 임시 저장 글만 조회
+        List<Post> tempPosts = postRepository.findAllByUser_UserIdAndTempStatus(currentUserId,
+            TempStatus.TEMP);
 
         return tempPosts.stream()
             .map(post -> convertToPostResponse(post, currentUserId))
             .collect(Collectors.toList());
     }
 
+    // Redis 에 자동 저장된 임시 저장 글을 MySQL 에 반영 (PostDraftService 에서 주기적으로 호출)
+    @Transactional
+    public void applyDraft(Long postId, PostDraft draft) {
+        LocalDateTime updatedAt = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(draft.getUpdatedAt()), ZoneId.systemDefault());
+        int updated = postRepository.updateDraft(postId, draft.getContent(),
+            draft.isHideLikeCount(), draft.isCommentsDisabled(), updatedAt, TempStatus.TEMP);
+        if (updated == 0) {
+            return;
+        }
+
+        // 글을 수정했으므로 행 잠금을 잡고 있음 (동시에 최종 등록되지 않음)
+        Post post = postRepository.findById(postId).orElseThrow(PostNotFound::new);
+        tagService.regTags(draft.getTags(), post);
+    }
+
     // 파일 검증 로직
     private void validateFiles(MultipartFile[] files) {
         if (files == null) {
@@ -374,26 +458,11 @@ public class PostService {
     }
 
     private void checkFileFormat(MultipartFile file) {
-        if (!isSupportedFormat(file.getContentType())) {
+        if (!MediaTypes.isAllowed(file.getContentType())) {
             throw new UnsupportedFileFormat();
         }
     }
 
-    // 지원되는 파일 형식인지 확인
-    private boolean isSupportedFormat(String contentType) {
-        return contentType != null && (
-            // 이미지 파일 형식
-            contentType.equals("image/jpeg") ||
-            contentType.equals("image/png") ||
-            contentType.equals("image/webp") ||
-            contentType.equals("image/avif") ||
-            // 비디오 파일 형식
-            contentType.equals("video/mp4") ||
-            contentType.equals("video/mpeg") ||
-            contentType.equals("video/quicktime")
-        );
-    }
-
     // jwtTokenizer.getTokenFromCookie를 통해 토큰 추출
     @Transactional
     public User findUserByAccessToken(HttpServletRequest httpServletRequest) {
@@ -409,6 +478,17 @@ public class PostService {
         return userRepository.findById(userId).orElseThrow(UserNotFound::new);
     }
 
+    // 토큰에서 사용자 ID만 추출 (사용자 엔티티를 조회하지 않음)
+    public Long findUserIdByAccessToken(HttpServletRequest httpServletRequest) {
+        String accessToken = jwtTokenizer.getTokenFromCookie(httpServletRequest, "accessToken");
+
+        if (accessToken == null) {
+            throw new UserNotFound();
+        }
+
+        return jwtTokenizer.getUserIdFromToken(accessToken);
+    }
+
     // Post 엔티티를 PostResponse로 변환하는 메소드
     private PostResponse convertToPostResponse(Post post, Long currentUserId) {
         // 작성자(User) 정보 가져오기
@@ -436,15 +516,18 @@ public class PostService {
                 image.getFilepath(),
                 image.getFilesize(),
                 image.getMimetype(),
-                image.getUploadDate().format(DateTimeFormatter.ISO_DATE_TIME)
+                image.getUploadDate().format(DateTimeFormatter.ISO_DATE_TIME),
+                image.getThumbnailPath(),
+                image.getMediumPath(),
+                image.getLargePath(),
+                image.getPlaceholder()
             )).collect(toList()),
             tags,
             post.getCreatedAt().format(DateTimeFormatter.ISO_DATE_TIME),
             post.getUpdatedAt() != null ? post.getUpdatedAt()
                 .format(DateTimeFormatter.ISO_DATE_TIME) : null,
-            post.getLikes().size(),
-            post.getLikes().stream()
-                .anyMatch(like -> like.getUser().getUserId().equals(currentUserId)),
+            post.getLikeCount(),
+            likeQueryService.isLiked(LikeTarget.POST, post.getPostId(), currentUserId),
             post.isCommentsDisabled(),
             post.isHideLikeCount(),
             author.getNickname(),        // 작성자 닉네임
@@ -469,6 +552,8 @@ public class PostService {
         // 댓글 기능 상태를 토글
         post.setCommentsDisabled(!post.isCommentsDisabled());
         postRepository.save(post);
+
+        eventPublisher.publishEvent(new PostUpdatedEvent(postId));
     }
 
     //다른 사람에게 좋아요 수 숨기기/취소
@@ -485,6 +570,8 @@ public class PostService {
         // 좋아요 수 숨김 상태를 토글
         post.setHideLikeCount(!post.isHideLikeCount());
         postRepository.save(post);
+
+        eventPublisher.publishEvent(new PostUpdatedEvent(postId));
     }
 
     //게시글 작성자인지 확인
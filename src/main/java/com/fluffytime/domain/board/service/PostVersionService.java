@@ -0,0 +1,93 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.dao.PostVersionDao;
+import com.fluffytime.domain.board.event.CommentsChangedEvent;
+import com.fluffytime.domain.board.event.PostCreatedEvent;
+import com.fluffytime.domain.board.event.PostDeletedEvent;
+import com.fluffytime.domain.board.event.PostEngagementEvent;
+import com.fluffytime.domain.board.event.PostTagsChangedEvent;
+import com.fluffytime.domain.board.event.PostUpdatedEvent;
+import com.fluffytime.domain.board.repository.CommentRepository;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.board.repository.ReplyRepository;
+import com.fluffytime.domain.user.event.ProfileChangedEvent;
+import com.fluffytime.domain.user.service.BlockFilter;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시글 버전 관리 (조건부 GET 용 ETag 생성)
+// 게시글 수정/좋아요/댓글/태그/작성자 프로필 변경 시 게시글 버전을, 탐색 목록이 바뀌는 변경 시 탐색 버전을 올림
+@Service
+@RequiredArgsConstructor
+public class PostVersionService {
+
+    private final PostVersionDao postVersionDao;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        // 업로드가 끝나 공개된 경우에도 발행되므로 게시글 버전도 올림
+        postVersionDao.incrementPostVersion(event.getPostId());
+        postVersionDao.incrementExploreVersion();
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        postVersionDao.incrementPostVersion(event.getPostId());
+        postVersionDao.incrementExploreVersion();
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        postVersionDao.removePostVersion(event.getPostId());
+        postVersionDao.incrementExploreVersion();
+    }
+
+    @TransactionalEventListener
+    public void onPostTagsChanged(PostTagsChangedEvent event) {
+        postVersionDao.incrementPostVersion(event.getPostId());
+        postVersionDao.incrementExploreVersion();
+    }
+
+    @TransactionalEventListener
+    public void onPostEngagement(PostEngagementEvent event) {
+        postVersionDao.incrementPostVersion(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentsChanged(CommentsChangedEvent event) {
+        postVersionDao.incrementPostVersion(event.getPostId());
+    }
+
+    // 작성자 닉네임/프로필 사진/반려동물 정보는 게시물 상세와 댓글 목록, 탐색 목록에 함께 내려가므로
+    // 작성한 게시물과 댓글/답글을 단 게시물의 버전, 탐색 버전을 올림
+    @TransactionalEventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        Set<Long> postIds = new HashSet<>(postRepository.findIdsByUserId(event.getUserId()));
+        postIds.addAll(commentRepository.findPostIdsByUserId(event.getUserId()));
+        postIds.addAll(replyRepository.findPostIdsByUserId(event.getUserId()));
+        postVersionDao.incrementPostVersions(postIds);
+        postVersionDao.incrementExploreVersion();
+    }
+
+    // 게시물 상세 ETag (좋아요 여부가 사용자마다 다르므로 사용자 ID 포함)
+    public String getPostEtag(Long postId, Long userId) {
+        return "post-" + postId + "-" + postVersionDao.getPostVersion(postId) + "-" + userId;
+    }
+
+    // 게시물 댓글 목록 ETag (차단한 사용자의 댓글이 빠지므로 차단 목록도 포함)
+    public String getCommentsEtag(Long postId, Long userId, BlockFilter blockFilter) {
+        return "comments-" + postId + "-" + postVersionDao.getPostVersion(postId) + "-" + userId
+            + "-" + blockFilter.fingerprint();
+    }
+
+    // 탐색 목록 ETag (같은 URL 의 이전 응답과 비교되므로 버전과 차단 목록만으로 충분함)
+    public String getExploreEtag(BlockFilter blockFilter) {
+        return "explore-" + postVersionDao.getExploreVersion() + "-" + blockFilter.fingerprint();
+    }
+}
@@ -0,0 +1,132 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.entity.Reels;
+import com.fluffytime.domain.board.event.ReelsUploadedEvent;
+import com.fluffytime.domain.board.repository.ReelsRepository;
+import com.fluffytime.domain.board.util.Mp4File;
+import com.fluffytime.domain.board.util.Mp4File.Mp4Info;
+import com.fluffytime.global.config.storage.MediaStorage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 릴스 영상 후처리
+// 커밋 후 백그라운드에서 영상을 내려받아 MP4 구조를 읽고 재생 정보(크기, 길이, 해상도, 대표 프레임)를 저장함
+// moov 박스가 파일 끝에 있으면 앞으로 옮긴 파일로 교체해 전체를 받기 전에 재생이 시작되도록 함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReelsProcessingService {
+
+    private final MediaStorage mediaStorage;
+    private final ReelsRepository reelsRepository;
+    private final ReelsService reelsService;
+
+    // 영상을 내려받아 둘 디렉토리
+    @Value("${media.reels.work-dir:${java.io.tmpdir}/fluffytime-reels}")
+    private String workDir;
+
+    // 동시에 처리하는 영상 수
+    @Value("${media.reels.pool-size:1}")
+    private int poolSize;
+
+    // 대기 중인 작업 수 한도 (넘으면 후처리 없이 원본 그대로 사용)
+    @Value("${media.reels.queue-capacity:50}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(Path.of(workDir));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "reels-processing-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (runnable, pool) -> log.warn("릴스 후처리 대기열이 가득 차 건너뜀"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 커밋 후 백그라운드에서 후처리
+    @TransactionalEventListener
+    public void onReelsUploaded(ReelsUploadedEvent event) {
+        executor.execute(() -> process(event.getReelsId()));
+    }
+
+    private void process(Long reelsId) {
+        Reels reels = reelsRepository.findById(reelsId).orElse(null);
+        if (reels == null) {
+            return;
+        }
+
+        Path source = null;
+        Path faststart = null;
+        try {
+            source = Files.createTempFile(Path.of(workDir), "reels-", ".mp4");
+            try (InputStream inputStream = mediaStorage.downloadFile(reels.getFilename())) {
+                Files.copy(inputStream, source, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Mp4File mp4File = Mp4File.open(source).orElse(null);
+            if (mp4File == null) {
+                // MP4/QuickTime 형식이 아닌 영상 (video/mpeg 등)은 크기만 기록
+                log.info("MP4 구조를 읽을 수 없는 영상, 릴스 ID: {}", reelsId);
+                return;
+            }
+
+            Mp4Info info = mp4File.info();
+            long filesize = Files.size(source);
+            if (!info.isFaststart()) {
+                faststart = Files.createTempFile(Path.of(workDir), "reels-faststart-", ".mp4");
+                if (mp4File.writeFaststart(faststart)) {
+                    mediaStorage.replaceFile(reels.getFilename(), faststart, reels.getMimetype());
+                    filesize = Files.size(faststart);
+                    log.info("릴스 faststart 적용, 릴스 ID: {}", reelsId);
+                }
+            }
+
+            reelsService.saveMetadata(reelsId, filesize, info);
+            log.info("릴스 재생 정보 저장, 릴스 ID: {}, 길이: {}ms, 해상도: {}x{}", reelsId,
+                info.getDurationMillis(), info.getWidth(), info.getHeight());
+        } catch (Exception e) {
+            // 후처리가 실패해도 원본으로 재생할 수 있으므로 기록만 함
+            log.warn("릴스 후처리 실패, 릴스 ID: {}", reelsId, e);
+        } finally {
+            deleteQuietly(source);
+            deleteQuietly(faststart);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 영상 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
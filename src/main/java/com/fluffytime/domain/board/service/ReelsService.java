@@ -1,21 +1,25 @@
 package com.fluffytime.domain.board.service;
 
 import com.fluffytime.domain.board.dto.response.ReelsResponse;
+import com.fluffytime.domain.board.dto.response.ViewerStateResponse;
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.Reels;
-import com.fluffytime.domain.board.repository.BookmarkRepository;
-import com.fluffytime.domain.board.repository.PostLikeRepository;
+import com.fluffytime.domain.board.event.ReelsUploadedEvent;
 import com.fluffytime.domain.board.repository.ReelsRepository;
+import com.fluffytime.domain.board.util.Mp4File.Mp4Info;
 import com.fluffytime.domain.user.entity.Profile;
 import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
 import jakarta.servlet.http.HttpServletRequest;
-import java.io.File;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -24,16 +28,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReelsService {
 
     private final ReelsRepository reelsRepository;
-    private final BookmarkRepository bookmarkRepository;
-    private final PostLikeRepository postLikeRepository;
+    private final ViewerStateService viewerStateService;
     private final JwtTokenizer jwtTokenizer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 릴스 영상을 S3 URL 대신 /media 경로로 내려줌 (Range 요청 지원, 서버 디스크 캐시 사용)
+    @Value("${media.delivery.reels:true}")
+    private boolean deliverReels;
 
     // 모든 릴스를 조회하여 반환하는 메서드
     @Transactional
     public List<ReelsResponse> getAllReels(HttpServletRequest request) {
         Long userId = getUserIdFromRequest(request); // 사용자 ID 가져오기
 
-        return reelsRepository.findAll().stream()
+        List<Reels> reelsList = reelsRepository.findAll();
+
+        // 북마크/좋아요 여부는 릴스마다 조회하지 않고 한 번에 조회
+        Map<Long, ViewerStateResponse> viewerStates = viewerStateService.findViewerStates(userId,
+            reelsList.stream().map(reels -> reels.getPost().getPostId()).toList());
+
+        return reelsList.stream()
             .map(reels -> {
                 // 프로필 이미지 URL을 가져오기
                 String profileImageUrl = null;
@@ -43,14 +57,16 @@ public class ReelsService {
                     profileImageUrl = profile.getProfileImages().getFilePath();
                 }
 
+                ViewerStateResponse viewerState = viewerStates.get(reels.getPost().getPostId());
+
                 // 북마크 여부 확인
-                boolean isBookmarked = bookmarkRepository.existsByUserUserIdAndPostPostId(userId, reels.getPost().getPostId());
+                boolean isBookmarked = viewerState != null && viewerState.isBookmarked();
 
                 // 좋아요 수 계산
-                int likeCount = postLikeRepository.countByPost(reels.getPost());
+                int likeCount = reels.getPost().getLikeCount();
 
                 // 사용자가 해당 릴스를 좋아요 했는지 여부 확인
-                boolean isLiked = postLikeRepository.existsByPostAndUserUserId(reels.getPost(), userId);
+                boolean isLiked = viewerState != null && viewerState.isLiked();
 
                 // ReelsResponse 생성 시
                 return new ReelsResponse(
@@ -58,9 +74,13 @@ public class ReelsService {
                     reels.getPost().getPostId(),
                     reels.getUser().getUserId(),
                     reels.getFilename(),
-                    reels.getFilepath(),
+                    deliverReels ? "/media/" + reels.getFilename() : reels.getFilepath(),
                     reels.getFilesize(),
                     reels.getMimetype(),
+                    reels.getDurationMillis(),
+                    reels.getWidth(),
+                    reels.getHeight(),
+                    reels.getPosterTimeMillis(),
                     reels.getPost().getContent(),
                     reels.getUser().getNickname(),
                     profileImageUrl,
@@ -81,12 +101,10 @@ public class ReelsService {
         return jwtTokenizer.getUserIdFromToken(accessToken);
     }
 
+    // filepath 는 S3 URL 이므로 파일 크기는 업로드한 쪽에서 받음
     @Transactional
-    public void reelsUpload(Post post, User user, String filename, String filepath, String mimetype) {
-        // 파일 크기 계산 (파일 시스템에 실제로 파일이 존재한다고 가정)
-        File file = new File(filepath);
-        Long filesize = file.length();
-
+    public void reelsUpload(Post post, User user, String filename, String filepath, long filesize,
+        String mimetype) {
         // Reels 객체 생성 및 저장
         Reels reels = Reels.builder()
             .post(post)
@@ -98,6 +116,26 @@ public class ReelsService {
             .build();
 
         reelsRepository.save(reels);
+
+        // 커밋 후 백그라운드에서 재생 정보 추출 및 faststart 처리
+        eventPublisher.publishEvent(new ReelsUploadedEvent(reels.getReelsId()));
+    }
+
+    // 백그라운드에서 읽은 재생 정보 저장
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveMetadata(Long reelsId, long filesize, Mp4Info info) {
+        Reels reels = reelsRepository.findById(reelsId).orElse(null);
+        if (reels == null) {
+            // 처리 중 게시글이 삭제된 경우
+            return;
+        }
+
+        reels.setFilesize(filesize);
+        reels.setDurationMillis(info.getDurationMillis());
+        reels.setWidth(info.getWidth());
+        reels.setHeight(info.getHeight());
+        reels.setPosterTimeMillis(info.getPosterTimeMillis());
+        reelsRepository.save(reels);
     }
 
 }
\ No newline at end of file
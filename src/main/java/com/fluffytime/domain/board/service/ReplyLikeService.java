@@ -1,11 +1,12 @@
 package com.fluffytime.domain.board.service;
 
+import com.fluffytime.domain.board.dao.LikeDao;
 import com.fluffytime.domain.board.dto.request.ReplyLikeRequest;
 import com.fluffytime.domain.board.dto.response.ReplyLikeResponse;
 import com.fluffytime.domain.board.entity.Reply;
 import com.fluffytime.domain.board.entity.ReplyLike;
-import com.fluffytime.domain.board.exception.LikeIsExists;
-import com.fluffytime.domain.board.exception.NoLikeFound;
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
+import com.fluffytime.domain.board.event.CommentsChangedEvent;
 import com.fluffytime.domain.board.repository.ReplyLikeRepository;
 import com.fluffytime.domain.board.repository.ReplyRepository;
 import com.fluffytime.domain.notification.service.NotificationService;
@@ -21,6 +22,8 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,62 +37,68 @@ public class ReplyLikeService {
     private final ReplyLikeRepository replyLikeRepository;
     private final JwtTokenizer jwtTokenizer;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeQueryService likeQueryService;
+    private final LikeDao likeDao;
 
-    //답글 좋아요 등록
+    //답글 좋아요 등록 (이미 눌렀으면 현재 상태만 반환)
+    // 답글/사용자 엔티티를 읽지 않고 INSERT 한 문장으로 처리함
     @Transactional
     public ReplyLikeResponse likeReply(Long replyId, ReplyLikeRequest requestDto) {
-
-        Reply reply = replyRepository.findById(replyId)
-            .orElseThrow(ReplyNotFound::new);
-        User user = userRepository.findById(requestDto.getUserId())
-            .orElseThrow(UserNotFound::new);
-
-        //좋아요 눌렀는지 안 눌렀는지 확인
-        if (replyLikeRepository.findByReplyAndUser(reply, user) != null) {
-            throw new LikeIsExists();
+        Long userId = requestDto.getUserId();
+
+        boolean created;
+        try {
+            created = likeDao.insert(LikeTarget.REPLY, replyId, userId);
+        } catch (DataIntegrityViolationException e) {
+            // 외래 키 오류: 답글이나 사용자가 없음 (탈퇴한 사용자의 토큰 등)
+            if (!replyRepository.existsById(replyId)) {
+                throw new ReplyNotFound();
+            }
+            throw new UserNotFound();
         }
 
-        ReplyLike replyLike = ReplyLike.builder()
-            .reply(reply)
-            .user(user)
-            .build();
-        replyLikeRepository.save(replyLike);
+        int likeCount;
+        if (created) {
+            replyRepository.addLikeCount(replyId, 1);
 
-        // 알림 생성 및 전송
-        notificationService.createLikesNotification(reply, replyLike.getUser());
+            // 알림 생성 및 전송 (새로 눌렀을 때만 답글/사용자를 읽음)
+            notificationService.createLikesNotification(replyRepository.getReferenceById(replyId),
+                userRepository.getReferenceById(userId));
 
-        int likeCount = replyLikeRepository.countByReply(reply); //현재 좋아요 수
+            publishCommentsChanged(replyId);
+
+            likeCount = likeQueryService.getCount(LikeTarget.REPLY, replyId); //현재 좋아요 수
+        } else {
+            // 이미 누름
+            likeCount = likeQueryService.getCount(LikeTarget.REPLY, replyId);
+        }
 
         return ReplyLikeResponse.builder()
-            .userId(user.getUserId())
-            .nickname(user.getNickname())
+            .userId(userId)
             .likeCount(likeCount)
             .isLiked(true)
             .build();
     }
 
-    //답글 좋아요 취소
+    //답글 좋아요 취소 (누르지 않았으면 현재 상태만 반환)
     @Transactional
-    public ReplyLikeResponse unlikeReply(Long replyId,
-        ReplyLikeRequest requestDto) {
-        Reply reply = replyRepository.findById(replyId)
-            .orElseThrow(ReplyNotFound::new);
-        User user = userRepository.findById(requestDto.getUserId())
-            .orElseThrow(UserNotFound::new);
+    public ReplyLikeResponse unlikeReply(Long replyId, ReplyLikeRequest requestDto) {
+        Long userId = requestDto.getUserId();
 
-        //좋아요를 눌렀는지 안 눌렀는지 확인
-        ReplyLike exisitingLike = replyLikeRepository.findByReplyAndUser(reply, user);
-        if (exisitingLike == null) {
-            throw new NoLikeFound();
-        }
+        int likeCount;
+        if (replyLikeRepository.deleteByReplyIdAndUserId(replyId, userId) > 0) {
+            replyRepository.addLikeCount(replyId, -1);
 
-        replyLikeRepository.delete(exisitingLike);
+            publishCommentsChanged(replyId);
 
-        int likeCount = replyLikeRepository.countByReply(reply); //현재 좋아요 수
+            likeCount = likeQueryService.getCount(LikeTarget.REPLY, replyId); //현재 좋아요 수
+        } else {
+            likeCount = likeQueryService.getCount(LikeTarget.REPLY, replyId);
+        }
 
         return ReplyLikeResponse.builder()
-            .userId(user.getUserId())
-            .nickname(user.getNickname())
+            .userId(userId)
             .likeCount(likeCount)
             .isLiked(false)
             .build();
@@ -101,11 +110,29 @@ public class ReplyLikeService {
         Reply reply = replyRepository.findById(replyId)
             .orElseThrow(ReplyNotFound::new);
 
+        int likeCount = reply.getLikeCount();
         return replyLikeRepository.findAllByReply(reply).stream()
-            .map(like -> convertToReplyLikeResponseDto(like, reply))
+            .map(like -> convertToReplyLikeResponseDto(like, likeCount))
             .collect(Collectors.toList());
     }
 
+    // 댓글 목록이 바뀌었음을 알림 (답글 엔티티를 읽지 않고 게시물 ID만 조회)
+    private void publishCommentsChanged(Long replyId) {
+        replyRepository.findPostIdByReplyId(replyId)
+            .ifPresent(postId -> eventPublisher.publishEvent(new CommentsChangedEvent(postId)));
+    }
+
+    //accessToken으로 사용자 ID 찾기 (사용자 엔티티를 읽지 않음)
+    public Long findUserIdByAccessToken(HttpServletRequest httpServletRequest) {
+        String accessToken = jwtTokenizer.getTokenFromCookie(httpServletRequest, "accessToken");
+
+        if (accessToken == null) {
+            throw new UserNotFound();
+        }
+
+        return jwtTokenizer.getUserIdFromToken(accessToken);
+    }
+
     //accessToken으로 사용자 찾기
     @Transactional
     public User findByAccessToken(HttpServletRequest httpServletRequest) {
@@ -125,12 +152,11 @@ public class ReplyLikeService {
     }
 
     //답글 좋아요 response convert
-    private ReplyLikeResponse convertToReplyLikeResponseDto(ReplyLike like,
-        Reply reply) {
+    private ReplyLikeResponse convertToReplyLikeResponseDto(ReplyLike like, int likeCount) {
         return ReplyLikeResponse.builder()
             .userId(like.getUser().getUserId())
             .nickname(like.getUser().getNickname())
-            .likeCount(replyLikeRepository.countByReply(reply))
+            .likeCount(likeCount)
             .isLiked(true)
             .profileImageurl(getProfileImageUrl(like.getUser()))
             .intro(Optional.ofNullable(like.getUser().getProfile()).map(Profile::getIntro)
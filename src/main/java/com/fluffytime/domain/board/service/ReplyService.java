@@ -4,12 +4,16 @@ import com.fluffytime.domain.board.dto.request.ReplyRequest;
 import com.fluffytime.domain.board.dto.response.ReplyResponse;
 import com.fluffytime.domain.board.entity.Comment;
 import com.fluffytime.domain.board.entity.Reply;
+import com.fluffytime.domain.board.entity.enums.LikeTarget;
+import com.fluffytime.domain.board.event.CommentsChangedEvent;
+import com.fluffytime.domain.board.event.EngagementType;
+import com.fluffytime.domain.board.event.PostEngagementEvent;
 import com.fluffytime.domain.board.repository.CommentRepository;
-import com.fluffytime.domain.board.repository.ReplyLikeRepository;
 import com.fluffytime.domain.board.repository.ReplyRepository;
 import com.fluffytime.domain.notification.service.NotificationService;
 import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.user.repository.UserRepository;
+import com.fluffytime.domain.user.service.BlockFilterService;
 import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
 import com.fluffytime.global.common.exception.global.CommentNotFound;
 import com.fluffytime.global.common.exception.global.ReplyNotFound;
@@ -17,8 +21,10 @@ import com.fluffytime.global.common.exception.global.UserNotFound;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,8 +36,10 @@ public class ReplyService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final JwtTokenizer jwtTokenizer;
-    private final ReplyLikeRepository replyLikeRepository;
+    private final LikeQueryService likeQueryService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockFilterService blockFilterService;
 
     //답글 저장
     @Transactional
@@ -47,18 +55,27 @@ public class ReplyService {
             .comment(comment)
             .build();
         Reply savedReply = replyRepository.save(reply);
+        commentRepository.addReplyCount(comment.getCommentId(), 1);
 
         // 알림 생성 및 전송
         notificationService.createRepliesNotification(comment, reply.getUser());
+
+        eventPublisher.publishEvent(
+            new PostEngagementEvent(comment.getPost().getPostId(), EngagementType.REPLY, 1));
         return savedReply;
     }
 
-    //답글 조회
+    //답글 조회 (차단한 사용자의 답글 제외)
     @Transactional
     public List<ReplyResponse> getRepliesByCommentId(Long commentId, Long currentUserId) {
-        List<Reply> replyList = replyRepository.findByCommentCommentId(commentId);
+        List<Reply> replyList = blockFilterService.forViewer(currentUserId)
+            .filter(replyRepository.findByCommentCommentId(commentId),
+                reply -> reply.getUser().getUserId());
+        Set<Long> likedReplyIds = likeQueryService.findLiked(LikeTarget.REPLY, currentUserId,
+            replyList.stream().map(Reply::getReplyId).toList());
         return replyList.stream()
-            .map(reply -> convertToReplyResponseDto(reply, currentUserId))
+            .map(reply -> convertToReplyResponseDto(reply, currentUserId,
+                likedReplyIds.contains(reply.getReplyId())))
             .collect(Collectors.toList());
     }
 
@@ -69,6 +86,9 @@ public class ReplyService {
             .orElseThrow(ReplyNotFound::new);
         reply.setContent(content);
         replyRepository.save(reply);
+
+        eventPublisher.publishEvent(
+            new CommentsChangedEvent(reply.getComment().getPost().getPostId()));
     }
 
     //답글 삭제
@@ -77,6 +97,11 @@ public class ReplyService {
         Reply reply = replyRepository.findById(replyId)
             .orElseThrow(ReplyNotFound::new);
         replyRepository.delete(reply);
+        commentRepository.addReplyCount(reply.getComment().getCommentId(), -1);
+
+        eventPublisher.publishEvent(new PostEngagementEvent(
+            reply.getComment().getPost().getPostId(), EngagementType.REPLY, -1,
+            reply.getCreatedAt()));
     }
 
     //accessToken으로 사용자 찾기
@@ -103,11 +128,13 @@ public class ReplyService {
         Reply reply = replyRepository.findById(replyId)
             .orElseThrow(ReplyNotFound::new);
 
-        return convertToReplyResponseDto(reply, currentUserId);
+        return convertToReplyResponseDto(reply, currentUserId,
+            likeQueryService.isLiked(LikeTarget.REPLY, replyId, currentUserId));
     }
 
     //답글 response convert
-    private ReplyResponse convertToReplyResponseDto(Reply reply, Long currentUserId) {
+    private ReplyResponse convertToReplyResponseDto(Reply reply, Long currentUserId,
+        boolean isLiked) {
         return ReplyResponse.builder()
             .replyId(reply.getReplyId())
             .userId(reply.getUser().getUserId())
@@ -116,9 +143,8 @@ public class ReplyService {
             .createdAt(reply.getCreatedAt())
             .isAuthor(reply.getUser().getUserId().equals(currentUserId))
             .profileImageurl(getProfileImageUrl(reply.getUser()))
-            .likeCount(reply.getLikes().size())
-            .isLiked(reply.getLikes().stream()
-                .anyMatch(like -> like.getUser().getUserId().equals(currentUserId)))
+            .likeCount(reply.getLikeCount())
+            .isLiked(isLiked)
             .build();
     }
 
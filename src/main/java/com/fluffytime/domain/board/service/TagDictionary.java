@@ -0,0 +1,74 @@
+package com.fluffytime.domain.board.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 태그 이름 -> ID 캐시 (프로세스 전체에서 공유)
+// 태그는 이름이 바뀌거나 삭제되지 않으므로 만료 없이 최근에 쓴 태그만 용량만큼 유지함
+// 자주 쓰는 태그는 게시물 저장 시 MySQL 조회 없이 ID 를 얻음
+@Service
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    private final TagWriter tagWriter;
+
+    @Value("${tag.cache.capacity:10000}")
+    private int capacity;
+
+    private final Map<String, Long> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    // 이름별 태그 ID (없는 태그는 만들어서 반환)
+    public Map<String, Long> resolve(Collection<String> names) {
+        Map<String, Long> ids = findCached(names);
+        List<String> missing = names.stream().filter(name -> !ids.containsKey(name)).toList();
+        if (missing.isEmpty()) {
+            return ids;
+        }
+
+        // 다른 요청이 같은 태그를 먼저 만들었어도 TagWriter 가 그 태그의 ID 를 찾아 돌려줌
+        ids.putAll(cacheAll(tagWriter.findOrCreate(missing)));
+        return ids;
+    }
+
+    // 이름별 태그 ID (없는 태그는 만들지 않고 결과에서 빠짐)
+    // "Cat" 과 "cat" 처럼 MySQL 비교 규칙상 같은 이름은 같은 ID 로 찾아짐
+    public Map<String, Long> find(Collection<String> names) {
+        Map<String, Long> ids = findCached(names);
+        List<String> missing = names.stream().filter(name -> !ids.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            ids.putAll(cacheAll(tagWriter.findIds(missing)));
+        }
+        return ids;
+    }
+
+    private Map<String, Long> findCached(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        synchronized (cache) {
+            for (String name : names) {
+                Long id = cache.get(name);
+                if (id != null) {
+                    ids.put(name, id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, Long> cacheAll(Map<String, Long> found) {
+        synchronized (cache) {
+            cache.putAll(found);
+        }
+        return found;
+    }
+}
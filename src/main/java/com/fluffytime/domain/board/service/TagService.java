@@ -1,16 +1,20 @@
 package com.fluffytime.domain.board.service;
 
 import com.fluffytime.domain.board.entity.Post;
-import com.fluffytime.domain.board.entity.Tag;
 import com.fluffytime.domain.board.entity.TagPost;
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.PostTagsChangedEvent;
 import com.fluffytime.domain.board.repository.PostRepository;
 import com.fluffytime.domain.board.repository.TagPostRepository;
 import com.fluffytime.domain.board.repository.TagRepository;
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,31 +26,45 @@ public class TagService {
     private final TagRepository tagRepository;
     private final TagPostRepository tagPostRepository;
     private final PostRepository postRepository;
+    private final TagDictionary tagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 바뀐 태그 연결만 추가/삭제 (추가/삭제는 flush 시 Post.tagPosts cascade 로 묶어서 실행됨)
     @Transactional
     public void regTags(List<String> tags, Post post) {
-        tagPostRepository.deleteAllByPost(post);
-        post.getTagPosts().clear();
+        // 편집 시 기존 태그를 한 번에 읽음 (연결마다 태그를 따로 조회하지 않도록)
+        if (post.getPostId() != null && !Hibernate.isInitialized(post.getTagPosts())) {
+            tagPostRepository.findAllWithTagByPost(post);
+        }
+        Set<Long> oldTagIds = new LinkedHashSet<>();
+        post.getTagPosts().forEach(tagPost -> oldTagIds.add(tagPost.getTag().getTagId()));
 
+        // 같은 태그인지는 이름이 아니라 태그 ID 로 판단 (MySQL 비교 규칙상 "Cat" 과 "cat" 은 같은 태그)
+        // 태그 ID 는 캐시에서 찾고 없는 태그는 만듦
+        Map<String, Long> tagIds = tags.isEmpty() ? Map.of() : tagDictionary.resolve(tags);
+        Set<Long> newTagIds = new LinkedHashSet<>();
         for (String name : tags) {
-            Tag tag = tagRepository.findByTagName(name);
-            if (tag == null) {
-                tag = Tag.builder()
-                .tagName(name)
-                .build();
-
-                tagRepository.save(tag);
-            }
-
-            TagPost tagPost = TagPost.builder()
-                .tag(tag)
-                .post(post)
-                .build();
+            newTagIds.add(tagIds.get(name));
+        }
 
-            post.getTagPosts().add(tagPost);
-            tag.getTagPosts().add(tagPost);
+        // 빠진 태그 연결 삭제 (orphanRemoval)
+        post.getTagPosts()
+            .removeIf(tagPost -> !newTagIds.contains(tagPost.getTag().getTagId()));
 
-            tagPostRepository.save(tagPost);
+        // 새로 달린 태그 연결 추가
+        for (Long tagId : newTagIds) {
+            if (!oldTagIds.contains(tagId)) {
+                TagPost tagPost = TagPost.builder()
+                    .tag(tagRepository.getReferenceById(tagId))
+                    .post(post)
+                    .build();
+                post.getTagPosts().add(tagPost);
+            }
         }
+
+        // 커밋 후 태그별 탐색 타임라인 갱신 (입력한 표기가 아니라 태그 ID 로 전달)
+        eventPublisher.publishEvent(new PostTagsChangedEvent(post.getPostId(), post.getCreatedAt(),
+            post.getTempStatus() == TempStatus.SAVE, List.copyOf(oldTagIds),
+            List.copyOf(newTagIds)));
     }
 }
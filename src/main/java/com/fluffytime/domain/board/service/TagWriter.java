@@ -0,0 +1,69 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.entity.Tag;
+import com.fluffytime.domain.board.repository.TagRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 새 태그 저장 (TagDictionary 에서 사용)
+@Service
+@RequiredArgsConstructor
+public class TagWriter {
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이름으로 태그 ID 조회, 없는 태그는 한 번에 저장 (배치 insert)
+    // 새 트랜잭션에서 바로 커밋하므로 게시물 저장이 끝나기 전에도 다른 요청이 같은 태그를 쓸 수 있음
+    // 같은 태그가 이미 있거나 동시에 만들어지면 insert 는 넘어가고(Tag 의 ON DUPLICATE KEY) 다시 조회한 ID 를 씀
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<String, Long> findOrCreate(Collection<String> names) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(names));
+        Map<String, Long> ids = findIds(distinct);
+
+        List<Tag> created = distinct.stream()
+            .filter(name -> !ids.containsKey(name))
+            .map(name -> Tag.builder().tagName(name).build())
+            .toList();
+        if (!created.isEmpty()) {
+            tagRepository.saveAll(created);
+            tagRepository.flush();
+            ids.putAll(findIds(created.stream().map(Tag::getTagName).toList()));
+        }
+        return ids;
+    }
+
+    // 이름마다 같은 태그로 보는 행의 ID (없는 이름은 결과에서 빠짐)
+    // 비교는 MySQL 이 컬럼 비교 규칙(대소문자/악센트/전각 무시)으로 하므로
+    // "Cat", "cat", "café", "cafe" 처럼 유니크 키에서 같은 값인 이름은 모두 같은 ID 로 찾아짐
+    public Map<String, Long> findIds(List<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+
+        // 이름마다 유니크 인덱스로 한 행을 찾는 조회를 UNION ALL 로 묶어 한 번에 보냄
+        StringBuilder sql = new StringBuilder();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT ").append(i).append(" AS idx, tag_id FROM tags WHERE tag_name = ?");
+        }
+        jdbcTemplate.query(sql.toString(),
+            rs -> {
+                ids.put(names.get(rs.getInt("idx")), rs.getLong("tag_id"));
+            },
+            names.toArray());
+        return ids;
+    }
+}
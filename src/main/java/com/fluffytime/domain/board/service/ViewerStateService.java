@@ -0,0 +1,84 @@
+package com.fluffytime.domain.board.service;
+
+import com.fluffytime.domain.board.dto.response.ViewerStateResponse;
+import com.fluffytime.domain.board.exception.TooManyPosts;
+import com.fluffytime.domain.board.repository.BookmarkRepository;
+import com.fluffytime.domain.board.repository.PostLikeRepository;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.user.repository.FollowRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 여러 게시물에 대한 현재 사용자 상태(좋아요/북마크/작성자 팔로우 여부)를 한 번에 조회
+// 게시물마다 따로 조회하지 않고 관계마다 IN 쿼리 한 번으로 가져옴 (게시물 수와 관계없이 최대 4번)
+@Service
+@RequiredArgsConstructor
+public class ViewerStateService {
+
+    // 한 번에 조회할 수 있는 게시물 수
+    private static final int MAX_POST_COUNT = 100;
+
+    private final PostRepository postRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final FollowRepository followRepository;
+
+    // 요청으로 받은 게시물 ID 목록 조회 (최대 MAX_POST_COUNT 개)
+    @Transactional(readOnly = true)
+    public Map<Long, ViewerStateResponse> getViewerStates(Long userId, List<Long> postIds) {
+        if (new HashSet<>(postIds).size() > MAX_POST_COUNT) {
+            throw new TooManyPosts();
+        }
+        return findViewerStates(userId, postIds);
+    }
+
+    // postId -> 상태 (없는 게시물은 결과에서 빠짐, 로그인하지 않았으면 모두 false)
+    @Transactional(readOnly = true)
+    public Map<Long, ViewerStateResponse> findViewerStates(Long userId, Collection<Long> postIds) {
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        // 게시물별 작성자 (없는 게시물 걸러내기)
+        Map<Long, Long> authorIds = new HashMap<>();
+        for (Object[] row : postRepository.findAuthorIds(ids)) {
+            authorIds.put((Long) row[0], (Long) row[1]);
+        }
+
+        Set<Long> liked = Set.of();
+        Set<Long> bookmarked = Set.of();
+        Set<Long> followedAuthors = Set.of();
+        if (userId != null && !authorIds.isEmpty()) {
+            liked = new HashSet<>(postLikeRepository.findLikedPostIdsIn(userId, authorIds.keySet()));
+            bookmarked = new HashSet<>(
+                bookmarkRepository.findBookmarkedPostIdsIn(userId, authorIds.keySet()));
+            followedAuthors = new HashSet<>(followRepository.findFollowingIdsIn(userId,
+                new ArrayList<>(new HashSet<>(authorIds.values()))));
+        }
+
+        Map<Long, ViewerStateResponse> states = new LinkedHashMap<>();
+        for (Long postId : ids) {
+            Long authorId = authorIds.get(postId);
+            if (authorId == null) {
+                continue;
+            }
+            states.put(postId, new ViewerStateResponse(
+                liked.contains(postId),
+                bookmarked.contains(postId),
+                followedAuthors.contains(authorId)
+            ));
+        }
+        return states;
+    }
+}
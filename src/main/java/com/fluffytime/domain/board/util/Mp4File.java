@@ -0,0 +1,393 @@
+package com.fluffytime.domain.board.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// MP4(ISO BMFF) / QuickTime 파일의 박스 구조를 직접 읽는 유틸
+// 재생 정보(길이, 해상도, 대표 프레임 위치)를 구하고,
+// 파일 끝에 있는 moov 박스를 앞으로 옮겨(faststart) 전체를 받기 전에 재생을 시작할 수 있게 함
+public final class Mp4File {
+
+    // 이보다 큰 moov 박스는 메모리에 올리지 않음 (일반적인 짧은 영상은 수백 KB)
+    private static final long MAX_MOOV_SIZE = 64L * 1024 * 1024;
+    // 대표 프레임은 1초 (영상이 짧으면 가운데) 이후 첫 키프레임
+    private static final long POSTER_TARGET_MILLIS = 1000;
+
+    private final Path path;
+    private final List<Box> boxes; // 최상위 박스 (파일 순서)
+    private final Box moov;
+    private final Box mdat; // 첫번째 mdat
+    private final ByteBuffer moovData; // moov 박스 전체 (헤더 포함)
+
+    // 박스 위치 정보 (offset 은 파일 또는 moov 버퍼 안의 위치)
+    @Getter
+    @AllArgsConstructor
+    public static class Box {
+
+        private String type;
+        private long offset;
+        private long size;
+        private int headerSize;
+
+        long end() {
+            return offset + size;
+        }
+    }
+
+    // 영상 정보
+    @Getter
+    @AllArgsConstructor
+    public static class Mp4Info {
+
+        private long durationMillis;
+        private Integer width;
+        private Integer height;
+        private Long posterTimeMillis;
+        private boolean faststart; // moov 가 mdat 앞에 있는지
+    }
+
+    private Mp4File(Path path, List<Box> boxes, Box moov, Box mdat, ByteBuffer moovData) {
+        this.path = path;
+        this.boxes = boxes;
+        this.moov = moov;
+        this.mdat = mdat;
+        this.moovData = moovData;
+    }
+
+    // 최상위 박스를 읽음, MP4 형식이 아니거나 잘린 파일이면 빈 값
+    public static Optional<Mp4File> open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            List<Box> boxes = new ArrayList<>();
+            Box moov = null;
+            Box mdat = null;
+
+            long offset = 0;
+            while (offset + 8 <= fileSize) {
+                ByteBuffer header = read(channel, offset, (int) Math.min(16, fileSize - offset));
+                Box box = parseHeader(header, 0, offset, fileSize - offset);
+                if (box == null) {
+                    return Optional.empty();
+                }
+                boxes.add(box);
+                if (box.getType().equals("moov") && moov == null) {
+                    moov = box;
+                } else if (box.getType().equals("mdat") && mdat == null) {
+                    mdat = box;
+                }
+                offset = box.end();
+            }
+
+            if (boxes.isEmpty() || moov == null || mdat == null || moov.getSize() > MAX_MOOV_SIZE) {
+                return Optional.empty();
+            }
+
+            ByteBuffer moovData = read(channel, moov.getOffset(), (int) moov.getSize());
+            return Optional.of(new Mp4File(path, boxes, moov, mdat, moovData));
+        }
+    }
+
+    public Mp4Info info() {
+        long durationMillis = 0;
+        Integer width = null;
+        Integer height = null;
+        Long posterTimeMillis = null;
+
+        Box mvhd = findChild(moovBox(), "mvhd");
+        if (mvhd != null) {
+            int body = (int) mvhd.getOffset() + mvhd.getHeaderSize();
+            int version = moovData.get(body) & 0xff;
+            long timescale = version == 1 ? uint32(body + 20) : uint32(body + 12);
+            long duration = version == 1 ? moovData.getLong(body + 24) : uint32(body + 16);
+            durationMillis = timescale > 0 ? duration * 1000 / timescale : 0;
+        }
+
+        // 첫번째 영상 트랙에서 해상도와 대표 프레임 위치를 구함
+        for (Box trak : children(moovBox(), "trak")) {
+            Box mdia = findChild(trak, "mdia");
+            Box hdlr = mdia == null ? null : findChild(mdia, "hdlr");
+            if (hdlr == null || !type((int) hdlr.getOffset() + hdlr.getHeaderSize() + 8).equals("vide")) {
+                continue;
+            }
+
+            Box tkhd = findChild(trak, "tkhd");
+            if (tkhd != null) {
+                int body = (int) tkhd.getOffset() + tkhd.getHeaderSize();
+                int sizeOffset = (moovData.get(body) & 0xff) == 1 ? 88 : 76;
+                // 16.16 고정소수점
+                width = (int) (uint32(body + sizeOffset) >> 16);
+                height = (int) (uint32(body + sizeOffset + 4) >> 16);
+            }
+
+            Box mdhd = findChild(mdia, "mdhd");
+            Box stbl = findPath(mdia, "minf", "stbl");
+            if (mdhd != null && stbl != null) {
+                int body = (int) mdhd.getOffset() + mdhd.getHeaderSize();
+                long timescale = (moovData.get(body) & 0xff) == 1 ? uint32(body + 20) : uint32(body + 12);
+                long target = Math.min(POSTER_TARGET_MILLIS, durationMillis / 2);
+                posterTimeMillis = posterTime(stbl, timescale, target);
+            }
+            break;
+        }
+
+        return new Mp4Info(durationMillis, width, height, posterTimeMillis,
+            moov.getOffset() < mdat.getOffset());
+    }
+
+    // moov 를 첫번째 mdat 앞으로 옮긴 파일을 target 에 씀
+    // 청크 위치(stco/co64)를 옮긴 만큼 고쳐야 하며, 32비트 범위를 넘으면 옮기지 않고 false 반환
+    public boolean writeFaststart(Path target) throws IOException {
+        if (moov.getOffset() < mdat.getOffset()) {
+            return false;
+        }
+
+        ByteBuffer patched = ByteBuffer.allocate(moovData.capacity());
+        patched.put(moovData.duplicate().clear()).flip();
+        for (Box trak : children(moovBox(), "trak")) {
+            Box stbl = findPath(trak, "mdia", "minf", "stbl");
+            if (stbl == null) {
+                continue;
+            }
+            for (Box chunkOffsets : children(stbl, null)) {
+                if (!patchChunkOffsets(patched, chunkOffsets)) {
+                    return false;
+                }
+            }
+        }
+
+        try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ);
+            FileChannel output = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // mdat 앞의 박스(ftyp 등) → moov → 나머지 박스 순서로 씀
+            for (Box box : boxes) {
+                if (box.getOffset() < mdat.getOffset() && box != moov) {
+                    transfer(source, box, output);
+                }
+            }
+            while (patched.hasRemaining()) {
+                output.write(patched);
+            }
+            for (Box box : boxes) {
+                if (box.getOffset() >= mdat.getOffset() && box != moov) {
+                    transfer(source, box, output);
+                }
+            }
+        }
+        return true;
+    }
+
+    // mdat 데이터가 moov 크기만큼 뒤로 밀림 (원래 moov 뒤에 있던 데이터는 그대로)
+    private boolean patchChunkOffsets(ByteBuffer buffer, Box box) {
+        int body = (int) box.getOffset() + box.getHeaderSize();
+        long shift = moov.getSize();
+        if (box.getType().equals("stco")) {
+            long count = tableCount(box, 4);
+            for (int i = 0; i < count; i++) {
+                int position = body + 8 + i * 4;
+                long chunkOffset = buffer.getInt(position) & 0xffffffffL;
+                if (chunkOffset < moov.getOffset()) {
+                    chunkOffset += shift;
+                    if (chunkOffset > 0xffffffffL) {
+                        return false;
+                    }
+                    buffer.putInt(position, (int) chunkOffset);
+                }
+            }
+        } else if (box.getType().equals("co64")) {
+            long count = tableCount(box, 8);
+            for (int i = 0; i < count; i++) {
+                int position = body + 8 + i * 8;
+                long chunkOffset = buffer.getLong(position);
+                if (chunkOffset < moov.getOffset()) {
+                    buffer.putLong(position, chunkOffset + shift);
+                }
+            }
+        }
+        return true;
+    }
+
+    // 목표 시각 이후 첫번째 키프레임(sync sample)의 시각
+    // stts 로 샘플별 시각을, stss 로 키프레임 번호를 구함 (stss 가 없으면 모든 샘플이 키프레임)
+    // 샘플 수는 파일에 적힌 값을 그대로 믿을 수 없으므로 샘플마다 돌지 않고 stts 항목(같은 간격의 샘플 묶음)마다 계산함
+    // (반복 횟수는 박스 크기로 제한한 stts 항목 수 + stss 항목 수를 넘지 않음)
+    private Long posterTime(Box stbl, long timescale, long targetMillis) {
+        Box stts = findChild(stbl, "stts");
+        if (stts == null || timescale <= 0) {
+            return null;
+        }
+        Box stss = findChild(stbl, "stss");
+
+        int sttsBody = (int) stts.getOffset() + stts.getHeaderSize();
+        long entryCount = tableCount(stts, 8);
+        int stssBody = stss == null ? 0 : (int) stss.getOffset() + stss.getHeaderSize();
+        long syncCount = stss == null ? 0 : tableCount(stss, 4);
+        int syncIndex = 0;
+
+        long target = targetMillis * timescale / 1000;
+        long firstSample = 1;
+        long startTime = 0;
+        Long lastSyncTime = null;
+        try {
+            for (int i = 0; i < entryCount; i++) {
+                long sampleCount = uint32(sttsBody + 8 + i * 8);
+                long delta = uint32(sttsBody + 12 + i * 8);
+                if (sampleCount == 0) {
+                    continue;
+                }
+                long lastSample = firstSample + sampleCount - 1;
+
+                if (stss == null) {
+                    // 모든 샘플이 키프레임: 목표 시각 이후 첫 샘플을 바로 계산
+                    long index = startTime >= target ? 0
+                        : delta == 0 ? sampleCount : ceilDiv(target - startTime, delta);
+                    if (index < sampleCount) {
+                        return toMillis(Math.addExact(startTime, Math.multiplyExact(index, delta)),
+                            timescale);
+                    }
+                    lastSyncTime = Math.addExact(startTime,
+                        Math.multiplyExact(sampleCount - 1, delta));
+                } else {
+                    // 이 묶음에 속한 키프레임만 확인
+                    while (syncIndex < syncCount) {
+                        long syncSample = uint32(stssBody + 8 + syncIndex * 4);
+                        if (syncSample > lastSample) {
+                            break;
+                        }
+                        syncIndex++;
+                        if (syncSample < firstSample) {
+                            continue;
+                        }
+                        long time = Math.addExact(startTime,
+                            Math.multiplyExact(syncSample - firstSample, delta));
+                        if (time >= target) {
+                            return toMillis(time, timescale);
+                        }
+                        lastSyncTime = time;
+                    }
+                    if (syncIndex >= syncCount) {
+                        break;
+                    }
+                }
+
+                firstSample = lastSample + 1;
+                startTime = Math.addExact(startTime, Math.multiplyExact(sampleCount, delta));
+            }
+        } catch (ArithmeticException e) {
+            // 시각이 long 범위를 넘는 잘못된 값, 그 전까지 찾은 키프레임을 씀
+        }
+        return lastSyncTime == null ? 0L : toMillis(lastSyncTime, timescale);
+    }
+
+    // 표 형식 박스(버전/플래그 4 + 항목 수 4 + 항목들)의 항목 수, 박스 크기를 넘는 값은 잘라냄
+    private long tableCount(Box box, int entrySize) {
+        int body = (int) box.getOffset() + box.getHeaderSize();
+        if (box.end() < body + 8) {
+            return 0;
+        }
+        return Math.min(uint32(body + 4), (box.end() - body - 8) / entrySize);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    private static long toMillis(long time, long timescale) {
+        return time / timescale * 1000 + time % timescale * 1000 / timescale;
+    }
+
+    private Box moovBox() {
+        return new Box("moov", 0, moovData.capacity(), moov.getHeaderSize());
+    }
+
+    private Box findPath(Box parent, String... types) {
+        Box box = parent;
+        for (String type : types) {
+            box = findChild(box, type);
+            if (box == null) {
+                return null;
+            }
+        }
+        return box;
+    }
+
+    private Box findChild(Box parent, String type) {
+        List<Box> found = children(parent, type);
+        return found.isEmpty() ? null : found.getFirst();
+    }
+
+    // 하위 박스 목록 (type 이 null 이면 전부)
+    private List<Box> children(Box parent, String type) {
+        List<Box> found = new ArrayList<>();
+        long offset = parent.getOffset() + parent.getHeaderSize();
+        while (offset + 8 <= parent.end()) {
+            Box box = parseHeader(moovData, (int) offset, offset, parent.end() - offset);
+            if (box == null) {
+                break;
+            }
+            if (type == null || box.getType().equals(type)) {
+                found.add(box);
+            }
+            offset = box.end();
+        }
+        return found;
+    }
+
+    // 박스 헤더: 크기(4) + 타입(4) [+ 64비트 크기(8)], 크기 0 은 끝까지
+    private static Box parseHeader(ByteBuffer buffer, int position, long offset, long remaining) {
+        long size = buffer.getInt(position) & 0xffffffffL;
+        String type = new String(new byte[]{buffer.get(position + 4), buffer.get(position + 5),
+            buffer.get(position + 6), buffer.get(position + 7)}, StandardCharsets.ISO_8859_1);
+        int headerSize = 8;
+        if (size == 1) {
+            if (buffer.limit() < position + 16) {
+                return null;
+            }
+            size = buffer.getLong(position + 8);
+            headerSize = 16;
+        } else if (size == 0) {
+            size = remaining;
+        }
+        if (size < headerSize || size > remaining) {
+            return null;
+        }
+        return new Box(type, offset, size, headerSize);
+    }
+
+    private long uint32(int position) {
+        return moovData.getInt(position) & 0xffffffffL;
+    }
+
+    private String type(int position) {
+        return new String(new byte[]{moovData.get(position), moovData.get(position + 1),
+            moovData.get(position + 2), moovData.get(position + 3)}, StandardCharsets.ISO_8859_1);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length)
+        throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("예상보다 파일이 짧음");
+            }
+        }
+        return buffer.flip();
+    }
+
+    // 커널에서 바로 복사 (힙에 올리지 않음)
+    private static void transfer(FileChannel source, Box box, FileChannel output)
+        throws IOException {
+        long position = box.getOffset();
+        while (position < box.end()) {
+            position += source.transferTo(position, box.end() - position, output);
+        }
+    }
+}
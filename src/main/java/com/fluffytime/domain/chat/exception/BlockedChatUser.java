@@ -0,0 +1,10 @@
+package com.fluffytime.domain.chat.exception;
+
+import com.fluffytime.global.common.exception.business.FluffyException;
+
+public class BlockedChatUser extends FluffyException {
+
+    public BlockedChatUser() {
+        super(ChatErrorCode.BLOCKED_CHAT_USER);
+    }
+}
@@ -9,7 +9,8 @@ import org.springframework.http.HttpStatus;
 @AllArgsConstructor
 public enum ChatErrorCode implements ErrorCode {
 
-    CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "DM-001", "메시지방이 없습니다.");
+    CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "DM-001", "메시지방이 없습니다."),
+    BLOCKED_CHAT_USER(HttpStatus.FORBIDDEN, "DM-002", "차단한 사용자와는 메시지를 주고받을 수 없습니다.");
     private final HttpStatus httpStatus;
     private final String code;
     private final String message;
@@ -31,6 +31,7 @@ public class CustomHandshakeInterceptor extends HttpSessionHandshakeInterceptor
         User user = userLookupService.findByAccessToken(servletRequest);
 
         attributes.put("SENDER_USER_NICKNAME", user.getNickname()); // 속성맵에 보내는이 유저 객체 추가하기
+        attributes.put("SENDER_USER_ID", user.getUserId()); // 차단 여부 확인용 보내는이 유저 ID
         return super.beforeHandshake(request, response, wsHandler,
             attributes); // 부모 클래스의 beforeHandshake 메서드를 호출하고 결과 반환
     }
@@ -6,12 +6,15 @@ import com.fluffytime.domain.chat.dto.response.ChatRoomListResponse;
 import com.fluffytime.domain.chat.dto.response.RecipientInfoResponse;
 import com.fluffytime.domain.chat.entity.Chat;
 import com.fluffytime.domain.chat.entity.ChatRoom;
+import com.fluffytime.domain.chat.exception.BlockedChatUser;
 import com.fluffytime.domain.chat.exception.ChatRoomNotFound;
 import com.fluffytime.domain.chat.repository.ChatRoomRepository;
 import com.fluffytime.domain.chat.repository.MessageRepository;
 import com.fluffytime.domain.user.entity.Profile;
 import com.fluffytime.domain.user.entity.ProfileImages;
 import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.domain.user.service.BlockFilter;
+import com.fluffytime.domain.user.service.BlockFilterService;
 import com.fluffytime.domain.user.service.MypageService;
 import com.fluffytime.domain.user.service.UserLookupService;
 import com.fluffytime.domain.user.service.UserPageService;
@@ -41,6 +44,7 @@ public class ChatService {
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final RedisMessageSubscriber redisMessageSubscriber;
     private final UserLookupService userLookupService;
+    private final BlockFilterService blockFilterService;
 
     // 프로필 사진 찾기
     @Transactional
@@ -88,9 +92,13 @@ public class ChatService {
         Set<Long> recipientIds = chatRoomRepository.findAllOtherParticipants(user.getUserId())
             .orElse(null);
         Set<String> recipientList = new HashSet<>();
-        // 수신자들의 id를 닉네임으로 변환하여 Set에 저장
+        // 수신자들의 id를 닉네임으로 변환하여 Set에 저장 (차단한 사용자 제외)
         if (recipientIds != null) {
+            BlockFilter blockFilter = blockFilterService.forViewer(user.getUserId());
             for (Long recipientId : recipientIds) {
+                if (blockFilter.isBlocked(recipientId)) {
+                    continue;
+                }
                 String nickname = userLookupService.findUserById(recipientId).getNickname();
                 recipientList.add(nickname);
             }
@@ -234,6 +242,11 @@ public class ChatService {
         } else {
             throw new UserNotFound();
         }
+
+        // 둘 중 한 명이라도 상대를 차단했다면 채팅방을 만들지 않음
+        if (blockFilterService.isBlockedEitherWay(user1.getUserId(), user2.getUserId())) {
+            throw new BlockedChatUser();
+        }
         return createResponseDto(creatChatRoom(users), true);
     }
 
@@ -1,5 +1,6 @@
 package com.fluffytime.domain.chat.service;
 
+import com.fluffytime.domain.user.service.BlockFilterService;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 public class MyWebSocketHandler extends TextWebSocketHandler {
 
     private final RedisMessagePublisher redisMessagePublisher; // Redis로 메시지를 발행하기 위한 객체
+    private final BlockFilterService blockFilterService; // 차단 여부 확인
 
 
     // 발신자의 유저 이름 조회
@@ -22,6 +24,26 @@ public class MyWebSocketHandler extends TextWebSocketHandler {
         return (String) session.getAttributes().get("SENDER_USER_NICKNAME");
     }
 
+    // 발신자의 유저 ID 조회
+    private Long getSenderId(WebSocketSession session) {
+        return (Long) session.getAttributes().get("SENDER_USER_ID");
+    }
+
+    // 채널명(chat_{userId}_{userId})에서 상대방 유저 ID 찾기
+    private Long getRecipientId(String chatRoomName, Long senderId) {
+        String[] participants = chatRoomName.split("_");
+        if (participants.length != 3 || senderId == null) {
+            return null;
+        }
+        String recipient = participants[1].equals(senderId.toString())
+            ? participants[2] : participants[1];
+        try {
+            return Long.parseLong(recipient);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     // 채널명 가져오기
     private String getChatRoomNameFromSession(WebSocketSession session) {
         // URL 쿼리 파라미터에서 채팅방 이름을 가져오기
@@ -50,6 +72,13 @@ public class MyWebSocketHandler extends TextWebSocketHandler {
         // 세션에서 채팅방 이름을 가져오기
         String chatRoomName = getChatRoomNameFromSession(session);
 
+        // 상대방이 발신자를 차단했다면 메시지를 전달하지 않음
+        Long senderId = getSenderId(session);
+        if (blockFilterService.isBlocked(getRecipientId(chatRoomName, senderId), senderId)) {
+            log.info("차단된 사용자의 메시지 전달 안 함, room: " + chatRoomName);
+            return;
+        }
+
         String formattedMessage = nickname + ": " + payload; // 사용자 이름과 메시지를 조합한 문자열 생성
         log.info("Received message: " + formattedMessage); // 수신한 메시지를 콘솔에 출력
 
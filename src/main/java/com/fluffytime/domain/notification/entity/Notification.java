@@ -4,6 +4,7 @@ import com.fluffytime.domain.board.entity.Comment;
 import com.fluffytime.domain.board.entity.Post;
 import com.fluffytime.domain.board.entity.Reply;
 import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.global.config.jpa.PooledIds;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -31,7 +33,10 @@ import org.hibernate.annotations.CreationTimestamp;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications_id")
+    @TableGenerator(name = "notifications_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "notifications", allocationSize = PooledIds.ALLOCATION_SIZE)
     @Column(name = "notification_id", nullable = false)
     private Long notificationId;
 
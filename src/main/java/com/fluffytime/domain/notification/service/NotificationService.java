@@ -12,6 +12,7 @@ import com.fluffytime.domain.notification.repository.NotificationRepository;
 import com.fluffytime.domain.user.entity.Profile;
 import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.user.repository.UserRepository;
+import com.fluffytime.domain.user.service.BlockFilterService;
 import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
 import com.fluffytime.global.common.exception.global.UserNotFound;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,6 +35,7 @@ public class NotificationService {
     private final UserRepository userRepository;
     private final SseEmitters sseEmitters;
     private final JwtTokenizer jwtTokenizer;
+    private final BlockFilterService blockFilterService;
 
     public SseEmitter createSseEmitter(NotificationRequest requestDto) {
         User user = userRepository.findById(requestDto.getUserId())
@@ -50,6 +52,11 @@ public class NotificationService {
             return; // 알림을 생성하지 않음
         }
 
+        // 게시글 작성자가 댓글 작성자를 차단한 경우 알림을 생성하지 않음
+        if (blockFilterService.isBlocked(post.getUser().getUserId(), commentAuthor.getUserId())) {
+            return;
+        }
+
         String message = commentAuthor.getNickname() + "님이 회원님의 게시글에 댓글을 달았습니다";
         User user = userRepository.findById(post.getUser().getUserId())
             .orElseThrow(UserNotFound::new);
@@ -78,6 +85,11 @@ public class NotificationService {
             return; // 알림을 생성하지 않음
         }
 
+        // 댓글 작성자가 답글 작성자를 차단한 경우 알림을 생성하지 않음
+        if (blockFilterService.isBlocked(comment.getUser().getUserId(), replyAuthor.getUserId())) {
+            return;
+        }
+
         String message = replyAuthor.getNickname() + "님이 회원님의 댓글에 답글을 달았습니다";
         User user = userRepository.findById(comment.getUser().getUserId())
             .orElseThrow(UserNotFound::new);
@@ -149,6 +161,11 @@ public class NotificationService {
             throw new IllegalArgumentException("Unsupported target type for like notification");
         }
 
+        // 작성자가 좋아요를 누른 사용자를 차단한 경우 알림 생성하지 않음
+        if (blockFilterService.isBlocked(targetUser.getUserId(), likeAuthor.getUserId())) {
+            return;
+        }
+
         Notification notification = Notification.builder()
             .message(message)
             .isRead(false)
@@ -195,6 +212,11 @@ public class NotificationService {
             return;
         }
 
+        // 멘션된 사용자가 작성자를 차단한 경우 알림을 생성하지 않음
+        if (blockFilterService.isBlocked(mentionedUser.getUserId(), targetUser.getUserId())) {
+            return;
+        }
+
         Notification notification = Notification.builder()
             .message(message)
             .isRead(false)
@@ -215,6 +237,11 @@ public class NotificationService {
     // 팔로우 알림 생성
     @Transactional
     public void createFollowNotification(User followingUser, User followedUser) {
+        // 팔로우 당한 사용자가 팔로우한 사용자를 차단한 경우 알림을 생성하지 않음
+        if (blockFilterService.isBlocked(followedUser.getUserId(), followingUser.getUserId())) {
+            return;
+        }
+
         String message = followingUser.getNickname() + "님이 회원님을 팔로우했습니다";
 
         Notification notification = Notification.builder()
@@ -249,6 +276,10 @@ public class NotificationService {
         List<Notification> notifications = notificationRepository.findByUserOrderByIsReadAscCreatedAtDesc(
             user);
 
+        // 차단한 사용자가 보낸 알림 제외
+        notifications = blockFilterService.forViewer(user.getUserId()).filter(notifications,
+            notification -> notification.getSender() != null ? notification.getSender().getUserId() : null);
+
         return notifications.stream()
             .map(this::convertToDto)
             .collect(Collectors.toList());
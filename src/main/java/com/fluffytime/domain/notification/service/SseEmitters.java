@@ -1,5 +1,6 @@
 package com.fluffytime.domain.notification.service;
 
+import com.fluffytime.domain.board.dto.response.PostStatusResponse;
 import com.fluffytime.domain.notification.dto.response.AdminNotificationResponse;
 import com.fluffytime.domain.notification.dto.response.NotificationResponse;
 import com.fluffytime.domain.notification.entity.AdminNotification;
@@ -97,6 +98,19 @@ public class SseEmitters {
         }
     }
 
+    // 게시물 처리 상태(업로드 완료/실패) 전송
+    public void sendPostStatus(Long userId, PostStatusResponse responseDto) {
+        SseEmitter emitter = this.emitters.get(userId);
+        if (emitter != null) {
+            try {
+                emitter.send(SseEmitter.event().name("post-status").data(responseDto));
+            } catch (IOException e) {
+                this.emitters.remove(userId);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
     public void sendToAllAdmin(AdminNotificationResponse responseDto) {
         adminEmitters.forEach((userId, emitter) -> {
             try {
@@ -1,22 +1,22 @@
 package com.fluffytime.domain.search.controller.api;
 
-import com.fluffytime.domain.board.entity.Post;
-import com.fluffytime.domain.board.entity.PostImages;
-import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.service.PostVersionService;
+import com.fluffytime.domain.search.dto.response.ExploreResponse;
 import com.fluffytime.domain.search.service.ExploreService;
-import com.fluffytime.domain.user.entity.Profile;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import com.fluffytime.domain.search.service.TagTimelineService;
+import com.fluffytime.domain.search.service.TrendingService;
+import com.fluffytime.domain.user.service.BlockFilter;
+import com.fluffytime.domain.user.service.BlockFilterService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,81 +24,49 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExploreRestController {
 
     private final ExploreService exploreService;
+    private final TagTimelineService tagTimelineService;
+    private final TrendingService trendingService;
+    private final PostVersionService postVersionService;
+    private final BlockFilterService blockFilterService;
 
-    @Transactional
     @GetMapping("/api/explore")
-    public ResponseEntity<Map<String, Object>> findExplore(
+    public ResponseEntity<ExploreResponse> findExplore(
         // 메서드명에 get을 사용할 때는 무조건 데이터가 존재할 경우에만, 없어도 되는 경우에는 find 사용(+optional 사용)
         @RequestParam(value = "tag", required = false) String tag,
-        @RequestParam(value = "page", required = false, defaultValue = "1") int page,
-        @RequestParam(value = "perPage", required = false, defaultValue = "24") int perPage) {
-
-        // db로부터 게시물 리스트 받아오기
-        List<Post> posts = exploreService.findLatestPosts();
-
-        // 페이징 처리
-        int start = (page - 1) * perPage;
-        int end = Math.min(start + perPage, posts.size());
-
-        //TODO 태그에 따라서 클라이언트로 보낼 게시물 리스트 생성방식 다르게 하기
-//        int end = 24;
-//        if (tag != null && !tag.isEmpty()) {
-//            end = 11;
-//        }
+        // trending 이면 인기순, 없으면 최신순
+        @RequestParam(value = "sort", required = false) String sort,
+        // 이전 응답의 nextCursor (createdAt,postId), 없으면 첫 페이지
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "limit", required = false, defaultValue = "24") int limit,
+        HttpServletRequest request, WebRequest webRequest) {
 
         //태그 기반으로 제대로 탐색됐는지 확인
         log.info("Getting explore for tag {}", tag);
-        log.info("Getting explore for end {}", end);
-
-        // 클라이언트로 보낼 게시물 리스트 생성
-        List<Map<String, String>> list = new ArrayList<>();
-
-        // 데이터 기반으로 리스트 생성
-        for (int i = start; i < end; i++) {
-
-            if (i >= posts.size()) {
-                break;
-            }
-
-            Post post = posts.get(i);
-            if (post.getTempStatus() == TempStatus.TEMP) {
-                log.info("임시저장글 숨김!");
-                continue;
-            }
+        log.info("Getting explore after {}", after);
 
-            Map<String, String> item = new HashMap<>();
-            item.put("postId", post.getPostId().toString());
-            item.put("userId", post.getUser().getUserId().toString());
-            item.put("nickname", post.getUser().getNickname());
-            item.put("content", post.getContent());
-            item.put("createdAt", post.getCreatedAt().toString());
-            //가장 첫번째 사진 url 불러오기
-            String imageUrl = post.getPostImages()
-                .stream()
-                .findFirst()
-                .map(PostImages::getFilepath)
-                .orElse(null);
+        // 차단한 사용자의 게시물은 제외 (차단 목록은 요청당 한 번만 조회)
+        BlockFilter blockFilter = blockFilterService.forRequest(request);
 
-            item.put("imageUrl", imageUrl);
-
-            String profileImageUrl = "/image/profile/profile.png";
-//            위에 프로필 사진 없는 경우 기본 이미지 넣기
-
-            Profile profile = post.getUser().getProfile();
-            if (profile != null && profile.getProfileImages() != null) {
-                profileImageUrl = profile.getProfileImages().getFilePath();
-            }
-
-            item.put("profileImageUrl", profileImageUrl);
-
-            list.add(item);
+        // 인기순은 점수가 계속 바뀌므로 제외하고, 탐색 목록이 바뀌지 않았으면 304 응답
+        boolean trending = (tag == null || tag.isBlank()) && "trending".equals(sort);
+        if (!trending && webRequest.checkNotModified(postVersionService.getExploreEtag(blockFilter))) {
+            return null;
         }
 
-        Map<String, Object> response = new HashMap<>();
-
-        response.put("list", list);
+        // 태그가 있으면 태그별 타임라인, 인기순이면 인기 점수 순으로 조회
+        ExploreResponse response;
+        if (tag != null && !tag.isBlank()) {
+            response = tagTimelineService.findExplore(tag, after, limit, blockFilter);
+        } else if (trending) {
+            response = trendingService.findExplore(after, limit, blockFilter);
+        } else {
+            response = exploreService.findExplore(after, limit, blockFilter);
+        }
 
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        // 기본 보안 헤더(no-store) 대신 매번 ETag 로 재검증하도록 함
+        return ResponseEntity.status(HttpStatus.OK)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(response);
     }
 
 }
@@ -0,0 +1,45 @@
+package com.fluffytime.domain.search.controller.api;
+
+import static com.fluffytime.global.auth.jwt.util.constants.TokenName.ACCESS_TOKEN_NAME;
+
+import com.fluffytime.domain.search.dto.response.ExploreResponse;
+import com.fluffytime.domain.search.service.HomeTimelineService;
+import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
+import com.fluffytime.global.common.exception.global.UserNotFound;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class HomeTimelineRestController {
+
+    private final HomeTimelineService homeTimelineService;
+    private final JwtTokenizer jwtTokenizer;
+
+    // 팔로우한 사용자(+본인)의 게시물로 구성된 홈 타임라인 조회
+    @GetMapping("/api/home")
+    public ResponseEntity<ExploreResponse> findHome(
+        // 이전 응답의 nextCursor (createdAt,postId), 없으면 첫 페이지
+        @RequestParam(value = "after", required = false) String after,
+        @RequestParam(value = "limit", required = false, defaultValue = "5") int limit,
+        HttpServletRequest request) {
+
+        String accessToken = jwtTokenizer.getTokenFromCookie(request, ACCESS_TOKEN_NAME.getName());
+        if (accessToken == null) {
+            throw new UserNotFound();
+        }
+        Long userId = jwtTokenizer.getUserIdFromToken(accessToken);
+
+        log.info("Getting home timeline for user {} after {}", userId, after);
+        ExploreResponse response = homeTimelineService.findHome(userId, after, limit);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -4,6 +4,8 @@ import com.fluffytime.domain.user.entity.Profile;
 import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.search.dto.request.SearchRequest;
 import com.fluffytime.domain.search.service.SearchService;
+import com.fluffytime.domain.user.service.BlockFilterService;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -25,11 +27,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class SearchRestController {
 
     private final SearchService searchService;
+    private final BlockFilterService blockFilterService;
 
     @Transactional
     @PostMapping("/names")
     public ResponseEntity<Map<String, Object>> searchNames(
-        @RequestBody SearchRequest requestDto
+        @RequestBody SearchRequest requestDto, HttpServletRequest request
         /*,
         @RequestParam(value = "page", required = false, defaultValue = "1") int page,
         @RequestParam(value = "perPage", required = false, defaultValue = "24") int perPage*/) {
@@ -39,7 +42,8 @@ public class SearchRestController {
             List<Map<String, String>> list = new ArrayList<>(); // TODO responseDto로 변환??
 
             // db로부터 게시물 리스트 받아오기
-            List<Profile> profileList = searchService.findMatchingPetName(requestDto);
+            List<Profile> profileList = searchService.findMatchingPetName(requestDto,
+                blockFilterService.forRequest(request));
 
 //        // 페이징 처리
 //        int start = (page - 1) * perPage;
@@ -105,7 +109,7 @@ public class SearchRestController {
     @Transactional
     @PostMapping("/accounts")
     public ResponseEntity<Map<String, Object>> searchAccounts(
-        @RequestBody SearchRequest requestDto) {
+        @RequestBody SearchRequest requestDto, HttpServletRequest request) {
 
         log.info("유저 닉네임 기반 검색실행. 검색어: {}", requestDto);
 
@@ -113,7 +117,8 @@ public class SearchRestController {
             List<Map<String, String>> list = new ArrayList<>();// TODO responseDto로 변환??
 
             // db로부터 게시물 리스트 받아오기
-            List<User> userList = searchService.findMatchingUsers(requestDto);
+            List<User> userList = searchService.findMatchingUsers(requestDto,
+                blockFilterService.forRequest(request));
 
 //        // 페이징 처리
 //        int start = (page - 1) * perPage;
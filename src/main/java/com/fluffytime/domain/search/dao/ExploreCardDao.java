@@ -0,0 +1,50 @@
+package com.fluffytime.domain.search.dao;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ExploreCardDao {
+
+    private static final String EXPLORE_CARD_KEY_HEADER = "explore_card:";
+    private static final int EXPLORE_CARD_EXPIRY = 86400;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 직렬화된 게시물 카드(JSON) 저장
+    // 작성자 프로필 변경 시 제거되지만, 놓친 경우에도 반영되도록 만료시간을 둠
+    public void saveCards(Map<Long, String> cards) {
+        cards.forEach((postId, json) -> stringRedisTemplate.opsForValue().set(
+            EXPLORE_CARD_KEY_HEADER + postId,
+            json,
+            Duration.ofSeconds(EXPLORE_CARD_EXPIRY)
+        ));
+    }
+
+    // 게시물 카드 여러 개를 한 번에 조회 (MGET), 없는 카드는 null
+    public List<String> getCards(List<Long> postIds) {
+        List<String> keys = postIds.stream()
+            .map(postId -> EXPLORE_CARD_KEY_HEADER + postId)
+            .toList();
+        return stringRedisTemplate.opsForValue().multiGet(keys);
+    }
+
+    public void removeCard(Long postId) {
+        stringRedisTemplate.delete(EXPLORE_CARD_KEY_HEADER + postId);
+    }
+
+    public void removeCards(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.delete(postIds.stream()
+            .map(postId -> EXPLORE_CARD_KEY_HEADER + postId)
+            .toList());
+    }
+}
@@ -0,0 +1,152 @@
+package com.fluffytime.domain.search.dao;
+
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ExploreTimelineDao {
+
+    private static final String EXPLORE_TIMELINE_KEY = "explore_timeline";
+    // 재구성 중인 타임라인 (완성되면 RENAME 으로 교체)
+    private static final String EXPLORE_TIMELINE_REBUILD_KEY = "explore_timeline:rebuild";
+    // 재구성 중 표시 (이 키가 있는 동안의 추가/삭제는 재구성 중인 타임라인에도 반영)
+    private static final String EXPLORE_TIMELINE_REBUILDING_KEY = "explore_timeline:rebuilding";
+    // 재구성 중 삭제된 게시물 (DB 에서 먼저 읽어 둔 목록에 남아 있을 수 있으므로 교체 직전에 뺌)
+    private static final String EXPLORE_TIMELINE_REBUILD_REMOVED_KEY = "explore_timeline:rebuild:removed";
+
+    // KEYS: 타임라인, 재구성 타임라인, 재구성 중 표시 / ARGV: postId, score, 최대 게시물 수
+    // 타임라인이 있을 때만 추가하고 최신 maxSize개만 남김 (없는 키에 추가하면 게시물 하나짜리 타임라인이 됨)
+    // 재구성 중이면 재구성 타임라인에도 추가, 둘 다 없으면 0 반환
+    private static final RedisScript<Long> ADD_IF_BUILT = new DefaultRedisScript<>(
+        "local added = 0 "
+            + "if redis.call('EXISTS', KEYS[1]) == 1 then "
+            + "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+            + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) "
+            + "added = 1 end "
+            + "if redis.call('EXISTS', KEYS[3]) == 1 then "
+            + "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1]) "
+            + "added = 1 end "
+            + "return added",
+        Long.class);
+
+    // KEYS: 타임라인, 재구성 타임라인, 재구성 중 표시, 재구성 중 삭제 목록 / ARGV: postId
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+        "redis.call('ZREM', KEYS[1], ARGV[1]) "
+            + "if redis.call('EXISTS', KEYS[3]) == 1 then "
+            + "redis.call('ZREM', KEYS[2], ARGV[1]) "
+            + "redis.call('SADD', KEYS[4], ARGV[1]) end "
+            + "return 1",
+        Long.class);
+
+    // KEYS: 재구성 중 표시, 재구성 타임라인, 재구성 중 삭제 목록 / ARGV: 제한 시간(초)
+    // 다른 재구성이 진행 중이면 0 반환
+    private static final RedisScript<Long> START_REBUILD = new DefaultRedisScript<>(
+        "if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then "
+            + "redis.call('DEL', KEYS[2], KEYS[3]) "
+            + "return 1 end "
+            + "return 0",
+        Long.class);
+
+    // KEYS: 타임라인, 재구성 타임라인, 재구성 중 표시, 재구성 중 삭제 목록 / ARGV: 최대 게시물 수
+    // 재구성 중 삭제된 게시물을 빼고 잘라낸 뒤 교체, 게시물 수 반환 (제한 시간이 지났으면 -1)
+    private static final RedisScript<Long> FINISH_REBUILD = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[3]) == 0 then "
+            + "redis.call('DEL', KEYS[2], KEYS[4]) "
+            + "return -1 end "
+            + "for _, member in ipairs(redis.call('SMEMBERS', KEYS[4])) do "
+            + "redis.call('ZREM', KEYS[2], member) end "
+            + "redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[1]) + 1)) "
+            + "local size = redis.call('ZCARD', KEYS[2]) "
+            + "if size > 0 then redis.call('RENAME', KEYS[2], KEYS[1]) "
+            + "else redis.call('DEL', KEYS[1]) end "
+            + "redis.call('DEL', KEYS[3], KEYS[4]) "
+            + "return size",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // SORTED SET 자료 구조로 탐색 타임라인 관리
+    // member = postId, score = createdAt (ExploreCursor.toScore 참고)
+    // 타임라인도 재구성도 없어 추가하지 못했으면 false (재구성 필요)
+    public boolean addIfBuilt(ExploreCursor entry, int maxSize) {
+        Long added = stringRedisTemplate.execute(ADD_IF_BUILT,
+            List.of(EXPLORE_TIMELINE_KEY, EXPLORE_TIMELINE_REBUILD_KEY,
+                EXPLORE_TIMELINE_REBUILDING_KEY),
+            entry.getPostId().toString(), String.valueOf(entry.toScore()), String.valueOf(maxSize));
+        return added != null && added == 1;
+    }
+
+    public void remove(Long postId) {
+        stringRedisTemplate.execute(REMOVE,
+            List.of(EXPLORE_TIMELINE_KEY, EXPLORE_TIMELINE_REBUILD_KEY,
+                EXPLORE_TIMELINE_REBUILDING_KEY, EXPLORE_TIMELINE_REBUILD_REMOVED_KEY),
+            postId.toString());
+    }
+
+    public boolean exists() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(EXPLORE_TIMELINE_KEY));
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(EXPLORE_TIMELINE_KEY);
+        return size == null ? 0 : size;
+    }
+
+    // 첫 페이지 조회 (최신순)
+    public List<ExploreCursor> findFirst(int count) {
+        return TimelineZSets.findFirst(stringRedisTemplate, EXPLORE_TIMELINE_KEY, count);
+    }
+
+    // 커서 이후 조회
+    public List<ExploreCursor> findAfter(ExploreCursor cursor, int count) {
+        return TimelineZSets.findAfter(stringRedisTemplate, EXPLORE_TIMELINE_KEY, cursor, count);
+    }
+
+    // 재구성은 임시 키에 전체 타임라인을 만든 뒤 RENAME 으로 교체 (재구성 중에도 읽기 가능)
+    // DB 를 읽기 전에 시작해야 그 뒤의 추가/삭제가 임시 키에도 반영됨
+    // 다른 재구성이 진행 중이면 false
+    public boolean startRebuild(Duration timeout) {
+        Long started = stringRedisTemplate.execute(START_REBUILD,
+            List.of(EXPLORE_TIMELINE_REBUILDING_KEY, EXPLORE_TIMELINE_REBUILD_KEY,
+                EXPLORE_TIMELINE_REBUILD_REMOVED_KEY),
+            String.valueOf(timeout.toSeconds()));
+        return started != null && started == 1;
+    }
+
+    // DB 에서 읽은 게시물을 임시 키에 추가 (그사이 추가된 게시물과 합쳐짐)
+    public void addToRebuild(List<ExploreCursor> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (ExploreCursor entry : entries) {
+            tuples.add(TypedTuple.of(entry.getPostId().toString(), entry.toScore()));
+        }
+        stringRedisTemplate.opsForZSet().add(EXPLORE_TIMELINE_REBUILD_KEY, tuples);
+    }
+
+    public void cancelRebuild() {
+        stringRedisTemplate.delete(List.of(EXPLORE_TIMELINE_REBUILDING_KEY,
+            EXPLORE_TIMELINE_REBUILD_KEY, EXPLORE_TIMELINE_REBUILD_REMOVED_KEY));
+    }
+
+    // 임시 키로 타임라인 교체, 게시물 수 반환 (제한 시간이 지나 재구성이 취소되었으면 -1)
+    public long finishRebuild(int maxSize) {
+        Long size = stringRedisTemplate.execute(FINISH_REBUILD,
+            List.of(EXPLORE_TIMELINE_KEY, EXPLORE_TIMELINE_REBUILD_KEY,
+                EXPLORE_TIMELINE_REBUILDING_KEY, EXPLORE_TIMELINE_REBUILD_REMOVED_KEY),
+            String.valueOf(maxSize));
+        return size == null ? -1 : size;
+    }
+}
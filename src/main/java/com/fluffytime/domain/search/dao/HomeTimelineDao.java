@@ -0,0 +1,223 @@
+package com.fluffytime.domain.search.dao;
+
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class HomeTimelineDao {
+
+    private static final String HOME_TIMELINE_KEY_HEADER = "home_timeline:";
+    private static final String AUTHOR_TIMELINE_KEY_HEADER = "author_timeline:";
+    private static final String PULL_AUTHORS_KEY = "pull_timeline_authors";
+    // pull 작성자가 추가될 때마다 올라가는 번호 (사용자별 캐시가 이전 목록으로 만들어졌는지 확인)
+    private static final String PULL_AUTHORS_VERSION_KEY = "pull_timeline_authors_version";
+    private static final String FOLLOWED_PULL_AUTHORS_KEY_HEADER = "followed_pull_authors:";
+    // 팔로우 직후 조회와 겹쳐 캐시가 어긋나도 이 시간 안에 다시 만들어짐
+    private static final int FOLLOWED_PULL_AUTHORS_EXPIRY = 600;
+    // 오래 접속하지 않은 사용자의 타임라인은 만료시키고 다음 조회 시 재구성
+    private static final int HOME_TIMELINE_EXPIRY = 604800;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 사용자별 홈 타임라인 (SORTED SET, member = postId, score = createdAt)
+    public boolean exists(Long userId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(HOME_TIMELINE_KEY_HEADER + userId));
+    }
+
+    // 타임라인이 보관 한도까지 찼으면 가장 오래된 항목, 아니면 null
+    public ExploreCursor findTailIfFull(Long userId, int maxSize) {
+        return TimelineZSets.findTailsIfFull(stringRedisTemplate,
+            List.of(HOME_TIMELINE_KEY_HEADER + userId), maxSize).get(0);
+    }
+
+    // 여러 사용자의 타임라인 존재 여부를 파이프라인으로 한 번에 확인
+    public List<Boolean> existsAll(List<Long> userIds) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                stringConnection.exists(HOME_TIMELINE_KEY_HEADER + userId);
+            }
+            return null;
+        });
+
+        List<Boolean> exists = new ArrayList<>();
+        for (Object result : results) {
+            exists.add(Boolean.TRUE.equals(result));
+        }
+        return exists;
+    }
+
+    // 여러 사용자의 타임라인에 게시물 추가 (파이프라인, 최신 maxSize개만 유지)
+    public void addToAll(List<Long> userIds, ExploreCursor entry, int maxSize) {
+        String member = entry.getPostId().toString();
+        double score = entry.toScore();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                String key = HOME_TIMELINE_KEY_HEADER + userId;
+                stringConnection.zAdd(key, score, member);
+                stringConnection.zRemRange(key, 0, -(maxSize + 1));
+            }
+            return null;
+        });
+    }
+
+    // 여러 사용자의 타임라인에서 게시물 제거 (파이프라인)
+    public void removeFromAll(List<Long> userIds, Long postId) {
+        String member = postId.toString();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                stringConnection.zRem(HOME_TIMELINE_KEY_HEADER + userId, member);
+            }
+            return null;
+        });
+    }
+
+    // 한 사용자의 타임라인에 게시물 여러 개 추가 (최신 maxSize개만 유지)
+    public void addAll(Long userId, List<ExploreCursor> entries, int maxSize) {
+        String key = HOME_TIMELINE_KEY_HEADER + userId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (ExploreCursor entry : entries) {
+                stringConnection.zAdd(key, entry.toScore(), entry.getPostId().toString());
+            }
+            stringConnection.zRemRange(key, 0, -(maxSize + 1));
+            stringConnection.expire(key, HOME_TIMELINE_EXPIRY);
+            return null;
+        });
+    }
+
+    // 한 사용자의 타임라인에서 게시물 여러 개 제거
+    public void removeAll(Long userId, List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        String[] members = postIds.stream().map(String::valueOf).toArray(String[]::new);
+        stringRedisTemplate.opsForZSet().remove(HOME_TIMELINE_KEY_HEADER + userId, (Object[]) members);
+    }
+
+    // 만료시간 연장
+    public void touch(Long userId) {
+        stringRedisTemplate.expire(HOME_TIMELINE_KEY_HEADER + userId,
+            Duration.ofSeconds(HOME_TIMELINE_EXPIRY));
+    }
+
+    // 첫 페이지 조회 (최신순)
+    public List<ExploreCursor> findFirst(Long userId, int count) {
+        return TimelineZSets.findFirst(stringRedisTemplate, HOME_TIMELINE_KEY_HEADER + userId, count);
+    }
+
+    // 커서 이후 조회
+    public List<ExploreCursor> findAfter(Long userId, ExploreCursor cursor, int count) {
+        return TimelineZSets.findAfter(stringRedisTemplate, HOME_TIMELINE_KEY_HEADER + userId,
+            cursor, count);
+    }
+
+    // 팔로워가 많아 fan-out 하지 않는(조회 시 합치는) 작성자 목록 (SET)
+    public boolean isPullAuthor(Long authorId) {
+        return Boolean.TRUE.equals(
+            stringRedisTemplate.opsForSet().isMember(PULL_AUTHORS_KEY, authorId.toString()));
+    }
+
+    public void addPullAuthor(Long authorId) {
+        Long added = stringRedisTemplate.opsForSet().add(PULL_AUTHORS_KEY, authorId.toString());
+        if (added != null && added > 0) {
+            stringRedisTemplate.opsForValue().increment(PULL_AUTHORS_VERSION_KEY);
+        }
+    }
+
+    public String getPullAuthorsVersion() {
+        String version = stringRedisTemplate.opsForValue().get(PULL_AUTHORS_VERSION_KEY);
+        return version == null ? "0" : version;
+    }
+
+    public List<Long> getPullAuthors() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(PULL_AUTHORS_KEY);
+        if (members == null) {
+            return new ArrayList<>();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    // 사용자가 팔로우 중인 pull 작성자 캐시 (STRING, "버전|작성자ID,작성자ID")
+    // 캐시가 없거나 그 사이 pull 작성자가 추가되었으면 null
+    public List<Long> getFollowedPullAuthors(Long userId) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(
+            List.of(PULL_AUTHORS_VERSION_KEY, FOLLOWED_PULL_AUTHORS_KEY_HEADER + userId));
+        if (values == null || values.get(1) == null) {
+            return null;
+        }
+
+        String version = values.get(0) == null ? "0" : values.get(0);
+        String cached = values.get(1);
+        int separator = cached.indexOf('|');
+        if (!cached.substring(0, separator).equals(version)) {
+            return null;
+        }
+
+        String authorIds = cached.substring(separator + 1);
+        if (authorIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(authorIds.split(",")).map(Long::parseLong).toList();
+    }
+
+    public void saveFollowedPullAuthors(Long userId, String version, List<Long> authorIds) {
+        String authorIdsValue = authorIds.stream().map(String::valueOf)
+            .collect(Collectors.joining(","));
+        stringRedisTemplate.opsForValue().set(FOLLOWED_PULL_AUTHORS_KEY_HEADER + userId,
+            version + "|" + authorIdsValue, Duration.ofSeconds(FOLLOWED_PULL_AUTHORS_EXPIRY));
+    }
+
+    public void removeFollowedPullAuthors(Long userId) {
+        stringRedisTemplate.delete(FOLLOWED_PULL_AUTHORS_KEY_HEADER + userId);
+    }
+
+    // 작성자별 최근 게시물 (SORTED SET, 최신 maxSize개만 유지)
+    public void addToAuthorTimeline(Long authorId, ExploreCursor entry, int maxSize) {
+        String key = AUTHOR_TIMELINE_KEY_HEADER + authorId;
+        stringRedisTemplate.opsForZSet().add(key, entry.getPostId().toString(), entry.toScore());
+        stringRedisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1));
+    }
+
+    public void removeFromAuthorTimeline(Long authorId, Long postId) {
+        stringRedisTemplate.opsForZSet().remove(AUTHOR_TIMELINE_KEY_HEADER + authorId, postId.toString());
+    }
+
+    // 보관 한도까지 찬 작성자별 목록의 가장 오래된 항목 (한도보다 작은 목록은 null)
+    public List<ExploreCursor> findAuthorTailsIfFull(List<Long> authorIds, int maxSize) {
+        return TimelineZSets.findTailsIfFull(stringRedisTemplate, authorIds.stream()
+            .map(authorId -> AUTHOR_TIMELINE_KEY_HEADER + authorId)
+            .toList(), maxSize);
+    }
+
+    // 작성자의 최근 게시물 중 커서 이후 게시물 조회
+    public List<ExploreCursor> findAuthorEntries(Long authorId, ExploreCursor cursor, int count) {
+        String key = AUTHOR_TIMELINE_KEY_HEADER + authorId;
+        if (cursor == null) {
+            return TimelineZSets.findFirst(stringRedisTemplate, key, count);
+        }
+
+        // 커서와 같은 시각의 게시물은 postId 로 한 번 더 걸러냄
+        return TimelineZSets.toCursors(stringRedisTemplate.opsForZSet()
+            .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, cursor.toScore(), 0, count + 1))
+            .stream()
+            .filter(entry -> entry.toScore() < cursor.toScore()
+                || entry.getPostId() < cursor.getPostId())
+            .limit(count)
+            .toList();
+    }
+}
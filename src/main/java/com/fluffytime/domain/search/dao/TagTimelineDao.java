@@ -0,0 +1,86 @@
+package com.fluffytime.domain.search.dao;
+
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TagTimelineDao {
+
+    // 태그 ID 로 키를 만듦 (MySQL 비교 규칙상 같은 태그인 "Cat" 과 "cat" 이 같은 타임라인을 씀)
+    private static final String TAG_TIMELINE_KEY_HEADER = "tag_id_timeline:";
+    // 조회되지 않는 태그는 만료시키고, 자주 조회되는 태그만 캐시에 유지
+    private static final int TAG_TIMELINE_EXPIRY = 86400;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 태그별 게시물 타임라인 (SORTED SET, member = postId, score = createdAt)
+    public boolean exists(Long tagId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(TAG_TIMELINE_KEY_HEADER + tagId));
+    }
+
+    public long size(Long tagId) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(TAG_TIMELINE_KEY_HEADER + tagId);
+        return size == null ? 0 : size;
+    }
+
+    // 만료시간 연장
+    public void touch(Long tagId) {
+        stringRedisTemplate.expire(TAG_TIMELINE_KEY_HEADER + tagId,
+            Duration.ofSeconds(TAG_TIMELINE_EXPIRY));
+    }
+
+    // 캐시되어 있는 태그 타임라인에만 게시물 추가 (최신 maxSize개만 유지)
+    public void addToExisting(List<Long> tagIds, ExploreCursor entry, int maxSize) {
+        for (Long tagId : tagIds) {
+            if (exists(tagId)) {
+                String key = TAG_TIMELINE_KEY_HEADER + tagId;
+                stringRedisTemplate.opsForZSet().add(key, entry.getPostId().toString(), entry.toScore());
+                stringRedisTemplate.opsForZSet().removeRange(key, 0, -(maxSize + 1));
+            }
+        }
+    }
+
+    // 여러 태그 타임라인에서 게시물 제거 (파이프라인)
+    public void removeFromAll(List<Long> tagIds, Long postId) {
+        String member = postId.toString();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long tagId : tagIds) {
+                stringConnection.zRem(TAG_TIMELINE_KEY_HEADER + tagId, member);
+            }
+            return null;
+        });
+    }
+
+    // 태그 타임라인 전체 저장
+    public void saveAll(Long tagId, List<ExploreCursor> entries) {
+        String key = TAG_TIMELINE_KEY_HEADER + tagId;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(key);
+            for (ExploreCursor entry : entries) {
+                stringConnection.zAdd(key, entry.toScore(), entry.getPostId().toString());
+            }
+            stringConnection.expire(key, TAG_TIMELINE_EXPIRY);
+            return null;
+        });
+    }
+
+    // 첫 페이지 조회 (최신순)
+    public List<ExploreCursor> findFirst(Long tagId, int count) {
+        return TimelineZSets.findFirst(stringRedisTemplate, TAG_TIMELINE_KEY_HEADER + tagId, count);
+    }
+
+    // 커서 이후 조회
+    public List<ExploreCursor> findAfter(Long tagId, ExploreCursor cursor, int count) {
+        return TimelineZSets.findAfter(stringRedisTemplate, TAG_TIMELINE_KEY_HEADER + tagId,
+            cursor, count);
+    }
+}
@@ -0,0 +1,74 @@
+package com.fluffytime.domain.search.dao;
+
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+// 타임라인 SORTED SET (member = postId, score = createdAt) 공통 조회 로직
+final class TimelineZSets {
+
+    private TimelineZSets() {
+    }
+
+    // 첫 페이지 조회 (최신순)
+    static List<ExploreCursor> findFirst(StringRedisTemplate redisTemplate, String key, int count) {
+        return toCursors(redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, count - 1));
+    }
+
+    // 커서 이후 조회
+    // 커서 게시물이 타임라인에 남아있으면 순위로, 없으면 createdAt 점수로 이어서 조회
+    static List<ExploreCursor> findAfter(StringRedisTemplate redisTemplate, String key,
+        ExploreCursor cursor, int count) {
+        Long rank = redisTemplate.opsForZSet().reverseRank(key, cursor.getPostId().toString());
+
+        if (rank != null) {
+            return toCursors(redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, rank + 1, rank + count));
+        }
+
+        // 점수가 정수(마이크로초)이므로 score - 1 까지 조회하면 커서 시각은 제외됨
+        return toCursors(redisTemplate.opsForZSet()
+            .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY,
+                cursor.toScore() - 1, 0, count));
+    }
+
+    // 보관 한도까지 찬 타임라인의 가장 오래된 항목 (파이프라인으로 한 번에 조회)
+    // 한도보다 작은 타임라인은 잘려 나간 게시물이 없으므로 null
+    @SuppressWarnings("unchecked")
+    static List<ExploreCursor> findTailsIfFull(StringRedisTemplate redisTemplate, List<String> keys,
+        int maxSize) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String key : keys) {
+                stringConnection.zCard(key);
+                stringConnection.zRangeWithScores(key, 0, 0);
+            }
+            return null;
+        });
+
+        List<ExploreCursor> tails = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Long size = (Long) results.get(i * 2);
+            List<ExploreCursor> oldest = toCursors((Set<TypedTuple<String>>) results.get(i * 2 + 1));
+            tails.add(size != null && size >= maxSize && !oldest.isEmpty() ? oldest.get(0) : null);
+        }
+        return tails;
+    }
+
+    static List<ExploreCursor> toCursors(Set<TypedTuple<String>> tuples) {
+        List<ExploreCursor> cursors = new ArrayList<>();
+        if (tuples == null) {
+            return cursors;
+        }
+
+        for (TypedTuple<String> tuple : tuples) {
+            cursors.add(ExploreCursor.fromScore(Long.parseLong(tuple.getValue()), tuple.getScore()));
+        }
+        return cursors;
+    }
+}
@@ -0,0 +1,82 @@
+package com.fluffytime.domain.search.dao;
+
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendingDao {
+
+    private static final String TRENDING_KEY = "trending_posts";
+    private static final String TRENDING_EPOCH_KEY = "trending_posts:epoch";
+
+    // ARGV: postId, weight * delta, 반응 시각, 현재 시각, 반감기(ms), 최소 점수
+    private static final RedisScript<Long> ADD_SCORE = new DefaultRedisScript<>(
+        "local epoch = tonumber(redis.call('GET', KEYS[2])) "
+            + "if not epoch then epoch = tonumber(ARGV[4]) redis.call('SET', KEYS[2], ARGV[4]) end "
+            + "local delta = tonumber(ARGV[2]) * 2 ^ ((tonumber(ARGV[3]) - epoch) / tonumber(ARGV[5])) "
+            + "if delta >= 0 then redis.call('ZINCRBY', KEYS[1], delta, ARGV[1]) return 1 end "
+            + "local score = tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1])) "
+            + "if not score then return 0 end "
+            + "score = score + delta "
+            + "if score <= tonumber(ARGV[6]) then redis.call('ZREM', KEYS[1], ARGV[1]) "
+            + "else redis.call('ZADD', KEYS[1], score, ARGV[1]) end "
+            + "return 1",
+        Long.class);
+
+    // ARGV: 현재 시각, 반감기(ms), 최소 점수, 최대 게시물 수
+    private static final RedisScript<String> RENORMALIZE = new DefaultRedisScript<>(
+        "local epoch = tonumber(redis.call('GET', KEYS[2])) "
+            + "redis.call('SET', KEYS[2], ARGV[1]) "
+            + "if not epoch then return '1' end "
+            + "local factor = 2 ^ ((epoch - tonumber(ARGV[1])) / tonumber(ARGV[2])) "
+            + "redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor) "
+            + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) "
+            + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1)) "
+            + "return tostring(factor)",
+        String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // SORTED SET 자료 구조로 인기 점수 관리 (member = postId, score = 인기 점수)
+    // 반응 시각의 점수(weight * 2^((반응 시각 - epoch) / 반감기))를 더함
+    // 기준 시각을 같은 스크립트 안에서 읽으므로 재정규화와 겹쳐도 다른 기준으로 계산된 점수가 섞이지 않음
+    // 점수를 빼는 경우(반응 취소) 목록에 없는 게시물은 건드리지 않고, minScore 이하가 되면 제거함
+    public void addScore(Long postId, double weightedDelta, long occurredAtMillis,
+        long nowMillis, double halfLifeMillis, double minScore) {
+        stringRedisTemplate.execute(ADD_SCORE, List.of(TRENDING_KEY, TRENDING_EPOCH_KEY),
+            postId.toString(), String.valueOf(weightedDelta), String.valueOf(occurredAtMillis),
+            String.valueOf(nowMillis), String.valueOf(halfLifeMillis), String.valueOf(minScore));
+    }
+
+    public void remove(Long postId) {
+        stringRedisTemplate.opsForZSet().remove(TRENDING_KEY, postId.toString());
+    }
+
+    // 점수 높은 순으로 조회
+    public List<Long> findTop(long offset, int count) {
+        Set<String> members = stringRedisTemplate.opsForZSet()
+            .reverseRange(TRENDING_KEY, offset, offset + count - 1);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    // 기준 시각을 현재로 옮기며 모든 점수를 같은 비율로 줄이고 감쇠 비율 반환
+    // minScore 이하인 게시물을 제거하고, 상위 maxSize개만 유지
+    // 한 스크립트로 실행하므로 여러 인스턴스가 함께 실행해도 두 번 줄어들지 않음
+    // (두 번째 실행은 방금 옮긴 기준 시각부터 지난 시간만큼만 줄임)
+    public double renormalize(long nowMillis, double halfLifeMillis, double minScore,
+        int maxSize) {
+        String factor = stringRedisTemplate.execute(RENORMALIZE,
+            List.of(TRENDING_KEY, TRENDING_EPOCH_KEY), String.valueOf(nowMillis),
+            String.valueOf(halfLifeMillis), String.valueOf(minScore), String.valueOf(maxSize));
+        return factor == null ? 1 : Double.parseDouble(factor);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fluffytime.domain.search.dto.request;
+
+import com.fluffytime.domain.search.dto.response.ExploreCardResponse;
+import com.fluffytime.global.common.exception.global.BadRequest;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 탐색 페이지 커서 (createdAt,postId)
+// 마지막으로 받은 게시물 이후부터 조회하므로 스크롤 중 새 게시물이 추가되어도 중복/누락이 없음
+@Getter
+@AllArgsConstructor
+public class ExploreCursor {
+
+    private static final String DELIMITER = ",";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private LocalDateTime createdAt;
+    private Long postId;
+
+    // 쿼리 파라미터(after)를 커서로 변환, 형식이 잘못된 경우 BadRequest 예외 발생
+    public static ExploreCursor parse(String after) {
+        String[] parts = after.split(DELIMITER);
+        if (parts.length != 2) {
+            throw new BadRequest();
+        }
+
+        try {
+            return new ExploreCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BadRequest();
+        }
+    }
+
+    public static ExploreCursor from(ExploreCardResponse card) {
+        return new ExploreCursor(card.getCreatedAt(), card.getPostId());
+    }
+
+    // Redis SORTED SET 점수로부터 커서 생성
+    public static ExploreCursor fromScore(Long postId, Double score) {
+        return new ExploreCursor(EPOCH.plus(score.longValue(), ChronoUnit.MICROS), postId);
+    }
+
+    // Redis SORTED SET 점수 (마이크로초 단위, DB datetime(6) 정밀도와 동일)
+    public double toScore() {
+        return ChronoUnit.MICROS.between(EPOCH, createdAt);
+    }
+
+    // 클라이언트에게 전달할 커서 문자열
+    public String encode() {
+        return createdAt + DELIMITER + postId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.fluffytime.domain.search.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 탐색/홈 피드 카드 한 장에 필요한 데이터만 담는 DTO (JPQL 프로젝션으로 한 번에 조회)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExploreCardResponse {
+
+    private Long postId;
+    private Long userId;
+    private String nickname;
+    private String profileImageUrl;
+    private String imageUrl; // 게시물의 첫번째 사진 url
+    private String content;
+    private LocalDateTime createdAt;
+
+}
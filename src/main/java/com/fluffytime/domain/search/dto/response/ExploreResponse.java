@@ -1,6 +1,7 @@
 package com.fluffytime.domain.search.dto.response;
 
-import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,9 +12,15 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ExploreResponse {
-    //사용 보류
 
-    private Map<String, Object> data;
+    // 게시물 카드 리스트 (미리 직렬화된 카드 JSON 을 다시 직렬화하지 않고 그대로 내려보냄)
+    @JsonRawValue
+    private String list;
 
+    // 다음 페이지 요청 시 after 파라미터로 보낼 커서 (마지막 페이지면 null)
+    private String nextCursor;
 
+    public static ExploreResponse of(List<String> cards, String nextCursor) {
+        return new ExploreResponse("[" + String.join(",", cards) + "]", nextCursor);
+    }
 }
@@ -1,9 +1,26 @@
 package com.fluffytime.domain.search.service;
 
-import com.fluffytime.domain.board.entity.Post;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fluffytime.domain.board.entity.enums.TempStatus;
 import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.search.dao.ExploreCardDao;
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import com.fluffytime.domain.search.dto.response.ExploreCardResponse;
+import com.fluffytime.domain.search.dto.response.ExploreResponse;
+import com.fluffytime.domain.user.service.BlockFilter;
+import com.fluffytime.global.common.exception.global.ServerError;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,10 +28,141 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ExploreService {
 
+    private static final int MAX_LIMIT = 50;
+    private static final String DEFAULT_PROFILE_IMAGE = "/image/profile/profile.png";
+
     private final PostRepository postRepository;
+    private final ExploreTimelineService exploreTimelineService;
+    private final ExploreCardDao exploreCardDao;
+    private final ObjectMapper objectMapper;
+
+    // 커서 기반 탐색 게시물 조회
+    // Redis 타임라인이 준비되어 있으면 타임라인 + 직렬화된 카드 캐시로 페이지를 조립하고,
+    // 없거나 타임라인 보관 범위를 벗어난 경우 DB 에서 조회함
+    // 차단한 사용자의 게시물은 페이지에서 빠지지만 커서는 그대로 이어짐
+    @Transactional(readOnly = true)
+    public ExploreResponse findExplore(String after, int limit, BlockFilter blockFilter) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        ExploreCursor cursor = after == null || after.isBlank() ? null : ExploreCursor.parse(after);
+
+        if (!exploreTimelineService.isReady()) {
+            return findExploreFromDatabase(cursor, size, blockFilter);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개를 조회
+        List<ExploreCursor> entries = exploreTimelineService.findEntries(cursor, size + 1);
+        boolean truncated = exploreTimelineService.isTruncated();
+        if (entries.isEmpty() && truncated) {
+            return findExploreFromDatabase(cursor, size, blockFilter);
+        }
+
+        // 타임라인 끝에 도달했더라도 보관 한도를 넘는 오래된 게시물이 DB 에 남아있으면 다음 페이지가 있음
+        boolean hasNext = entries.size() > size || truncated;
+        if (entries.size() > size) {
+            entries = entries.subList(0, size);
+        }
+
+        List<String> cards = findCards(entries.stream().map(ExploreCursor::getPostId).toList(),
+            blockFilter);
+        String nextCursor = hasNext && !entries.isEmpty()
+            ? entries.get(entries.size() - 1).encode() : null;
+        return ExploreResponse.of(cards, nextCursor);
+    }
+
+    // DB 에서 탐색 카드를 조회하고, 조회한 카드는 캐시에 저장
+    private ExploreResponse findExploreFromDatabase(ExploreCursor cursor, int size,
+        BlockFilter blockFilter) {
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        List<ExploreCardResponse> cards;
+        if (cursor == null) {
+            cards = postRepository.findExploreCards(TempStatus.SAVE, pageable);
+        } else {
+            cards = postRepository.findExploreCardsAfter(TempStatus.SAVE, cursor.getCreatedAt(),
+                cursor.getPostId(), pageable);
+        }
+
+        boolean hasNext = cards.size() > size;
+        if (hasNext) {
+            cards = cards.subList(0, size);
+        }
+
+        Map<Long, String> serialized = serializeCards(cards);
+        exploreCardDao.saveCards(serialized);
+
+        String nextCursor = hasNext ? ExploreCursor.from(cards.get(cards.size() - 1)).encode() : null;
+        List<String> visible = blockFilter.filter(cards, ExploreCardResponse::getUserId).stream()
+            .map(card -> serialized.get(card.getPostId()))
+            .toList();
+        return ExploreResponse.of(visible, nextCursor);
+    }
+
+    // postId 순서대로 직렬화된 카드 조회
+    // 캐시에 없는 카드만 DB 에서 한 번에 조회해 캐시를 채우고, DB 에도 없는(삭제된) 게시물과
+    // 차단한 사용자의 게시물은 제외
+    public List<String> findCards(List<Long> postIds, BlockFilter blockFilter) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> cached = exploreCardDao.getCards(postIds);
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (cached.get(i) == null) {
+                missingIds.add(postIds.get(i));
+            }
+        }
+
+        Map<Long, String> loaded = new HashMap<>();
+        if (!missingIds.isEmpty()) {
+            loaded = serializeCards(
+                postRepository.findExploreCardsByPostIdIn(TempStatus.SAVE, missingIds));
+            exploreCardDao.saveCards(loaded);
+        }
+
+        List<String> cards = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            String card = cached.get(i) != null ? cached.get(i) : loaded.get(postIds.get(i));
+            if (card != null && !blockFilter.isBlocked(readAuthorId(card))) {
+                cards.add(card);
+            }
+        }
+        return cards;
+    }
+
+    // 직렬화된 카드에서 작성자 ID 만 읽음
+    // userId 는 카드의 두 번째 필드이므로 카드 전체를 역직렬화하지 않고 앞부분만 읽고 멈춤
+    private Long readAuthorId(String card) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(card)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("userId".equals(field)) {
+                    return parser.getValueAsLong();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new ServerError();
+        }
+    }
+
+    // 카드 직렬화 (입력 순서 유지), 프로필 사진 없는 경우 기본 이미지 넣기
+    private Map<Long, String> serializeCards(List<ExploreCardResponse> cards) {
+        Map<Long, String> serialized = new LinkedHashMap<>();
+        for (ExploreCardResponse card : cards) {
+            if (card.getProfileImageUrl() == null) {
+                card.setProfileImageUrl(DEFAULT_PROFILE_IMAGE);
+            }
 
-    @Transactional
-    public List<Post> findLatestPosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc();
+            try {
+                serialized.put(card.getPostId(), objectMapper.writeValueAsString(card));
+            } catch (JsonProcessingException e) {
+                throw new ServerError();
+            }
+        }
+        return serialized;
     }
 }
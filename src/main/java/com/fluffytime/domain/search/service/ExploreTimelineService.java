@@ -0,0 +1,119 @@
+package com.fluffytime.domain.search.service;
+
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.PostCreatedEvent;
+import com.fluffytime.domain.board.event.PostDeletedEvent;
+import com.fluffytime.domain.board.event.PostUpdatedEvent;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.search.dao.ExploreCardDao;
+import com.fluffytime.domain.search.dao.ExploreTimelineDao;
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import com.fluffytime.domain.user.event.ProfileChangedEvent;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Redis 에 유지되는 탐색 타임라인(읽기 모델) 관리
+// 게시글 등록/수정/삭제 이벤트로 갱신되며, 콜드 스타트 시 DB 로부터 재구성함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExploreTimelineService {
+
+    // 타임라인에 보관하는 최대 게시물 수 (이보다 오래된 구간은 DB 에서 조회)
+    public static final int MAX_TIMELINE_SIZE = 10000;
+
+    // 재구성이 이 시간 안에 끝나지 않으면 취소 (서버가 재구성 중에 종료되어도 다음 재구성을 막지 않도록)
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(10);
+
+    private final ExploreTimelineDao exploreTimelineDao;
+    private final ExploreCardDao exploreCardDao;
+    private final PostRepository postRepository;
+
+    // 타임라인이 없으면 추가하지 않고 DB 로부터 재구성 (방금 등록된 게시물도 포함됨)
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        if (!exploreTimelineDao.addIfBuilt(
+            new ExploreCursor(event.getCreatedAt(), event.getPostId()), MAX_TIMELINE_SIZE)) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        // 다음 조회 시 DB 에서 다시 직렬화되도록 카드만 제거
+        exploreCardDao.removeCard(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        exploreTimelineDao.remove(event.getPostId());
+        exploreCardDao.removeCard(event.getPostId());
+    }
+
+    // 카드에 작성자 닉네임/프로필 사진이 들어가므로 작성한 게시물의 카드를 제거
+    @TransactionalEventListener
+    public void onProfileChanged(ProfileChangedEvent event) {
+        exploreCardDao.removeCards(postRepository.findIdsByUserId(event.getUserId()));
+    }
+
+    public boolean isReady() {
+        return exploreTimelineDao.exists();
+    }
+
+    // 타임라인이 보관 한도까지 차 있으면 그 이후 구간은 DB 에 남아있을 수 있음
+    public boolean isTruncated() {
+        return exploreTimelineDao.size() >= MAX_TIMELINE_SIZE;
+    }
+
+    public List<ExploreCursor> findEntries(ExploreCursor cursor, int count) {
+        if (cursor == null) {
+            return exploreTimelineDao.findFirst(count);
+        }
+        return exploreTimelineDao.findAfter(cursor, count);
+    }
+
+    // 서버 시작 시 타임라인이 없으면 DB 로부터 재구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfAbsent() {
+        if (!exploreTimelineDao.exists()) {
+            rebuild();
+        }
+    }
+
+    // DB 의 최신 게시물로 타임라인 재구성, 타임라인의 게시물 수 반환
+    // 재구성하는 동안 등록/삭제된 게시물은 임시 타임라인에도 반영되어 교체 후에도 남음
+    // 다른 재구성이 진행 중이면 건너뛰고 0 반환
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        if (!exploreTimelineDao.startRebuild(REBUILD_TIMEOUT)) {
+            log.info("탐색 타임라인 재구성이 이미 진행 중");
+            return 0;
+        }
+
+        long size;
+        try {
+            List<ExploreCursor> entries = postRepository.findExploreEntries(TempStatus.SAVE,
+                PageRequest.of(0, MAX_TIMELINE_SIZE));
+            exploreTimelineDao.addToRebuild(entries);
+            size = exploreTimelineDao.finishRebuild(MAX_TIMELINE_SIZE);
+        } catch (RuntimeException e) {
+            // 다음 게시물 등록이나 재시작 때 다시 재구성할 수 있도록 표시를 지움
+            exploreTimelineDao.cancelRebuild();
+            throw e;
+        }
+        if (size < 0) {
+            log.warn("탐색 타임라인 재구성 시간 초과로 취소됨");
+            return 0;
+        }
+        log.info("탐색 타임라인 재구성 완료, 게시물 수: {}", size);
+        return (int) size;
+    }
+}
@@ -0,0 +1,304 @@
+package com.fluffytime.domain.search.service;
+
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.PostCreatedEvent;
+import com.fluffytime.domain.board.event.PostDeletedEvent;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.search.dao.HomeTimelineDao;
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import com.fluffytime.domain.search.dto.response.ExploreResponse;
+import com.fluffytime.domain.user.event.FollowCreatedEvent;
+import com.fluffytime.domain.user.event.FollowDeletedEvent;
+import com.fluffytime.domain.user.repository.FollowRepository;
+import com.fluffytime.domain.user.service.BlockFilterService;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 팔로우한 사용자의 게시물로 구성되는 홈 타임라인 (push/pull 혼합)
+// 게시글 등록 시 작성자와 팔로워들의 타임라인에 게시물 ID를 넣어두고(push), 조회 시에는 본인 키를 읽음
+// 팔로워 수가 기준치 이상인 작성자는 fan-out 하지 않고 작성자별 최근 게시물 목록에만 넣은 뒤,
+// 조회 시 팔로우 중인 해당 작성자들의 목록을 시간순으로 합침(pull)
+// 보관 한도까지 찬 목록은 오래된 게시물이 잘려 나갔으므로, 페이지가 그 경계를 넘으면 나머지는 DB 에서 조회함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeTimelineService {
+
+    // 사용자별 타임라인에 보관하는 최대 게시물 수 (이보다 오래된 구간은 DB 에서 조회)
+    public static final int MAX_TIMELINE_SIZE = 800;
+    // pull 작성자별로 보관하는 최근 게시물 수
+    private static final int AUTHOR_TIMELINE_SIZE = 200;
+    private static final int MAX_LIMIT = 50;
+    // 최신순 (createdAt 내림차순, 같은 시각이면 postId 내림차순)
+    private static final Comparator<ExploreCursor> LATEST_FIRST = Comparator
+        .comparing(ExploreCursor::getCreatedAt)
+        .thenComparing(ExploreCursor::getPostId)
+        .reversed();
+
+    private final HomeTimelineDao homeTimelineDao;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final ExploreService exploreService;
+    private final BlockFilterService blockFilterService;
+
+    // 이 팔로워 수 이상인 작성자의 게시물은 fan-out 하지 않음
+    @Value("${timeline.fanout.follower-threshold:10000}")
+    private int followerThreshold;
+
+    // 작성자 본인과 팔로워들 중 타임라인이 만들어져 있는 사용자에게만 게시물 추가
+    // (타임라인이 없는 사용자는 다음 조회 시 DB 로부터 전체를 재구성함)
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        Long authorId = event.getUserId();
+        ExploreCursor entry = new ExploreCursor(event.getCreatedAt(), event.getPostId());
+
+        if (isPullAuthor(authorId)) {
+            // 작성자별 목록과 작성자 본인 타임라인에만 추가
+            homeTimelineDao.addToAuthorTimeline(authorId, entry, AUTHOR_TIMELINE_SIZE);
+            homeTimelineDao.addToAll(findExistingTimelines(List.of(authorId)), entry, MAX_TIMELINE_SIZE);
+            log.info("pull 작성자 게시물 등록, 게시물 ID: {}, 작성자 ID: {}", event.getPostId(), authorId);
+            return;
+        }
+
+        List<Long> recipients = findExistingTimelines(findRecipients(authorId));
+        homeTimelineDao.addToAll(recipients, entry, MAX_TIMELINE_SIZE);
+        log.info("홈 타임라인 fan-out 완료, 게시물 ID: {}, 대상: {}명", event.getPostId(), recipients.size());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        Long authorId = event.getUserId();
+        if (homeTimelineDao.isPullAuthor(authorId)) {
+            // 팔로워 타임라인에 남아있는 예전 게시물 ID는 조회 시 카드가 없어 제외됨
+            homeTimelineDao.removeFromAuthorTimeline(authorId, event.getPostId());
+            homeTimelineDao.removeFromAll(List.of(authorId), event.getPostId());
+            return;
+        }
+
+        homeTimelineDao.removeFromAll(findRecipients(authorId), event.getPostId());
+    }
+
+    // 팔로우 시 상대방의 최근 게시물을 타임라인에 채움
+    // 보관 한도만큼 채워야 함 (덜 채우면 한도가 차기 전까지 DB 조회로 넘어가지 않아 오래된 게시물이 빠짐)
+    @TransactionalEventListener
+    public void onFollowCreated(FollowCreatedEvent event) {
+        // pull 작성자의 게시물은 조회 시 합쳐지므로 채우지 않고, 팔로우 중인 pull 작성자 캐시만 비움
+        if (homeTimelineDao.isPullAuthor(event.getFollowedUserId())) {
+            homeTimelineDao.removeFollowedPullAuthors(event.getFollowingUserId());
+            return;
+        }
+        if (!homeTimelineDao.exists(event.getFollowingUserId())) {
+            return;
+        }
+
+        List<ExploreCursor> entries = postRepository.findTimelineEntries(TempStatus.SAVE,
+            List.of(event.getFollowedUserId()), PageRequest.of(0, MAX_TIMELINE_SIZE));
+        homeTimelineDao.addAll(event.getFollowingUserId(), entries, MAX_TIMELINE_SIZE);
+    }
+
+    // 언팔로우 시 상대방의 게시물을 타임라인에서 제거
+    @TransactionalEventListener
+    public void onFollowDeleted(FollowDeletedEvent event) {
+        if (homeTimelineDao.isPullAuthor(event.getFollowedUserId())) {
+            homeTimelineDao.removeFollowedPullAuthors(event.getFollowingUserId());
+        }
+        if (!homeTimelineDao.exists(event.getFollowingUserId())) {
+            return;
+        }
+
+        List<Long> postIds = postRepository.findTimelineEntries(TempStatus.SAVE,
+                List.of(event.getFollowedUserId()), PageRequest.of(0, MAX_TIMELINE_SIZE))
+            .stream()
+            .map(ExploreCursor::getPostId)
+            .toList();
+        homeTimelineDao.removeAll(event.getFollowingUserId(), postIds);
+    }
+
+    // 커서 기반 홈 타임라인 조회
+    @Transactional(readOnly = true)
+    public ExploreResponse findHome(Long userId, String after, int limit) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        ExploreCursor cursor = after == null || after.isBlank() ? null : ExploreCursor.parse(after);
+
+        if (!homeTimelineDao.exists(userId)) {
+            rebuild(userId);
+        }
+        homeTimelineDao.touch(userId);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개를 조회
+        List<ExploreCursor> entries = cursor == null
+            ? homeTimelineDao.findFirst(userId, size + 1)
+            : homeTimelineDao.findAfter(userId, cursor, size + 1);
+
+        // 보관 한도까지 찬 목록의 가장 오래된 항목 (이보다 오래된 게시물은 빠져 있을 수 있음)
+        List<ExploreCursor> tails = new ArrayList<>();
+        tails.add(homeTimelineDao.findTailIfFull(userId, MAX_TIMELINE_SIZE));
+
+        // 팔로우 중인 pull 작성자들의 최근 게시물을 시간순으로 합침
+        List<Long> pullAuthors = findFollowedPullAuthors(userId);
+        if (!pullAuthors.isEmpty()) {
+            List<List<ExploreCursor>> sources = new ArrayList<>();
+            sources.add(entries);
+            for (Long authorId : pullAuthors) {
+                sources.add(homeTimelineDao.findAuthorEntries(authorId, cursor, size + 1));
+            }
+            entries = mergeLatest(sources, size + 1);
+            tails.addAll(homeTimelineDao.findAuthorTailsIfFull(pullAuthors, AUTHOR_TIMELINE_SIZE));
+        }
+
+        // 모든 목록이 빠짐없이 담고 있는 구간은 잘린 목록들의 가장 오래된 항목 중 가장 최근 것까지
+        ExploreCursor horizon = tails.stream()
+            .filter(Objects::nonNull)
+            .min(LATEST_FIRST)
+            .orElse(null);
+        if (horizon != null) {
+            entries = entries.stream()
+                .filter(entry -> LATEST_FIRST.compare(entry, horizon) <= 0)
+                .toList();
+            if (entries.size() <= size) {
+                // 페이지가 경계를 넘으면 마지막 항목(또는 커서) 이후를 DB 에서 이어서 조회
+                entries = concat(entries, findOlderFromDatabase(userId,
+                    entries.isEmpty() ? cursor : entries.get(entries.size() - 1),
+                    size + 1 - entries.size()));
+            }
+        }
+
+        boolean hasNext = entries.size() > size;
+        if (entries.size() > size) {
+            entries = entries.subList(0, size);
+        }
+
+        List<String> cards = exploreService.findCards(
+            entries.stream().map(ExploreCursor::getPostId).toList(),
+            blockFilterService.forViewer(userId));
+        String nextCursor = hasNext && !entries.isEmpty()
+            ? entries.get(entries.size() - 1).encode() : null;
+        return ExploreResponse.of(cards, nextCursor);
+    }
+
+    // 타임라인 보관 범위를 벗어난 오래된 구간 조회
+    private List<ExploreCursor> findOlderFromDatabase(Long userId, ExploreCursor after, int count) {
+        if (after == null) {
+            return postRepository.findTimelineEntries(TempStatus.SAVE, findFollowings(userId),
+                PageRequest.of(0, count));
+        }
+        return postRepository.findTimelineEntriesAfter(TempStatus.SAVE, findFollowings(userId),
+            after.getCreatedAt(), after.getPostId(), PageRequest.of(0, count));
+    }
+
+    private List<ExploreCursor> concat(List<ExploreCursor> first, List<ExploreCursor> second) {
+        List<ExploreCursor> entries = new ArrayList<>(first);
+        entries.addAll(second);
+        return entries;
+    }
+
+    // 본인과 팔로잉 사용자의 최신 게시물로 타임라인 재구성
+    private void rebuild(Long userId) {
+        List<ExploreCursor> entries = postRepository.findTimelineEntries(TempStatus.SAVE,
+            findFollowings(userId), PageRequest.of(0, MAX_TIMELINE_SIZE));
+        homeTimelineDao.addAll(userId, entries, MAX_TIMELINE_SIZE);
+    }
+
+    // 팔로워 수가 기준치 이상이면 pull 작성자로 등록
+    // 한 번 pull 작성자가 되면 유지함 (fan-out 되지 않은 게시물이 팔로워 타임라인에서 빠지지 않도록)
+    private boolean isPullAuthor(Long authorId) {
+        if (homeTimelineDao.isPullAuthor(authorId)) {
+            return true;
+        }
+
+        if (followRepository.countByFollowedUserUserId(authorId) >= followerThreshold) {
+            homeTimelineDao.addPullAuthor(authorId);
+            return true;
+        }
+        return false;
+    }
+
+    // pull 작성자 중 사용자가 팔로우하고 있는 작성자
+    // 조회마다 전체 pull 작성자 목록과 팔로우 관계를 읽지 않도록 사용자별로 캐시하고,
+    // 팔로우/언팔로우 시 비우며 pull 작성자가 추가되면 버전이 달라져 다시 만듦
+    private List<Long> findFollowedPullAuthors(Long userId) {
+        List<Long> cached = homeTimelineDao.getFollowedPullAuthors(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 목록보다 버전을 먼저 읽어, 그 사이 추가된 작성자가 있으면 다음 조회에서 다시 만들어지도록 함
+        String version = homeTimelineDao.getPullAuthorsVersion();
+        List<Long> pullAuthors = homeTimelineDao.getPullAuthors();
+        List<Long> followed = pullAuthors.isEmpty()
+            ? pullAuthors : followRepository.findFollowingIdsIn(userId, pullAuthors);
+        homeTimelineDao.saveFollowedPullAuthors(userId, version, followed);
+        return followed;
+    }
+
+    // 최신순으로 정렬된 여러 목록을 k-way 병합 (중복 게시물 제거, 최대 count개)
+    private List<ExploreCursor> mergeLatest(List<List<ExploreCursor>> sources, int count) {
+        PriorityQueue<PeekingCursor> queue = new PriorityQueue<>(
+            (a, b) -> LATEST_FIRST.compare(a.current, b.current));
+        for (List<ExploreCursor> source : sources) {
+            Iterator<ExploreCursor> iterator = source.iterator();
+            if (iterator.hasNext()) {
+                queue.add(new PeekingCursor(iterator.next(), iterator));
+            }
+        }
+
+        List<ExploreCursor> merged = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        while (!queue.isEmpty() && merged.size() < count) {
+            PeekingCursor head = queue.poll();
+            if (seen.add(head.current.getPostId())) {
+                merged.add(head.current);
+            }
+            if (head.rest.hasNext()) {
+                queue.add(new PeekingCursor(head.rest.next(), head.rest));
+            }
+        }
+        return merged;
+    }
+
+    @AllArgsConstructor
+    private static class PeekingCursor {
+
+        private ExploreCursor current;
+        private Iterator<ExploreCursor> rest;
+    }
+
+    // 게시물이 들어갈 타임라인 소유자 (작성자 본인 + 팔로워)
+    private List<Long> findRecipients(Long authorId) {
+        List<Long> recipients = new ArrayList<>(followRepository.findFollowerIdsByFollowedUserId(authorId));
+        recipients.add(authorId);
+        return recipients;
+    }
+
+    // 타임라인에 게시물을 보여줄 작성자 (본인 + 팔로잉)
+    private List<Long> findFollowings(Long userId) {
+        List<Long> followings = new ArrayList<>(followRepository.findFollowingIdsByFollowingUserId(userId));
+        followings.add(userId);
+        return followings;
+    }
+
+    private List<Long> findExistingTimelines(List<Long> userIds) {
+        List<Boolean> exists = homeTimelineDao.existsAll(userIds);
+        List<Long> existing = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (exists.get(i)) {
+                existing.add(userIds.get(i));
+            }
+        }
+        return existing;
+    }
+}
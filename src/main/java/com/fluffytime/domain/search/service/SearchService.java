@@ -5,6 +5,7 @@ import com.fluffytime.domain.user.entity.User;
 import com.fluffytime.domain.user.repository.ProfileRepository;
 import com.fluffytime.domain.user.repository.UserRepository;
 import com.fluffytime.domain.search.dto.request.SearchRequest;
+import com.fluffytime.domain.user.service.BlockFilter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,14 +18,17 @@ public class SearchService {
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
 
+    // 차단한 사용자는 검색 결과에서 제외
     @Transactional
-    public List<User> findMatchingUsers(SearchRequest searchRequest) {
-        return userRepository.findByNicknameContaining(searchRequest.getQuery());
+    public List<User> findMatchingUsers(SearchRequest searchRequest, BlockFilter blockFilter) {
+        return blockFilter.filter(userRepository.findByNicknameContaining(searchRequest.getQuery()),
+            User::getUserId);
     }
 
     @Transactional
-    public List<Profile> findMatchingPetName(SearchRequest searchRequest) {
-        return profileRepository.findByPetNameContaining(searchRequest.getQuery());
+    public List<Profile> findMatchingPetName(SearchRequest searchRequest, BlockFilter blockFilter) {
+        return blockFilter.filter(profileRepository.findByPetNameContaining(searchRequest.getQuery()),
+            profile -> profile.getUser().getUserId());
     }
 
 }
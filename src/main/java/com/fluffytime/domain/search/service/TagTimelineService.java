@@ -0,0 +1,99 @@
+package com.fluffytime.domain.search.service;
+
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.PostTagsChangedEvent;
+import com.fluffytime.domain.board.repository.TagPostRepository;
+import com.fluffytime.domain.board.service.TagDictionary;
+import com.fluffytime.domain.search.dao.TagTimelineDao;
+import com.fluffytime.domain.search.dto.request.ExploreCursor;
+import com.fluffytime.domain.search.dto.response.ExploreResponse;
+import com.fluffytime.domain.user.service.BlockFilter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 태그별 탐색 타임라인
+// 조회된 태그만 Redis SORTED SET 으로 캐시하고(만료시간 갱신), 태그 등록/수정 이벤트로 최신 상태를 유지함
+// 타임라인은 태그 ID 로 관리하므로 표기만 다른 이름("Cat", "cat")은 같은 타임라인을 씀
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagTimelineService {
+
+    // 태그별로 캐시하는 최대 게시물 수 (이보다 오래된 구간은 DB 에서 조회)
+    public static final int MAX_TIMELINE_SIZE = 1000;
+    private static final int MAX_LIMIT = 50;
+
+    private final TagTimelineDao tagTimelineDao;
+    private final TagPostRepository tagPostRepository;
+    private final ExploreService exploreService;
+    private final TagDictionary tagDictionary;
+
+    @TransactionalEventListener
+    public void onPostTagsChanged(PostTagsChangedEvent event) {
+        List<Long> newTags = event.getNewTagIds() == null ? List.of() : event.getNewTagIds();
+
+        // 빠진 태그에서는 제거
+        List<Long> removedTags = new ArrayList<>(event.getOldTagIds());
+        removedTags.removeAll(newTags);
+        tagTimelineDao.removeFromAll(removedTags, event.getPostId());
+
+        if (event.isSaved()) {
+            tagTimelineDao.addToExisting(newTags,
+                new ExploreCursor(event.getCreatedAt(), event.getPostId()), MAX_TIMELINE_SIZE);
+        } else {
+            tagTimelineDao.removeFromAll(newTags, event.getPostId());
+        }
+    }
+
+    // 커서 기반 태그 탐색 게시물 조회
+    @Transactional(readOnly = true)
+    public ExploreResponse findExplore(String tag, String after, int limit, BlockFilter blockFilter) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        String tagName = tag.startsWith("#") ? tag.substring(1) : tag;
+        ExploreCursor cursor = after == null || after.isBlank() ? null : ExploreCursor.parse(after);
+
+        // 없는 태그면 게시물도 없음
+        Long tagId = tagDictionary.find(List.of(tagName)).get(tagName);
+        if (tagId == null) {
+            return ExploreResponse.of(List.of(), null);
+        }
+
+        if (!tagTimelineDao.exists(tagId)) {
+            List<ExploreCursor> entries = tagPostRepository.findTagEntries(tagId, TempStatus.SAVE,
+                PageRequest.of(0, MAX_TIMELINE_SIZE));
+            tagTimelineDao.saveAll(tagId, entries);
+            log.info("태그 타임라인 캐시 생성, 태그: {}, 게시물 수: {}", tagName, entries.size());
+        }
+        tagTimelineDao.touch(tagId);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개를 조회
+        List<ExploreCursor> entries = cursor == null
+            ? tagTimelineDao.findFirst(tagId, size + 1)
+            : tagTimelineDao.findAfter(tagId, cursor, size + 1);
+
+        boolean truncated = tagTimelineDao.size(tagId) >= MAX_TIMELINE_SIZE;
+        if (entries.isEmpty() && truncated && cursor != null) {
+            // 캐시 범위를 벗어난 오래된 구간은 DB 에서 조회
+            entries = tagPostRepository.findTagEntriesAfter(tagId, TempStatus.SAVE,
+                cursor.getCreatedAt(), cursor.getPostId(), PageRequest.of(0, size + 1));
+            truncated = false;
+        }
+
+        boolean hasNext = entries.size() > size || truncated;
+        if (entries.size() > size) {
+            entries = entries.subList(0, size);
+        }
+
+        List<String> cards = exploreService.findCards(
+            entries.stream().map(ExploreCursor::getPostId).toList(), blockFilter);
+        String nextCursor = hasNext && !entries.isEmpty()
+            ? entries.get(entries.size() - 1).encode() : null;
+        return ExploreResponse.of(cards, nextCursor);
+    }
+}
@@ -0,0 +1,101 @@
+package com.fluffytime.domain.search.service;
+
+import com.fluffytime.domain.board.event.PostDeletedEvent;
+import com.fluffytime.domain.board.event.PostEngagementEvent;
+import com.fluffytime.domain.search.dao.TrendingDao;
+import com.fluffytime.domain.search.dto.response.ExploreResponse;
+import com.fluffytime.domain.user.service.BlockFilter;
+import com.fluffytime.global.common.exception.global.BadRequest;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 시간 감쇠 인기 점수 기반 인기 게시물
+// 반응이 생길 때마다 weight * 2^((반응 시각 - epoch) / 반감기) 만큼 점수를 더해(forward decay),
+// 오래된 반응일수록 상대적으로 작은 점수를 갖게 함.
+// 반응을 취소하면 그 반응이 생긴 시각의 점수를 빼므로 다른 반응의 점수까지 빠지지 않음
+// 점수가 계속 커지지 않도록 주기적으로 기준 시각(epoch)을 현재로 옮기며 전체 점수를 같은 비율로 줄임
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    // 보관하는 최대 게시물 수
+    private static final int MAX_TRENDING_SIZE = 5000;
+    // 재정규화 후 이 점수 미만인 게시물은 인기 목록에서 제거
+    private static final double MIN_SCORE = 0.01;
+    private static final int MAX_LIMIT = 50;
+
+    private final TrendingDao trendingDao;
+    private final ExploreService exploreService;
+
+    // 인기 점수 반감기
+    @Value("${trending.half-life-hours:6}")
+    private double halfLifeHours;
+
+    // 반응 시각을 모르면(시각 컬럼 추가 전에 저장된 반응) 현재 시각으로 계산하고,
+    // 취소로 빼는 점수는 게시물의 현재 점수를 넘지 않음
+    @TransactionalEventListener
+    public void onPostEngagement(PostEngagementEvent event) {
+        long now = System.currentTimeMillis();
+        long occurredAt = event.getOccurredAt() == null ? now
+            : event.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        trendingDao.addScore(event.getPostId(), event.getType().getWeight() * event.getDelta(),
+            occurredAt, now, halfLifeMillis(), MIN_SCORE);
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        trendingDao.remove(event.getPostId());
+    }
+
+    // 기준 시각을 현재로 옮기고 모든 점수를 감쇠시킴 (1시간마다)
+    @Scheduled(fixedDelay = 3600000)
+    public void renormalize() {
+        double factor = trendingDao.renormalize(System.currentTimeMillis(), halfLifeMillis(),
+            MIN_SCORE, MAX_TRENDING_SIZE);
+        log.info("인기 점수 재정규화 완료, 감쇠 비율: {}", factor);
+    }
+
+    // 인기 게시물 조회 (after = 다음 순위 offset)
+    public ExploreResponse findExplore(String after, int limit, BlockFilter blockFilter) {
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        long offset = parseOffset(after);
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개를 조회
+        List<Long> postIds = trendingDao.findTop(offset, size + 1);
+        boolean hasNext = postIds.size() > size;
+        if (hasNext) {
+            postIds = postIds.subList(0, size);
+        }
+
+        List<String> cards = exploreService.findCards(postIds, blockFilter);
+        String nextCursor = hasNext ? String.valueOf(offset + size) : null;
+        return ExploreResponse.of(cards, nextCursor);
+    }
+
+    private double halfLifeMillis() {
+        return halfLifeHours * 3600000;
+    }
+
+    private long parseOffset(String after) {
+        if (after == null || after.isBlank()) {
+            return 0;
+        }
+
+        try {
+            long offset = Long.parseLong(after);
+            if (offset < 0) {
+                throw new BadRequest();
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new BadRequest();
+        }
+    }
+}
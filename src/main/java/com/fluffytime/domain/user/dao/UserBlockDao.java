@@ -23,6 +23,11 @@ public class UserBlockDao {
         return redisTemplate.opsForSet().members(blocker);
     }
 
+    // 특정 유저 차단 여부 조회 (SISMEMBER, 목록 전체를 가져오지 않음)
+    public boolean isUserBlocked(String blocker, String targetUser) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(blocker, targetUser));
+    }
+
     // 특정 유저 차단 해제
     public void removeUserBlockList(String blocker, String targetUser) {
         redisTemplate.opsForSet().remove(blocker, targetUser);
@@ -17,5 +17,6 @@ public class PostResponse {
     private Long postId; // 게시글 id
     private String fileUrl; // s3i 이미지 저장 url
     private String mineType; // 마임 타입
+    private String placeholder; // 사진을 불러오는 동안 보여줄 흐린 미리보기 (data URI)
 
 }
@@ -0,0 +1,14 @@
+package com.fluffytime.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 팔로우가 등록되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class FollowCreatedEvent {
+
+    private Long followingUserId; // 팔로우 하는 사용자
+    private Long followedUserId;  // 팔로우 당하는 사용자
+
+}
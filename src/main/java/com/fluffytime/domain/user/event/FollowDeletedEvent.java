@@ -0,0 +1,14 @@
+package com.fluffytime.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 팔로우가 취소되었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class FollowDeletedEvent {
+
+    private Long followingUserId; // 팔로우 하던 사용자
+    private Long followedUserId;  // 팔로우 당하던 사용자
+
+}
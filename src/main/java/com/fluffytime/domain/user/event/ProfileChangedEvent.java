@@ -0,0 +1,13 @@
+package com.fluffytime.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 닉네임/프로필 사진/반려동물 정보가 바뀌었을 때 발행되는 이벤트 (트랜잭션 커밋 후 처리)
+@Getter
+@AllArgsConstructor
+public class ProfileChangedEvent {
+
+    private Long userId;
+
+}
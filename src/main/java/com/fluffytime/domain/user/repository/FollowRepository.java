@@ -5,6 +5,7 @@ import com.fluffytime.domain.user.entity.User;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,6 +18,9 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 특정 사용자의 팔로워 수 조회
     int countByFollowedUser(User followedUser);
 
+    // 특정 사용자의 팔로워 수 조회 (User 엔티티 없이 ID로 조회)
+    int countByFollowedUserUserId(Long userId);
+
     // 특정 사용자의 팔로잉 수 조회
     int countByFollowingUser(User followingUser);
 
@@ -25,5 +29,18 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     // 특정 사용자의 팔로잉 리스트 조회
     List<Follow> findByFollowingUserUserId(Long userId);
+
+    // 특정 사용자의 팔로워 ID 리스트 조회 (User 엔티티를 로딩하지 않음)
+    @Query("SELECT f.followingUser.userId FROM Follow f WHERE f.followedUser.userId = :userId")
+    List<Long> findFollowerIdsByFollowedUserId(Long userId);
+
+    // 특정 사용자의 팔로잉 ID 리스트 조회 (User 엔티티를 로딩하지 않음)
+    @Query("SELECT f.followedUser.userId FROM Follow f WHERE f.followingUser.userId = :userId")
+    List<Long> findFollowingIdsByFollowingUserId(Long userId);
+
+    // 주어진 사용자 ID 중 특정 사용자가 팔로우하고 있는 ID만 조회
+    @Query("SELECT f.followedUser.userId FROM Follow f " +
+        "WHERE f.followingUser.userId = :userId AND f.followedUser.userId IN :followedUserIds")
+    List<Long> findFollowingIdsIn(Long userId, List<Long> followedUserIds);
 }
 
@@ -3,6 +3,7 @@ package com.fluffytime.domain.user.repository;
 import com.fluffytime.domain.admin.dto.DailyCount;
 import com.fluffytime.domain.user.entity.User;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -23,6 +24,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByNickname(String nickname);
 
+    List<User> findAllByNicknameIn(Collection<String> nicknames);
+
     List<User> findByNicknameContaining(String keyword);
 
     Page<User> findAll(Pageable pageable);
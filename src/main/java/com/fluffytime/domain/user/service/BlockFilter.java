@@ -0,0 +1,59 @@
+package com.fluffytime.domain.user.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 조회하는 사용자(viewer)가 차단한 사용자 목록 스냅샷
+// 요청마다 한 번만 Redis 에서 읽고, 항목별 검사는 메모리에서 O(1) 로 처리함
+public class BlockFilter {
+
+    private static final BlockFilter EMPTY = new BlockFilter(Set.of());
+
+    private final Set<Long> blockedUserIds;
+
+    private BlockFilter(Set<Long> blockedUserIds) {
+        this.blockedUserIds = blockedUserIds;
+    }
+
+    public static BlockFilter empty() {
+        return EMPTY;
+    }
+
+    public static BlockFilter of(Set<String> blockedUserIds) {
+        if (blockedUserIds == null || blockedUserIds.isEmpty()) {
+            return EMPTY;
+        }
+        return new BlockFilter(blockedUserIds.stream()
+            .map(Long::valueOf)
+            .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    public boolean isEmpty() {
+        return blockedUserIds.isEmpty();
+    }
+
+    public boolean isBlocked(Long userId) {
+        return userId != null && blockedUserIds.contains(userId);
+    }
+
+    // 차단한 사용자가 작성한 항목 제외 (순서 유지)
+    public <T> List<T> filter(List<T> items, Function<T, Long> authorId) {
+        if (isEmpty()) {
+            return items;
+        }
+        return items.stream()
+            .filter(item -> !isBlocked(authorId.apply(item)))
+            .collect(Collectors.toList());
+    }
+
+    // 차단 목록이 바뀌면 달라지는 값 (ETag 용)
+    public String fingerprint() {
+        if (isEmpty()) {
+            return "0";
+        }
+        return Integer.toHexString(new TreeSet<>(blockedUserIds).toString().hashCode());
+    }
+}
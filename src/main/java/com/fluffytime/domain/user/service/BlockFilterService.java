@@ -0,0 +1,64 @@
+package com.fluffytime.domain.user.service;
+
+import com.fluffytime.domain.user.dao.UserBlockDao;
+import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// 차단한 사용자의 콘텐츠를 걸러내기 위한 공통 서비스
+// 목록 필터링은 forViewer 로 얻은 스냅샷을, 단건 확인은 isBlocked(SISMEMBER)를 사용
+@Service
+@RequiredArgsConstructor
+public class BlockFilterService {
+
+    private static final String BLOCK_FILTER_ATTRIBUTE_HEADER = "BLOCK_FILTER:";
+
+    private final UserBlockDao userBlockDao;
+    private final JwtTokenizer jwtTokenizer;
+
+    // 사용자의 차단 목록 스냅샷
+    // HTTP 요청 안에서는 요청 속성에 보관해 같은 요청에서 여러 번 호출해도 Redis 는 한 번만 조회함
+    public BlockFilter forViewer(Long viewerId) {
+        if (viewerId == null) {
+            return BlockFilter.empty();
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String name = BLOCK_FILTER_ATTRIBUTE_HEADER + viewerId;
+        if (attributes != null
+            && attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST) instanceof BlockFilter cached) {
+            return cached;
+        }
+
+        BlockFilter filter = BlockFilter.of(userBlockDao.getUserBlockList(Long.toString(viewerId)));
+        if (attributes != null) {
+            attributes.setAttribute(name, filter, RequestAttributes.SCOPE_REQUEST);
+        }
+        return filter;
+    }
+
+    // 요청한 사용자의 차단 목록 스냅샷 (로그인하지 않았으면 빈 필터)
+    public BlockFilter forRequest(HttpServletRequest httpServletRequest) {
+        String accessToken = jwtTokenizer.getTokenFromCookie(httpServletRequest, "accessToken");
+        if (accessToken == null) {
+            return BlockFilter.empty();
+        }
+        return forViewer(jwtTokenizer.getUserIdFromToken(accessToken));
+    }
+
+    // blocker 가 target 을 차단했는지 단건 확인
+    public boolean isBlocked(Long blockerId, Long targetUserId) {
+        if (blockerId == null || targetUserId == null) {
+            return false;
+        }
+        return userBlockDao.isUserBlocked(Long.toString(blockerId), Long.toString(targetUserId));
+    }
+
+    // 두 사용자 중 한쪽이라도 상대를 차단했는지 확인
+    public boolean isBlockedEitherWay(Long userId, Long otherUserId) {
+        return isBlocked(userId, otherUserId) || isBlocked(otherUserId, userId);
+    }
+}
@@ -6,6 +6,8 @@ import com.fluffytime.domain.user.dto.response.FollowCountResponse;
 import com.fluffytime.domain.user.dto.response.FollowListResponse;
 import com.fluffytime.domain.user.entity.Follow;
 import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.domain.user.event.FollowCreatedEvent;
+import com.fluffytime.domain.user.event.FollowDeletedEvent;
 import com.fluffytime.domain.user.exception.FollowNotFound;
 import com.fluffytime.domain.user.exception.SelfFollowRequest;
 import com.fluffytime.domain.user.repository.FollowRepository;
@@ -19,6 +21,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +34,7 @@ public class FollowService {
     private final UserRepository userRepository;
     private final JwtTokenizer jwtTokenizer;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 팔로우 여부 단 건 확인 메서드
     @Transactional
@@ -64,6 +68,10 @@ public class FollowService {
 
         // 알림 생성 및 전송
         notificationService.createFollowNotification(followingUser, followedUser);
+
+        // 커밋 후 홈 타임라인에 팔로우한 사용자의 최근 게시물 채우기
+        eventPublisher.publishEvent(
+            new FollowCreatedEvent(followingUser.getUserId(), followedUser.getUserId()));
     }
 
     //언팔로우 (팔로우 취소)
@@ -78,6 +86,10 @@ public class FollowService {
 
         // 팔로우 관계 삭제
         followRepository.delete(follow);
+
+        // 커밋 후 홈 타임라인에서 언팔로우한 사용자의 게시물 제거
+        eventPublisher.publishEvent(new FollowDeletedEvent(follow.getFollowingUser().getUserId(),
+            follow.getFollowedUser().getUserId()));
     }
 
     // accessToken 토큰으로 사용자 찾기
@@ -3,8 +3,12 @@ package com.fluffytime.domain.user.service;
 import com.fluffytime.domain.board.entity.Bookmark;
 import com.fluffytime.domain.board.entity.Mention;
 import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.event.MediaReleasedEvent;
+import com.fluffytime.domain.board.exception.UnsupportedFileFormat;
 import com.fluffytime.domain.board.repository.BookmarkRepository;
 import com.fluffytime.domain.board.repository.MentionRepository;
+import com.fluffytime.domain.board.repository.PostImagesRepository;
+import com.fluffytime.domain.board.service.MediaObjectService;
 import com.fluffytime.domain.chat.service.ChatService;
 import com.fluffytime.domain.notification.service.AdminNotificationService;
 import com.fluffytime.domain.user.dto.request.ProfileRequest;
@@ -17,6 +21,7 @@ import com.fluffytime.domain.user.dto.response.RequestResultResponse;
 import com.fluffytime.domain.user.entity.Profile;
 import com.fluffytime.domain.user.entity.ProfileImages;
 import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.domain.user.event.ProfileChangedEvent;
 import com.fluffytime.domain.user.exception.MyPageNotFound;
 import com.fluffytime.domain.user.exception.NoProfileImage;
 import com.fluffytime.domain.user.repository.ProfileRepository;
@@ -24,16 +29,19 @@ import com.fluffytime.domain.user.repository.UserRepository;
 import com.fluffytime.global.auth.jwt.exception.TokenNotFound;
 import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
 import com.fluffytime.global.common.exception.global.UserNotFound;
-import com.fluffytime.global.config.aws.S3Service;
+import com.fluffytime.global.config.storage.MediaStorage;
+import com.fluffytime.global.config.storage.MediaTypes;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -47,7 +55,10 @@ public class MypageService {
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final S3Service s3Service;
+    private final PostImagesRepository postImagesRepository;
+    private final MediaStorage mediaStorage;
+    private final MediaObjectService mediaObjectService;
+    private final ApplicationEventPublisher eventPublisher;
     private final MentionRepository mentionRepository;
     private final ChatService chatService;
     private final UserLookupService userLookupService;
@@ -76,10 +87,12 @@ public class MypageService {
             // 한 포스트에 쓰인 사진 리스트 중 첫번째 사진을 썸네일로 설정하여 해당 파일의 경로 사용
             .map(post -> {
                 String filePath = post.getPostImages().isEmpty() ? null // 이미지가 없을 경우 null 저장
-                    : post.getPostImages().getFirst().getFilepath();
+                    : post.getPostImages().getFirst().getListImagePath(); // 축소본이 있으면 축소본
                 String mineType = post.getPostImages().isEmpty() ? null // 이미지가 없을 경우 null 저장
                     : post.getPostImages().getFirst().getMimetype();
-                return new PostResponse(post.getPostId(), filePath, mineType);
+                String placeholder = post.getPostImages().isEmpty() ? null
+                    : post.getPostImages().getFirst().getPlaceholder();
+                return new PostResponse(post.getPostId(), filePath, mineType, placeholder);
             })
             .collect(Collectors.collectingAndThen(Collectors.toList(), list -> { // 역순
                 Collections.reverse(list);
@@ -94,11 +107,13 @@ public class MypageService {
             .map(post -> {
                 // 첫 번째 이미지의 파일 경로와 MIME 타입을 가져옴
                 String filePath = post.getPostImages().isEmpty() ? null
-                    : post.getPostImages().get(0).getFilepath();
+                    : post.getPostImages().get(0).getListImagePath(); // 축소본이 있으면 축소본
                 String mimeType = post.getPostImages().isEmpty() ? null // 이미지가 없을 경우 null 저장
                     : post.getPostImages().get(0).getMimetype();
+                String placeholder = post.getPostImages().isEmpty() ? null
+                    : post.getPostImages().get(0).getPlaceholder();
                 // PostResponse 객체로 변환
-                return new PostResponse(post.getPostId(), filePath, mimeType);
+                return new PostResponse(post.getPostId(), filePath, mimeType, placeholder);
             })
             .collect(Collectors.toList());
 
@@ -117,12 +132,14 @@ public class MypageService {
             .map(post -> {
                 // 첫 번째 이미지의 파일 경로와 MIME 타입을 가져옴
                 String filePath = post.getPostImages().isEmpty() ? null
-                    : post.getPostImages().get(0).getFilepath();
+                    : post.getPostImages().get(0).getListImagePath(); // 축소본이 있으면 축소본
                 String mimeType = post.getPostImages().isEmpty() ? null
                     : post.getPostImages().get(0).getMimetype();
+                String placeholder = post.getPostImages().isEmpty() ? null
+                    : post.getPostImages().get(0).getPlaceholder();
 
                 // PostResponse 객체로 변환
-                return new PostResponse(post.getPostId(), filePath, mimeType);
+                return new PostResponse(post.getPostId(), filePath, mimeType, placeholder);
             })
             .collect(Collectors.toList());
 
@@ -244,6 +261,7 @@ public class MypageService {
 
             userRepository.save(user);
             profileRepository.save(profile);
+            eventPublisher.publishEvent(new ProfileChangedEvent(user.getUserId()));
 
             return RequestResultResponse.builder()
                 .result(true)
@@ -282,14 +300,19 @@ public class MypageService {
             imageResultResponse.setResult(false);
             throw new NoProfileImage(); // 파일이 없거나 비어있는 경우 예외 처리
         }
+        if (!MediaTypes.isImage(file.getContentType())) {
+            throw new UnsupportedFileFormat(); // 사진이 아닌 파일은 받지 않음
+        }
 
-        String s3iFileName = s3Service.uploadFile(file); // 파일 업로드
-        String Url = s3Service.getFileUrl(s3iFileName);
+        String s3iFileName = mediaObjectService.upload(file); // 파일 업로드 (같은 파일이 있으면 공유)
+        String Url = mediaStorage.getFileUrl(s3iFileName);
 
         ProfileImages profileImage = createResponseDto(file, s3iFileName, Url);
+        releaseProfileImage(profile.getProfileImages()); // 이전 프로필 사진 참조 해제
 
         profile.setProfileImages(profileImage);
         profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileChangedEvent(user.getUserId()));
         imageResultResponse.setFileUrl(Url);
 
         return imageResultResponse;
@@ -316,12 +339,22 @@ public class MypageService {
         }
 
         imageResultResponse.setFileUrl(profile.getProfileImages().getFilePath());
+        releaseProfileImage(profile.getProfileImages());
         profile.setProfileImages(null);
         profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileChangedEvent(user.getUserId()));
 
         return imageResultResponse;
     }
 
+    // 프로필 사진이 가리키던 S3 파일 참조 해제 (다른 곳에서 쓰지 않으면 커밋 후 삭제됨)
+    private void releaseProfileImage(ProfileImages profileImages) {
+        if (profileImages != null && profileImages.getS3iFileName() != null) {
+            eventPublisher.publishEvent(
+                new MediaReleasedEvent(List.of(profileImages.getS3iFileName())));
+        }
+    }
+
     // 쿠기 삭제 메서드
     @Transactional
     public void deleteCookie(HttpServletResponse response) {
@@ -351,6 +384,17 @@ public class MypageService {
 
             // 해당 유저가 존재하는 채팅 방 삭제
             chatService.deleteAllChatRoomsByNickname(user);
+            // 게시물 사진/프로필 사진이 가리키던 S3 파일 참조 해제 (게시물은 사용자와 함께 삭제됨)
+            List<String> fileNames = new ArrayList<>(
+                postImagesRepository.findFilenamesByUserId(user.getUserId()));
+            ProfileImages profileImages = user.getProfile() == null ? null
+                : user.getProfile().getProfileImages();
+            if (profileImages != null && profileImages.getS3iFileName() != null) {
+                fileNames.add(profileImages.getS3iFileName());
+            }
+            if (!fileNames.isEmpty()) {
+                eventPublisher.publishEvent(new MediaReleasedEvent(fileNames));
+            }
             userRepository.delete(user);
             // 쿠기 삭제
             deleteCookie(response);
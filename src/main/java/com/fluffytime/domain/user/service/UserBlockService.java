@@ -42,8 +42,7 @@ public class UserBlockService {
     // 유저 차단 여부  메서드
     public boolean isUserBlocked(Long blockerId, Long targetUserId) {
         log.info("isUserBlocked 실행");
-        Set<String> blockedUsers = userBlockDao.getUserBlockList(Long.toString(blockerId));
-        return blockedUsers.contains(Long.toString(targetUserId));
+        return userBlockDao.isUserBlocked(Long.toString(blockerId), Long.toString(targetUserId));
     }
 
     // 유저 차단 해제  메서드
@@ -34,15 +34,17 @@ public class UserPageService {
     // 기존 게시물 리스트에서 필요한 데이터만(이미지) 담은 postDto 리스트로 변환하는 메서드
     public List<PostResponse> postList(User user) {
         return user.getPostList().stream()
-            // TempStatus가 TEMP가 아닌것만 필터링(임시저장글 제외)
-            .filter(post -> post.getTempStatus() != TempStatus.TEMP)
+            // 최종 등록된 글만 필터링(임시저장글, 첨부 파일 업로드 중/실패한 글 제외)
+            .filter(post -> post.getTempStatus() == TempStatus.SAVE)
             // 한 포스트에 쓰인 사진 리스트 중 첫번째 사진을 썸네일로 설정하여 해당 파일의 경로 사용
             .map(post -> {
                 String filePath = post.getPostImages().isEmpty() ? null // 이미지가 없을 경우 null 저장
-                    : post.getPostImages().getFirst().getFilepath();
+                    : post.getPostImages().getFirst().getListImagePath(); // 축소본이 있으면 축소본
                 String mineType = post.getPostImages().isEmpty() ? null // 이미지가 없을 경우 null 저장
                     : post.getPostImages().getFirst().getMimetype();
-                return new PostResponse(post.getPostId(), filePath, mineType);
+                String placeholder = post.getPostImages().isEmpty() ? null
+                    : post.getPostImages().getFirst().getPlaceholder();
+                return new PostResponse(post.getPostId(), filePath, mineType, placeholder);
             })
             .collect(Collectors.collectingAndThen(Collectors.toList(), list -> { // 역순
                 Collections.reverse(list);
@@ -58,12 +60,14 @@ public class UserPageService {
             .map(post -> {
                 // 첫 번째 이미지의 파일 경로와 MIME 타입을 가져옴
                 String filePath = post.getPostImages().isEmpty() ? null
-                    : post.getPostImages().get(0).getFilepath();
+                    : post.getPostImages().get(0).getListImagePath(); // 축소본이 있으면 축소본
                 String mimeType = post.getPostImages().isEmpty() ? null
                     : post.getPostImages().get(0).getMimetype();
+                String placeholder = post.getPostImages().isEmpty() ? null
+                    : post.getPostImages().get(0).getPlaceholder();
 
                 // PostResponse 객체로 변환
-                return new PostResponse(post.getPostId(), filePath, mimeType);
+                return new PostResponse(post.getPostId(), filePath, mimeType, placeholder);
             })
             .collect(Collectors.toList());
 
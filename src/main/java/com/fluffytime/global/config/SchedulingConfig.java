@@ -0,0 +1,11 @@
+package com.fluffytime.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기적으로 실행되는 작업(@Scheduled) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
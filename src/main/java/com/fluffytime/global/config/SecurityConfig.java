@@ -48,6 +48,7 @@ public class SecurityConfig {
                     "/js/**",
                     "/css/**",
                     "/image/**",
+                    "/media/**",
                     "/favicon.ico"
                 ).permitAll()
                 .requestMatchers(
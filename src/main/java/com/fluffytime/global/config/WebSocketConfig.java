@@ -3,6 +3,7 @@ package com.fluffytime.global.config;
 import com.fluffytime.domain.chat.interceptor.CustomHandshakeInterceptor;
 import com.fluffytime.domain.chat.service.MyWebSocketHandler;
 import com.fluffytime.domain.chat.service.RedisMessagePublisher;
+import com.fluffytime.domain.user.service.BlockFilterService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
     // WebSocket 핸드 셰이크 과정에서 추가적인 작업을 수행하는 클래스
     private final CustomHandshakeInterceptor customHandshakeInterceptor;
     private final RedisMessagePublisher redisMessagePublisher;
+    private final BlockFilterService blockFilterService;
 
     @Override
     // 특정 경로(/ws)에 대해 WebSocket 핸들러(myWebSocketHandler) 등록
@@ -30,6 +32,6 @@ public class WebSocketConfig implements WebSocketConfigurer {
 
     @Bean
     public MyWebSocketHandler myWebSocketHandler() {
-        return new MyWebSocketHandler(redisMessagePublisher);
+        return new MyWebSocketHandler(redisMessagePublisher, blockFilterService);
     }
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package com.fluffytime.global.config.aws;
 
+import java.net.URI;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
+@ConditionalOnProperty(name = "media.storage.type", havingValue = "s3", matchIfMissing = true)
 public class AwsConfig {
 
     @Value("${aws.credentials.access-key-id}")
@@ -20,6 +26,10 @@ public class AwsConfig {
     @Value("${aws.s3.region}")
     private String region;
 
+    // S3 호환 저장소(로컬 MinIO 등)를 쓸 때만 지정 (비어 있으면 AWS S3 사용)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     public Region awsRegion() {
         // 주입받은 region 값을 이용해 Region 객체를 생성하여 빈으로 등록
@@ -31,9 +41,34 @@ public class AwsConfig {
         // 주입받은 accessKeyId와 secretKey를 이용해 AwsBasicCredentials 객체를 생성
         AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
         // S3Client를 생성하여 빈으로 등록. Region과 CredentialsProvider를 설정
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
+            .region(region)
+            .credentialsProvider(StaticCredentialsProvider.create(awsCreds));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                .serviceConfiguration(pathStyle());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public S3Presigner s3Presigner(Region region) {
+        // 클라이언트가 S3에 직접 업로드할 수 있도록 서명된 URL을 만드는 객체
+        AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
+        S3Presigner.Builder builder = S3Presigner.builder()
             .region(region)
-            .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+            .credentialsProvider(StaticCredentialsProvider.create(awsCreds));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                .serviceConfiguration(pathStyle());
+        }
+        return builder.build();
+    }
+
+    // S3 호환 저장소는 대부분 버킷 이름을 경로에 넣는 방식만 지원함
+    private S3Configuration pathStyle() {
+        return S3Configuration.builder()
+            .pathStyleAccessEnabled(true)
             .build();
     }
 }
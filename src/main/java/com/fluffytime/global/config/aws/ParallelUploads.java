@@ -0,0 +1,117 @@
+package com.fluffytime.global.config.aws;
+
+import com.fluffytime.domain.board.exception.FileUploadFailed;
+import com.fluffytime.global.common.exception.business.FluffyException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// 업로드 작업들을 가상 스레드에서 동시에 실행 (동시에 실행되는 작업 수는 concurrency 로 제한)
+// 하나라도 실패하면 나머지 작업을 인터럽트해 중단시키고, 모든 작업이 끝난 뒤
+// 이미 성공한 결과는 rollback 으로 정리하고 첫 번째 예외를 던짐
+final class ParallelUploads<T> {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Map<Integer, T> results = new ConcurrentHashMap<>();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private int submitted = 0;
+
+    ParallelUploads(int concurrency) {
+        this.permits = new Semaphore(Math.max(concurrency, 1));
+    }
+
+    static <T> List<T> runAll(List<Callable<T>> tasks, int concurrency, Consumer<T> rollback) {
+        ParallelUploads<T> uploads = new ParallelUploads<>(concurrency);
+        for (Callable<T> task : tasks) {
+            if (!uploads.submit(task)) {
+                break;
+            }
+        }
+        return uploads.await(rollback);
+    }
+
+    boolean submit(Callable<T> task) {
+        return submit(task, () -> {
+        });
+    }
+
+    // 동시 실행 한도에 여유가 생길 때까지 기다린 뒤 작업 시작
+    // 앞선 작업이 이미 실패했다면 시작하지 않고 false 반환
+    // cleanup 은 작업이 실행되었든 실패로 건너뛰었든, 제출되지 못했든 항상 한 번 실행됨
+    // (작업에 넘긴 자원(파트 버퍼 등)은 작업 안이 아니라 cleanup 으로 돌려줘야 새지 않음)
+    boolean submit(Callable<T> task, Runnable cleanup) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+            cleanup.run();
+            return false;
+        }
+
+        if (failure.get() != null) {
+            permits.release();
+            cleanup.run();
+            return false;
+        }
+
+        int index = submitted++;
+        try {
+            executor.submit(() -> {
+                try {
+                    if (failure.get() == null) {
+                        results.put(index, task.call());
+                    }
+                } catch (Exception e) {
+                    fail(e);
+                } finally {
+                    cleanup.run();
+                    permits.release();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 다른 작업이 실패해 이미 중단된 경우
+            submitted--;
+            permits.release();
+            cleanup.run();
+            return false;
+        }
+    }
+
+    // 첫 번째 실패만 기록하고 나머지 작업 중단
+    void fail(Exception e) {
+        if (failure.compareAndSet(null, e)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // 모든 작업이 끝날 때까지 기다린 뒤 제출 순서대로 결과 반환
+    List<T> await(Consumer<T> rollback) {
+        executor.close();
+
+        if (failure.get() == null) {
+            List<T> completed = new ArrayList<>(submitted);
+            for (int i = 0; i < submitted; i++) {
+                completed.add(results.get(i));
+            }
+            return completed;
+        }
+
+        results.values().forEach(rollback);
+        Exception e = failure.get();
+        if (e instanceof FluffyException fluffyException) {
+            throw fluffyException;
+        }
+        throw new FileUploadFailed();
+    }
+}
@@ -0,0 +1,32 @@
+package com.fluffytime.global.config.aws;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+// 멀티파트 업로드용 파트 버퍼 풀
+// 업로드마다 파일 크기만큼 메모리를 잡지 않고 파트 크기 버퍼를 재사용하며,
+// 동시에 업로드되는 파일/파트가 많아도 전체 사용량은 풀 크기 × 파트 크기를 넘지 않음
+final class PartBufferPool {
+
+    private final int bufferSize;
+    private final Semaphore available;
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+
+    PartBufferPool(int poolSize, int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.available = new Semaphore(Math.max(poolSize, 1));
+    }
+
+    // 남은 버퍼가 없으면 다른 파트 업로드가 끝날 때까지 기다림 (버퍼는 필요할 때 만들어 둠)
+    byte[] acquire() throws InterruptedException {
+        available.acquire();
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    void release(byte[] buffer) {
+        buffers.offer(buffer);
+        available.release();
+    }
+}
@@ -0,0 +1,266 @@
+package com.fluffytime.global.config.aws;
+
+import com.fluffytime.global.config.storage.MediaDelivery;
+import com.fluffytime.global.config.storage.MediaMetadata;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+// S3 미디어 디스크 캐시 (MediaController 에서 사용)
+// 파일을 고정 크기 블록으로 나눠 필요한 블록만 Range GET 으로 받아 디스크에 두고,
+// 용량을 넘으면 가장 오래 쓰지 않은 블록부터 지움 (LRU)
+// 릴스 탐색/반복 재생은 S3 를 다시 거치지 않고 디스크에서 바로 보냄
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3MediaCache implements MediaDelivery {
+
+    // 메타데이터(HEAD 결과)를 기억하는 파일 수
+    private static final int METADATA_CAPACITY = 10_000;
+
+    // 없는 파일로 기억하는 이름 수 (따로 두어 임의의 이름 요청이 있는 파일의 메타데이터를 밀어내지 않게 함)
+    private static final int MISSING_CAPACITY = 10_000;
+
+    private final S3Service s3Service;
+
+    @Value("${media.delivery.cache.dir:${java.io.tmpdir}/fluffytime-media-cache}")
+    private String cacheDir;
+
+    // 디스크 캐시 용량
+    @Value("${media.delivery.cache.max-size-mb:2048}")
+    private long maxSizeMb;
+
+    // S3 에서 한 번에 받는 블록 크기
+    @Value("${media.delivery.cache.block-size-kb:1024}")
+    private int blockSizeKb;
+
+    // 메타데이터를 다시 확인하기까지의 시간 (그 사이 교체된 파일은 이전 버전으로 보일 수 있음)
+    @Value("${media.delivery.cache.metadata-ttl-seconds:60}")
+    private long metadataTtlSeconds;
+
+    // 없는 파일을 기억하는 시간 (임의의 이름으로 요청해도 매번 S3 HEAD 를 보내지 않도록)
+    // 업로드 직후 바로 요청된 파일이 이 시간 동안 404 로 보일 수 있으므로 짧게 둠
+    @Value("${media.delivery.cache.missing-ttl-seconds:30}")
+    private long missingTtlSeconds;
+
+    private Path root;
+    private long maxBytes;
+    private long blockSize;
+
+    private final Map<String, CachedMetadata> metadataCache = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMetadata> eldest) {
+                return size() > METADATA_CAPACITY;
+            }
+        });
+
+    // 없는 파일 이름 -> 다시 확인할 시각
+    private final Map<String, Long> missingCache = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > MISSING_CAPACITY;
+            }
+        });
+
+    // 디스크에 있는 블록과 크기 (접근 순서), blocks 로 동기화
+    private final LinkedHashMap<Path, Long> blocks = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    // 받는 중인 블록 (같은 블록을 동시에 요청하면 한 번만 받음)
+    private final ConcurrentHashMap<Path, CompletableFuture<Path>> loading = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Path.of(cacheDir).toAbsolutePath().normalize();
+        maxBytes = maxSizeMb * 1024 * 1024;
+        blockSize = blockSizeKb * 1024L;
+        Files.createDirectories(root);
+
+        // 이전 실행에서 남은 블록은 크기를 추적하지 않았으므로 비우고 시작
+        try (Stream<Path> files = Files.list(root)) {
+            files.forEach(this::deleteQuietly);
+        }
+    }
+
+    @Override
+    public Optional<MediaMetadata> findMetadata(String fileName) {
+        CachedMetadata cached = metadataCache.get(fileName);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt > now) {
+            return Optional.of(cached.metadata);
+        }
+        Long missingUntil = missingCache.get(fileName);
+        if (missingUntil != null && missingUntil > now) {
+            return Optional.empty();
+        }
+
+        HeadObjectResponse head = s3Service.findFile(fileName).orElse(null);
+        if (head == null) {
+            metadataCache.remove(fileName);
+            missingCache.put(fileName, now + missingTtlSeconds * 1000);
+            return Optional.empty();
+        }
+        missingCache.remove(fileName);
+        String contentType = head.contentType() != null ? head.contentType()
+            : "application/octet-stream";
+        MediaMetadata metadata = new MediaMetadata(head.contentLength(), head.eTag(), contentType,
+            null);
+        metadataCache.put(fileName,
+            new CachedMetadata(metadata, System.currentTimeMillis() + metadataTtlSeconds * 1000));
+        return Optional.of(metadata);
+    }
+
+    @Override
+    public void transfer(String fileName, MediaMetadata metadata, long start, long length,
+        WritableByteChannel output) throws IOException {
+        long position = start;
+        long end = start + length;
+        while (position < end) {
+            long index = position / blockSize;
+            long offset = position - index * blockSize;
+            long blockLength = Math.min(blockSize, metadata.getSize() - index * blockSize);
+            long count = Math.min(end - position, blockLength - offset);
+
+            try (FileChannel channel = openBlock(fileName, metadata, index)) {
+                MediaDelivery.transferFully(channel, offset, count, output);
+            }
+            position += count;
+        }
+    }
+
+    // 받은 직후 다른 요청이 용량 정리로 지웠으면 한 번 더 받음
+    private FileChannel openBlock(String fileName, MediaMetadata metadata, long index)
+        throws IOException {
+        try {
+            return FileChannel.open(block(fileName, metadata, index), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return FileChannel.open(block(fileName, metadata, index), StandardOpenOption.READ);
+        }
+    }
+
+    private Path block(String fileName, MediaMetadata metadata, long index) throws IOException {
+        // 블록 이름에 ETag 를 넣어 교체된 파일의 블록과 섞이지 않도록 함
+        String key = fileName + "\n" + metadata.getEtag();
+        Path path = root.resolve(
+            UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + "-" + index);
+        synchronized (blocks) {
+            if (blocks.get(path) != null) {
+                return path;
+            }
+        }
+
+        CompletableFuture<Path> future = new CompletableFuture<>();
+        CompletableFuture<Path> existing = loading.putIfAbsent(path, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw new IOException("미디어 블록 받기 실패: " + fileName, e.getCause());
+            }
+        }
+
+        try {
+            download(fileName, metadata, index, path);
+            future.complete(path);
+            return path;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(path);
+        }
+    }
+
+    private void download(String fileName, MediaMetadata metadata, long index, Path path)
+        throws IOException {
+        long blockStart = index * blockSize;
+        long blockEnd = Math.min(blockStart + blockSize, metadata.getSize()) - 1;
+
+        Path temp = Files.createTempFile(root, ".block-", ".tmp");
+        try (InputStream inputStream = s3Service.downloadRange(fileName, blockStart, blockEnd,
+            metadata.getEtag())) {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 412) {
+                // 그 사이 파일이 교체됨, 다음 요청에서 새 메타데이터를 받도록 함
+                metadataCache.remove(fileName);
+            }
+            throw e;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        add(path, blockEnd - blockStart + 1);
+    }
+
+    // 용량을 넘으면 가장 오래 쓰지 않은 블록부터 지움
+    private void add(Path path, long size) {
+        List<Path> evicted = new ArrayList<>();
+        synchronized (blocks) {
+            Long previous = blocks.put(path, size);
+            cachedBytes += size - (previous != null ? previous : 0);
+
+            Iterator<Map.Entry<Path, Long>> iterator = blocks.entrySet().iterator();
+            while (cachedBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<Path, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(path)) {
+                    continue;
+                }
+                cachedBytes -= eldest.getValue();
+                iterator.remove();
+                evicted.add(eldest.getKey());
+            }
+        }
+        evicted.forEach(this::deleteQuietly);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("미디어 캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static class CachedMetadata {
+
+        private final MediaMetadata metadata;
+        private final long expiresAt;
+
+        private CachedMetadata(MediaMetadata metadata, long expiresAt) {
+            this.metadata = metadata;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
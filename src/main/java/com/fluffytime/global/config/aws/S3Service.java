@@ -1,14 +1,26 @@
 package com.fluffytime.global.config.aws;
 
 import com.fluffytime.domain.board.exception.FileUploadFailed;
+import com.fluffytime.global.config.storage.MediaStorage;
+import com.fluffytime.global.config.storage.MediaTypes;
+import jakarta.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.regions.Region;
@@ -17,68 +29,160 @@ import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class S3Service {
+@ConditionalOnProperty(name = "media.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3Service implements MediaStorage {
 
     private final S3Client s3Client;
     private final Region region; // Region 주입받음
+    private final S3Presigner s3Presigner;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
 
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 클라이언트 직접 업로드용 서명 URL 유효 시간
+    @Value("${aws.s3.presign.expiration-minutes:15}")
+    private long presignExpirationMinutes;
+
+    // 요청(게시물) 하나에서 동시에 업로드하는 파일 수
+    @Value("${aws.s3.upload.file-concurrency:4}")
+    private int fileConcurrency;
+
+    // 파일 하나에서 동시에 업로드하는 파트 수
+    @Value("${aws.s3.upload.part-concurrency:4}")
+    private int partConcurrency;
+
+    // 전체 업로드가 함께 쓰는 파트 버퍼 수 (버퍼 수 × 5MB 가 업로드에 쓰이는 최대 메모리)
+    @Value("${aws.s3.upload.buffer-pool-size:16}")
+    private int bufferPoolSize;
+
     // 멀티파트 업로드 시 각 파트의 크기 설정 (5MB)
-    private static final long PART_SIZE = 5 * 1024 * 1024;
+    public static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private PartBufferPool partBufferPool;
+
+    @PostConstruct
+    public void init() {
+        partBufferPool = new PartBufferPool(bufferPoolSize, PART_SIZE);
+    }
+
+    // 여러 파일을 동시에 업로드하고 입력 순서대로 파일 이름을 반환
+    // 하나라도 실패하면 나머지 업로드를 중단하고, 이미 올라간 파일은 rollback 으로 정리한 뒤 예외를 던짐
+    @Override
+    public <T> List<String> uploadAll(List<T> files, Function<T, String> upload,
+        Consumer<String> rollback) {
+        List<Callable<String>> tasks = files.stream()
+            .map(file -> (Callable<String>) () -> upload.apply(file))
+            .toList();
+        return ParallelUploads.runAll(tasks, fileConcurrency, rollback);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String originalFilename) {
+        // 파일 전체를 바이트 배열로 읽지 않고 스트림에서 파트 단위로 읽어서 업로드
+        try (InputStream inputStream = file.getInputStream()) {
+            return multipartUpload(createFileName(originalFilename), file.getContentType(),
+                inputStream);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", file.getOriginalFilename(), e);
+            throw new FileUploadFailed();
+        }
+    }
 
-    public String uploadFile(MultipartFile file) {
-        // 업로드할 파일의 고유한 이름 생성
-        String fileName = UUID.randomUUID().toString() + "_" + Paths.get(file.getOriginalFilename()).getFileName().toString();
+    // 로컬 디스크에 저장된 파일 업로드 (백그라운드 업로드용)
+    @Override
+    public String uploadFile(Path path, String originalFilename, String contentType) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return multipartUpload(createFileName(originalFilename), contentType, inputStream);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", path, e);
+            throw new FileUploadFailed();
+        }
+    }
+
+    // 이미 있는 파일을 같은 이름으로 다시 업로드 (내용을 가공해 교체할 때 사용)
+    @Override
+    public void replaceFile(String fileName, Path path, String contentType) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            multipartUpload(fileName, contentType, inputStream);
+        } catch (IOException e) {
+            log.error("파일 읽기 실패: {}", path, e);
+            throw new FileUploadFailed();
+        }
+    }
 
+    // 스트림을 파트 크기(PART_SIZE)만큼씩 풀에서 빌린 버퍼로 읽으면서, 읽은 파트는 동시에 업로드
+    // 파일 하나가 쓰는 메모리는 최대 part-concurrency 개의 파트 버퍼
+    private String multipartUpload(String fileName, String contentType,
+        InputStream inputStream) {
         // 1. 멀티파트 업로드 요청 생성
         CreateMultipartUploadRequest createMultipartUploadRequest = CreateMultipartUploadRequest.builder()
             .bucket(bucketName)
             .key(fileName)
-            .contentType(file.getContentType())  // 파일의 MIME 타입 설정
+            .contentType(storedContentType(contentType))  // 파일의 MIME 타입 설정
+            .contentDisposition(storedContentDisposition(contentType))
             .build();
 
         // 멀티파트 업로드를 시작하고, S3로부터 uploadId를 받음
         String uploadId = s3Client.createMultipartUpload(createMultipartUploadRequest).uploadId();
 
-        // 업로드된 각 파트에 대한 정보를 저장할 리스트 초기화
-        List<CompletedPart> completedParts = new ArrayList<>();
+        ParallelUploads<CompletedPart> parts = new ParallelUploads<>(partConcurrency);
         try {
-            // 업로드할 파일을 바이트 배열로 변환
-            byte[] fileBytes = file.getBytes();
+            // 2. 파트를 순서대로 읽어 업로드 작업으로 넘김 (빈 파일도 파트 하나는 필요함)
             int partNumber = 1;
+            while (true) {
+                byte[] buffer = partBufferPool.acquire();
+                int length;
+                try {
+                    length = inputStream.readNBytes(buffer, 0, PART_SIZE);
+                } catch (IOException e) {
+                    partBufferPool.release(buffer);
+                    throw e;
+                }
+
+                if (length == 0 && partNumber > 1) {
+                    partBufferPool.release(buffer);
+                    break;
+                }
 
-            // 2. 파일을 파트 크기(PART_SIZE)만큼 나누어 각 파트를 업로드
-            for (int i = 0; i < fileBytes.length; i += PART_SIZE) {
-                int end = Math.min(fileBytes.length, i + (int) PART_SIZE);  // 현재 파트의 끝 위치 계산
-                byte[] partBytes = java.util.Arrays.copyOfRange(fileBytes, i, end);  // 파트 데이터를 추출
-
-                // 파트 업로드 요청 생성
-                UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
-                    .uploadId(uploadId)
-                    .partNumber(partNumber++)  // 현재 파트의 번호 설정
-                    .build();
-
-                // 파트를 S3에 업로드하고, 결과를 받아옴
-                UploadPartResponse uploadPartResponse = s3Client.uploadPart(uploadPartRequest,
-                    software.amazon.awssdk.core.sync.RequestBody.fromBytes(partBytes));
-
-                // 업로드된 파트의 정보를 리스트에 저장
-                completedParts.add(CompletedPart.builder()
-                    .partNumber(partNumber - 1)
-                    .eTag(uploadPartResponse.eTag())  // S3로부터 받은 ETag 값 저장
-                    .build());
+                int currentPart = partNumber++;
+                // 버퍼는 파트가 업로드되었든 앞선 실패로 건너뛰었든 항상 풀로 돌아감
+                boolean submitted = parts.submit(
+                    () -> uploadPart(fileName, uploadId, currentPart, buffer, length),
+                    () -> partBufferPool.release(buffer));
+                if (!submitted) {
+                    // 앞선 파트 업로드가 실패함
+                    break;
+                }
+                if (length < PART_SIZE) {
+                    break;
+                }
             }
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            parts.fail(e);
+        }
+
+        try {
+            // 실패한 경우 올라간 파트는 업로드 중단 요청으로 함께 정리되므로 따로 삭제하지 않음
+            List<CompletedPart> completedParts = parts.await(part -> {
+            });
 
             // 3. 모든 파트 업로드가 완료된 후 업로드를 완료하는 요청을 보냄
             CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
@@ -94,18 +198,173 @@ public class S3Service {
             // 업로드 성공 시 로그 출력 및 업로드된 파일의 이름 반환
             log.info("파일 업로드 성공: {}", fileName);
             return fileName;
-        } catch (IOException e) {
-            // 업로드 도중 예외가 발생하면 로그 출력 및 업로드 중단 요청
+        } catch (RuntimeException e) {
+            // 업로드 도중 예외가 발생하면(다른 파일 실패로 중단된 경우 포함) 로그 출력 및 업로드 중단 요청
             log.error("파일 업로드 실패: {}", fileName, e);
             s3Client.abortMultipartUpload(a -> a.bucket(bucketName).key(fileName).uploadId(uploadId));
+            throw e instanceof FileUploadFailed ? e : new FileUploadFailed();
+        }
+    }
+
+    // 버퍼의 앞부분(length)만 복사 없이 스트림으로 감싸서 업로드
+    private CompletedPart uploadPart(String fileName, String uploadId, int partNumber,
+        byte[] buffer, int length) {
+        // 파트 업로드 요청 생성
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+            .bucket(bucketName)
+            .key(fileName)
+            .uploadId(uploadId)
+            .partNumber(partNumber)  // 현재 파트의 번호 설정
+            .build();
+
+        // 파트를 S3에 업로드하고, 결과를 받아옴
+        UploadPartResponse uploadPartResponse = s3Client.uploadPart(uploadPartRequest,
+            software.amazon.awssdk.core.sync.RequestBody.fromInputStream(
+                new ByteArrayInputStream(buffer, 0, length), length));
+
+        // 업로드된 파트의 정보 반환
+        return CompletedPart.builder()
+            .partNumber(partNumber)
+            .eTag(uploadPartResponse.eTag())  // S3로부터 받은 ETag 값 저장
+            .build();
+    }
+
+    // 작은 파일(축소본 등)을 한 번의 요청으로 업로드
+    // 이름이 매번 새로 만들어지므로 내용이 바뀌지 않아 오래 캐시해도 됨
+    @Override
+    public void uploadBytes(String fileName, String contentType, byte[] bytes) {
+        s3Client.putObject(p -> p
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(storedContentType(contentType))
+                .contentDisposition(storedContentDisposition(contentType))
+                .cacheControl("public, max-age=31536000, immutable"),
+            software.amazon.awssdk.core.sync.RequestBody.fromBytes(bytes));
+    }
+
+    // 버킷 URL 로 바로 열릴 수도 있으므로 사진/동영상이 아닌 형식은 그대로 저장하지 않고
+    // 내려받기로만 열리게 저장 (클라이언트가 보낸 형식을 그대로 믿지 않음)
+    private String storedContentType(String contentType) {
+        return MediaTypes.isAllowed(contentType) ? contentType
+            : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    private String storedContentDisposition(String contentType) {
+        return MediaTypes.isAllowed(contentType) ? null : "attachment";
+    }
+
+    // 업로드된 파일 읽기 (스트림은 호출한 쪽에서 닫아야 함)
+    @Override
+    public InputStream downloadFile(String fileName) {
+        return s3Client.getObject(g -> g.bucket(bucketName).key(fileName));
+    }
+
+    // 파일의 [start, end] 구간 읽기
+    // etag 가 지금 파일과 다르면(그 사이 교체되었으면) S3가 412 로 거절하므로 서로 다른 버전이 섞이지 않음
+    public InputStream downloadRange(String fileName, long start, long end, String etag) {
+        return s3Client.getObject(g -> g
+            .bucket(bucketName)
+            .key(fileName)
+            .range("bytes=" + start + "-" + end)
+            .ifMatch(etag));
+    }
+
+    // 업로드된 파일 삭제 (함께 업로드하던 다른 파일이 실패한 경우 정리용)
+    @Override
+    public void deleteFile(String fileName) {
+        try {
+            s3Client.deleteObject(d -> d.bucket(bucketName).key(fileName));
+            log.info("파일 삭제: {}", fileName);
+        } catch (RuntimeException e) {
+            log.warn("파일 삭제 실패: {}", fileName, e);
+        }
+    }
+
+    // 클라이언트가 파일 하나를 직접 올릴 PUT URL 발급
+    // Content-Type 과 Content-Length 가 서명에 포함되므로 신고한 형식/크기와 다르면 S3가 거절함
+    public String presignPutObject(String fileName, String contentType, long size) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(fileName)
+            .contentType(contentType)
+            .contentLength(size)
+            .build();
+
+        return s3Presigner.presignPutObject(p -> p
+                .signatureDuration(Duration.ofMinutes(presignExpirationMinutes))
+                .putObjectRequest(putObjectRequest))
+            .url().toString();
+    }
+
+    // 큰 파일은 멀티파트 업로드를 시작하고 uploadId 반환
+    public String createMultipartUpload(String fileName, String contentType) {
+        return s3Client.createMultipartUpload(c -> c
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(contentType))
+            .uploadId();
+    }
+
+    // 파트별 PUT URL 발급 (마지막 파트를 제외하고 모두 PART_SIZE 크기로 서명됨)
+    public List<String> presignUploadParts(String fileName, String uploadId, long size) {
+        int partCount = (int) Math.max((size + PART_SIZE - 1) / PART_SIZE, 1);
+        List<String> urls = new ArrayList<>(partCount);
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            long partSize = Math.min(PART_SIZE, size - (long) (partNumber - 1) * PART_SIZE);
+            UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(partSize)
+                .build();
+
+            urls.add(s3Presigner.presignUploadPart(p -> p
+                    .signatureDuration(Duration.ofMinutes(presignExpirationMinutes))
+                    .uploadPartRequest(uploadPartRequest))
+                .url().toString());
+        }
+        return urls;
+    }
+
+    // 클라이언트가 올린 파트들을 합쳐 업로드 완료
+    public void completeMultipartUpload(String fileName, String uploadId, List<CompletedPart> parts) {
+        try {
+            s3Client.completeMultipartUpload(c -> c
+                .bucket(bucketName)
+                .key(fileName)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()));
+        } catch (RuntimeException e) {
+            log.error("멀티파트 업로드 완료 실패: {}", fileName, e);
+            s3Client.abortMultipartUpload(a -> a.bucket(bucketName).key(fileName).uploadId(uploadId));
             throw new FileUploadFailed();
         }
     }
 
+    // 업로드된 파일의 메타데이터 조회 (HEAD), 파일이 없으면 빈 값
+    public Optional<HeadObjectResponse> findFile(String fileName) {
+        try {
+            return Optional.of(s3Client.headObject(h -> h.bucket(bucketName).key(fileName)));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
     public String getFileUrl(String fileName) {
+        if (!endpoint.isBlank()) {
+            // S3 호환 저장소는 경로 방식 URL 사용
+            return String.format("%s/%s/%s", endpoint, bucketName, fileName);
+        }
         // S3에서 파일 접근 URL 생성
         String fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region.id(), fileName);
         log.info("Generated file URL: {}", fileUrl); // 생성된 URL 로그
         return fileUrl; // 파일 URL 반환
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.fluffytime.global.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 좋아요/북마크 테이블 (대상 ID, 사용자 ID) 유니크 인덱스 맞추기
+// 중복 행이 남아 있으면 스키마 갱신(ddl-auto)이 인덱스를 만들지 못하므로,
+// 인덱스가 없을 때 가장 먼저 남긴 행만 두고 지운 뒤 인덱스를 추가함
+// (지워진 행만큼 어긋난 좋아요/북마크 수는 EngagementCountRepairService 로 바로잡음)
+// 여러 인스턴스가 함께 시작해도 MySQL 이름 잠금을 잡은 한 곳에서만 실행하고,
+// 잠금을 기다린 쪽은 인덱스가 이미 있으면 아무것도 하지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EngagementUniqueIndexInitializer {
+
+    private static final String LOCK_NAME = "fluffytime.engagement_unique_index";
+    // 다른 인스턴스가 중복 정리/인덱스 추가를 끝낼 때까지 기다리는 시간 (초)
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+    // ER_DUP_KEYNAME: 같은 이름의 인덱스가 이미 있음
+    private static final int DUPLICATE_KEY_NAME = 1061;
+
+    // {테이블, ID 컬럼, 대상 컬럼, 인덱스 이름}
+    private static final List<String[]> INDEXES = List.of(
+        new String[]{"post_likes", "post_like_id", "post_id", "uk_post_likes_post_id_user_id"},
+        new String[]{"comment_likes", "comment_like_id", "comment_id",
+            "uk_comment_likes_comment_id_user_id"},
+        new String[]{"reply_likes", "reply_like_id", "reply_id", "uk_reply_likes_reply_id_user_id"},
+        new String[]{"bookmarks", "bookmark_id", "post_id", "uk_bookmarks_post_id_user_id"});
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        // 이름 잠금은 잡은 연결에 묶이므로 모든 문장을 같은 연결에서 실행함
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!namedLock(connection, "SELECT GET_LOCK(?, " + LOCK_TIMEOUT_SECONDS + ")")) {
+                throw new IllegalStateException("유니크 인덱스 잠금을 얻지 못함");
+            }
+            try {
+                for (String[] index : INDEXES) {
+                    addIndex(connection, index[0], index[1], index[2], index[3]);
+                }
+            } finally {
+                namedLock(connection, "SELECT RELEASE_LOCK(?)");
+            }
+            return null;
+        });
+    }
+
+    private void addIndex(Connection connection, String table, String idColumn,
+        String targetColumn, String indexName) throws SQLException {
+        if (indexExists(connection, table, indexName)) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            int removed = statement.executeUpdate("DELETE newer FROM " + table + " newer "
+                + "JOIN " + table + " older ON newer." + targetColumn + " = older." + targetColumn
+                + " AND newer.user_id = older.user_id AND newer." + idColumn + " > older."
+                + idColumn);
+            statement.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + indexName
+                + " UNIQUE (" + targetColumn + ", user_id)");
+            log.info("유니크 인덱스 추가: {}, 지운 중복 행 수: {}", table, removed);
+        } catch (SQLException e) {
+            // 잠금 없이 실행된 다른 경로(ddl-auto 등)가 먼저 만든 경우
+            if (e.getErrorCode() != DUPLICATE_KEY_NAME) {
+                throw e;
+            }
+            log.info("유니크 인덱스가 이미 있음: {}", table);
+        }
+    }
+
+    private boolean indexExists(Connection connection, String table, String indexName)
+        throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?")) {
+            statement.setString(1, table);
+            statement.setString(2, indexName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) > 0;
+            }
+        }
+    }
+
+    private boolean namedLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+}
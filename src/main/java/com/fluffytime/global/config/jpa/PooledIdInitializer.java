@@ -0,0 +1,44 @@
+package com.fluffytime.global.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// ID 테이블 시작값 맞추기
+// IDENTITY 로 만들어진 기존 행과 ID 가 겹치지 않도록 각 테이블의 최대 ID 뒤부터 나눠 주게 함
+// EntityManagerFactory 를 주입받아 스키마 갱신(ddl-auto) 이후, 첫 insert 이전에 실행됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledIdInitializer {
+
+    // ID 이름(@TableGenerator pkColumnValue) -> {테이블, ID 컬럼}
+    private static final Map<String, String[]> SEGMENTS = Map.of(
+        "post_images", new String[]{"post_images", "image_id"},
+        "reels", new String[]{"reels", "reels_id"},
+        "tags", new String[]{"tags", "tag_id"},
+        "tag_post", new String[]{"tag_post", "tag_post_id"},
+        "mentions", new String[]{"mentions", "mention_id"},
+        "notifications", new String[]{"notifications", "notification_id"});
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        SEGMENTS.forEach((segment, target) -> {
+            // pooled 방식은 읽은 값 기준으로 (값 - ALLOCATION_SIZE, 값] 구간을 쓰므로 한 묶음만큼 띄워 둠
+            String sql = "INSERT INTO " + PooledIds.TABLE
+                + " (" + PooledIds.NAME_COLUMN + ", " + PooledIds.VALUE_COLUMN + ")"
+                + " SELECT ?, COALESCE(MAX(" + target[1] + "), 0) + ? FROM " + target[0]
+                + " ON DUPLICATE KEY UPDATE " + PooledIds.VALUE_COLUMN + " = GREATEST("
+                + PooledIds.VALUE_COLUMN + ", VALUES(" + PooledIds.VALUE_COLUMN + "))";
+            jdbcTemplate.update(sql, segment, PooledIds.ALLOCATION_SIZE + 1);
+        });
+        log.info("ID 테이블 시작값 확인 완료: {}", SEGMENTS.keySet());
+    }
+}
@@ -0,0 +1,15 @@
+package com.fluffytime.global.config.jpa;
+
+// 배치 insert 가 필요한 엔티티의 ID 생성 설정
+// IDENTITY 는 insert 를 실행해야 ID 를 알 수 있어 Hibernate 가 insert 를 묶지 못하므로,
+// ID 테이블에서 ALLOCATION_SIZE 개씩 미리 받아 두고 메모리에서 나눠 줌 (pooled 방식)
+public final class PooledIds {
+
+    public static final String TABLE = "id_generator";
+    public static final String NAME_COLUMN = "name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIds() {
+    }
+}
@@ -0,0 +1,208 @@
+package com.fluffytime.global.config.storage;
+
+import com.fluffytime.domain.board.exception.FileUploadFailed;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+// 로컬 디스크 저장소 (개발, CI, 단일 서버 배포용)
+// 파일은 root-dir 아래 한 디렉토리에 저장하고, MediaController 가 base-url 경로로 내려줌
+// 임시 파일에 다 쓴 뒤 이름을 바꾸므로 읽는 쪽에서 쓰다 만 파일을 보지 않음
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "media.storage.type", havingValue = "local")
+public class LocalMediaStorage implements MediaStorage, MediaDelivery {
+
+    @Value("${media.storage.local.root-dir:${java.io.tmpdir}/fluffytime-storage}")
+    private String rootDir;
+
+    @Value("${media.storage.local.base-url:/media}")
+    private String baseUrl;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Path.of(rootDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        log.info("로컬 미디어 저장소 사용: {}", root);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String originalFilename) {
+        String fileName = createFileName(originalFilename);
+        try (InputStream inputStream = file.getInputStream()) {
+            write(fileName, inputStream);
+            return fileName;
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", fileName, e);
+            throw new FileUploadFailed();
+        }
+    }
+
+    @Override
+    public String uploadFile(Path path, String originalFilename, String contentType) {
+        String fileName = createFileName(originalFilename);
+        copy(path, fileName);
+        return fileName;
+    }
+
+    // 디스크 쓰기는 충분히 빠르므로 순서대로 저장
+    @Override
+    public <T> List<String> uploadAll(List<T> files, Function<T, String> upload,
+        Consumer<String> rollback) {
+        List<String> fileNames = new ArrayList<>(files.size());
+        try {
+            for (T file : files) {
+                fileNames.add(upload.apply(file));
+            }
+            return fileNames;
+        } catch (RuntimeException e) {
+            fileNames.forEach(rollback);
+            throw e;
+        }
+    }
+
+    @Override
+    public void replaceFile(String fileName, Path path, String contentType) {
+        copy(path, fileName);
+    }
+
+    @Override
+    public void uploadBytes(String fileName, String contentType, byte[] bytes) {
+        Path target = resolve(fileName);
+        try {
+            Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+            Files.write(temp, bytes);
+            moveIntoPlace(temp, target);
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", fileName, e);
+            throw new FileUploadFailed();
+        }
+    }
+
+    @Override
+    public InputStream downloadFile(String fileName) {
+        try {
+            return Files.newInputStream(resolve(fileName));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileName) {
+        try {
+            Files.deleteIfExists(resolve(fileName));
+            log.info("파일 삭제: {}", fileName);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("파일 삭제 실패: {}", fileName, e);
+        }
+    }
+
+    @Override
+    public String getFileUrl(String fileName) {
+        return baseUrl + "/" + fileName;
+    }
+
+    // 없거나 저장소 밖을 가리키는 이름이면 빈 값
+    // ETag 는 크기와 수정 시각으로 만듦 (같은 이름으로 교체되면 달라짐)
+    @Override
+    public Optional<MediaMetadata> findMetadata(String fileName) {
+        Path path;
+        try {
+            path = resolve(fileName);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            String etag = "\"" + Long.toHexString(attributes.size()) + "-"
+                + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+            String contentType = MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+            return Optional.of(new MediaMetadata(attributes.size(), etag, contentType, path));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void transfer(String fileName, MediaMetadata metadata, long start, long length,
+        WritableByteChannel output) throws IOException {
+        try (FileChannel channel = FileChannel.open(metadata.getPath(), StandardOpenOption.READ)) {
+            MediaDelivery.transferFully(channel, start, length, output);
+        }
+    }
+
+    // 파일 이름에 경로가 섞여 저장소 밖으로 나가지 않도록 함
+    private Path resolve(String fileName) {
+        Path path = root.resolve(fileName).normalize();
+        if (!root.equals(path.getParent())) {
+            throw new IllegalArgumentException("잘못된 파일 이름: " + fileName);
+        }
+        return path;
+    }
+
+    private void write(String fileName, InputStream inputStream) throws IOException {
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temp, resolve(fileName));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 파일끼리는 커널 안에서 바로 복사 (transferTo)
+    private void copy(Path source, String fileName) {
+        Path target = resolve(fileName);
+        try {
+            Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                MediaDelivery.transferFully(in, 0, in.size(), out);
+            }
+            moveIntoPlace(temp, target);
+        } catch (IOException e) {
+            log.error("파일 저장 실패: {}", fileName, e);
+            throw new FileUploadFailed();
+        }
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.fluffytime.global.config.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+// 미디어 파일 내려받기 (Range / ETag / If-Range 지원)
+// 동영상 탐색(seek) 시 필요한 구간만 보내고, 브라우저가 이미 받은 파일은 304 로 응답함
+// 로컬 파일은 톰캣 sendfile 을 지원하면 파일 경로만 넘겨 커널이 바로 소켓으로 보냄
+@RestController
+@RequiredArgsConstructor
+public class MediaController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 파일 이름이 업로드마다 달라지므로 길게 캐시해도 됨 (릴스 faststart 교체는 ETag 로 구분)
+    private static final String CACHE_CONTROL = "public, max-age=86400";
+
+    private final MediaDelivery mediaDelivery;
+
+    @GetMapping("/media/{fileName}")
+    public void getFile(@PathVariable(name = "fileName") String fileName,
+        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaMetadata metadata = mediaDelivery.findMetadata(fileName).orElse(null);
+        if (metadata == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = metadata.getEtag();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        // 앱과 같은 출처에서 내려가므로 형식 추측을 막고, 사진/동영상이 아니면 내려받기로만 보냄
+        // (허용 목록 이전에 올라간 html/svg 등이 페이지로 열려 스크립트가 실행되지 않도록)
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        String contentType = metadata.getContentType();
+        if (!MediaTypes.isAllowed(contentType)) {
+            contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+            response.setHeader("Content-Security-Policy", "sandbox");
+        }
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = metadata.getSize();
+        long start = 0;
+        long length = size;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeApplies(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            List<HttpRange> ranges = parseRanges(rangeHeader);
+            // 여러 구간 요청(multipart/byteranges)은 동영상 재생에서 쓰이지 않으므로 전체를 보냄
+            if (ranges.size() == 1) {
+                long end;
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                length = end - start + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        response.setContentType(contentType);
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (metadata.getPath() != null
+            && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, metadata.getPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+
+        mediaDelivery.transfer(fileName, metadata, start, length,
+            Channels.newChannel(response.getOutputStream()));
+    }
+
+    // 잘못된 Range 헤더는 무시하고 전체를 보냄
+    private List<HttpRange> parseRanges(String rangeHeader) {
+        try {
+            return HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    // If-None-Match 는 약한 비교 (W/ 접두어 무시)
+    private boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || stripWeak(value).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Range 는 강한 비교, 날짜 형식은 지원하지 않으므로 전체를 보냄
+    private boolean rangeApplies(String ifRange, String etag) {
+        return ifRange == null || (!ifRange.startsWith("W/") && ifRange.trim().equals(etag));
+    }
+
+    private String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
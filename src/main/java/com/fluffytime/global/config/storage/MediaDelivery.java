@@ -0,0 +1,27 @@
+package com.fluffytime.global.config.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+// 미디어 파일 내려받기 (MediaController 에서 사용)
+// 로컬 저장소는 저장된 파일을, S3 저장소는 디스크 캐시에 받아 둔 블록을 보냄
+public interface MediaDelivery {
+
+    // 파일이 없으면 빈 값
+    Optional<MediaMetadata> findMetadata(String fileName);
+
+    // 파일의 [start, start + length) 구간을 output 으로 보냄
+    void transfer(String fileName, MediaMetadata metadata, long start, long length,
+        WritableByteChannel output) throws IOException;
+
+    // 파일 내용을 힙에 올리지 않고 채널끼리 바로 복사
+    static void transferFully(FileChannel channel, long position, long count,
+        WritableByteChannel output) throws IOException {
+        long end = position + count;
+        while (position < end) {
+            position += channel.transferTo(position, end - position, output);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.fluffytime.global.config.storage;
+
+import java.nio.file.Path;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 내려받을 미디어 파일 정보
+@Getter
+@AllArgsConstructor
+public class MediaMetadata {
+
+    private long size;
+    private String etag; // 따옴표 포함 ("...")
+    private String contentType;
+    private Path path; // 파일 하나로 바로 보낼 수 있으면 그 경로 (sendfile 용), 아니면 null
+}
@@ -0,0 +1,54 @@
+package com.fluffytime.global.config.storage;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.web.multipart.MultipartFile;
+
+// 업로드 파일 저장소
+// media.storage.type 으로 구현을 고름 (s3: AWS S3, local: 로컬 디스크)
+public interface MediaStorage {
+
+    // 업로드 파일 저장 후 저장된 파일 이름 반환
+    default String uploadFile(MultipartFile file) {
+        return uploadFile(file, file.getOriginalFilename());
+    }
+
+    // 업로드 파일을 원본 파일 이름 대신 주어진 이름으로 저장 (저장된 이름은 createFileName 규칙을 따름)
+    String uploadFile(MultipartFile file, String originalFilename);
+
+    // 로컬 디스크에 있는 파일 저장 후 저장된 파일 이름 반환
+    String uploadFile(Path path, String originalFilename, String contentType);
+
+    // 여러 파일을 저장하고 입력 순서대로 파일 이름 반환
+    // 하나라도 실패하면 이미 저장된 파일은 rollback 으로 정리한 뒤 예외를 던짐
+    <T> List<String> uploadAll(List<T> files, Function<T, String> upload,
+        Consumer<String> rollback);
+
+    default <T> List<String> uploadAll(List<T> files, Function<T, String> upload) {
+        return uploadAll(files, upload, this::deleteFile);
+    }
+
+    // 이미 있는 파일을 같은 이름으로 교체
+    void replaceFile(String fileName, Path path, String contentType);
+
+    // 작은 파일(축소본 등)을 지정한 이름으로 저장
+    void uploadBytes(String fileName, String contentType, byte[] bytes);
+
+    // 저장된 파일 읽기 (스트림은 호출한 쪽에서 닫아야 함)
+    InputStream downloadFile(String fileName);
+
+    void deleteFile(String fileName);
+
+    // 브라우저에서 파일에 접근할 URL
+    String getFileUrl(String fileName);
+
+    // 업로드할 파일의 고유한 이름 생성
+    default String createFileName(String originalFilename) {
+        return UUID.randomUUID().toString() + "_" + Paths.get(originalFilename).getFileName().toString();
+    }
+}
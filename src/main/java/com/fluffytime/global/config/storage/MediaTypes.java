@@ -0,0 +1,41 @@
+package com.fluffytime.global.config.storage;
+
+import java.util.Locale;
+import java.util.Set;
+
+// 업로드하고 내려줄 수 있는 미디어 형식 (사진/동영상만)
+// 저장소 파일은 앱과 같은 출처(/media)에서 내려가므로, 이 밖의 형식(html, svg 등)은 받지 않고
+// 이미 저장된 파일이라도 브라우저가 화면에 그리지 않도록 내려받기로만 보냄
+public final class MediaTypes {
+
+    private static final Set<String> IMAGE_TYPES = Set.of(
+        "image/jpeg", "image/png", "image/webp", "image/avif");
+
+    private static final Set<String> VIDEO_TYPES = Set.of(
+        "video/mp4", "video/mpeg", "video/quicktime");
+
+    private MediaTypes() {
+    }
+
+    public static boolean isImage(String contentType) {
+        return IMAGE_TYPES.contains(normalize(contentType));
+    }
+
+    public static boolean isVideo(String contentType) {
+        return VIDEO_TYPES.contains(normalize(contentType));
+    }
+
+    public static boolean isAllowed(String contentType) {
+        return isImage(contentType) || isVideo(contentType);
+    }
+
+    // 매개변수(; charset=...)를 떼고 소문자로 맞춤
+    private static String normalize(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int separator = contentType.indexOf(';');
+        String type = separator >= 0 ? contentType.substring(0, separator) : contentType;
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,10 +1,11 @@
 //무한 스크롤 구현을 위한 변수 선언
-let currentPage = 1;
+let nextCursor = null; // 다음 페이지 커서 (null 이면 첫 페이지)
+let hasMore = true;
 const itemsPerPage = 24;
 let isLoading = false;
 
 // 게시물 리스트를 반환하는 함수
-async function getExplorePosts(page = 1) {
+async function getExplorePosts(cursor = null) {
   try {
     // 현재 페이지의 URL 가져오기
     const currentUrl = new URL(window.location.href);
@@ -12,7 +13,10 @@ async function getExplorePosts(page = 1) {
     // URLSearchParams 객체 생성
     const params = new URLSearchParams(currentUrl.search);
 
-    let url = `/api/explore?page=${page}&perPage=${itemsPerPage}`;
+    let url = `/api/explore?limit=${itemsPerPage}`;
+    if (cursor) {
+      url += `&after=${encodeURIComponent(cursor)}`;
+    }
     if (params.has('tag')) {    // 태그 파라미터가 존재하는지 확인
 
       url += `&tag=${encodeURIComponent(params.get('tag'))}`;
@@ -37,6 +41,8 @@ async function getExplorePosts(page = 1) {
     // 클라이언트에게 데이터가 잘 들어왔는지 확인
     console.log('클라이언트가 받은 데이터:', data);
 
+    nextCursor = data.nextCursor;
+    hasMore = !!data.nextCursor;
     return data.list || [];
 
     // return data.list;
@@ -58,7 +64,7 @@ async function populateGrid() {
   isLoading = true;
 
   try {
-    const list = await getExplorePosts(currentPage);
+    const list = hasMore ? await getExplorePosts(nextCursor) : [];
     const gridContainer = document.getElementById('grid-container');
 
     // 만약 리스트의 길이가 itemsPerPage보다 작으면 더 이상 로드할 데이터가 없음
@@ -96,7 +102,6 @@ async function populateGrid() {
 
       gridContainer.appendChild(mediaElement);
     });
-    currentPage++;
   } catch (error) {
     console.error('Error populating grid:', error);
   } finally {
@@ -1,15 +1,23 @@
 document.addEventListener('DOMContentLoaded', function () {
   const postsContainer = document.getElementById('posts-container');
   const loading = document.getElementById('loading');
-  let currentPage = 1;
+  // 팔로우한 사용자의 게시물을 먼저 보여주고, 없으면 탐색 게시물로 대체
+  let feedUrl = '/api/home';
+  // 다음 페이지 커서 (null 이면 첫 페이지)
+  let nextCursor = null;
+  let hasMore = true;
   const itemsPerPage = 5;
   let isLoading = false;
 
-  async function fetchPosts(page = 1) {
-    console.log('fetchPosts 시작 ' + currentPage);
+  async function fetchPosts(cursor = null) {
+    console.log('fetchPosts 시작 ' + cursor);
     try {
+      let url = `${feedUrl}?limit=${itemsPerPage}`;
+      if (cursor) {
+        url += `&after=${encodeURIComponent(cursor)}`;
+      }
       const response = await fetch(
-          `/api/explore?page=${page}&perPage=${itemsPerPage}`, {
+          url, {
             method: 'GET',
             headers: {
               'Content-Type': 'application/json'
@@ -22,8 +30,17 @@ document.addEventListener('DOMContentLoaded', function () {
         throw new Error('Network response was not ok');
       }
 
+      // 홈 타임라인이 비어 있으면 탐색 게시물로 대체
+      if (!cursor && feedUrl === '/api/home' && data && Array.isArray(data.list)
+          && data.list.length === 0) {
+        feedUrl = '/api/explore';
+        return fetchPosts(null);
+      }
+
       // 데이터가 배열인지 확인
       if (data && Array.isArray(data.list)) {
+        nextCursor = data.nextCursor;
+        hasMore = !!data.nextCursor;
         return data.list || [];
       } else {
         console.error('Expected an array but got:', data);
@@ -165,13 +182,13 @@ document.addEventListener('DOMContentLoaded', function () {
     isLoading = true;
     loading.style.display = 'block';
 
-    fetchPosts(currentPage).then(posts => {
+    const request = hasMore ? fetchPosts(nextCursor) : Promise.resolve([]);
+    request.then(posts => {
       if (posts.length > 0) {
         console.log(posts)
         renderPosts(posts);
-        currentPage++;
         console.log(posts.length);
-        console.log(currentPage);
+        console.log(nextCursor);
       } else {
         // 사용자에게 더 이상 게시물이 없음을 알리는 메시지 표시
         if (!document.querySelector('.no-more-posts-message')) {
@@ -73,6 +73,7 @@ function displayTagList() {
     tagElement.appendChild(removeBtn); // 삭제 버튼 추가
     tagList.appendChild(tagElement); // 태그 리스트에 추가
   });
+  scheduleAutosave(); // 태그가 바뀌면 임시 저장 글 자동 저장
 }
 
 function removeTag(event, tag) {
@@ -363,6 +364,65 @@ function preparePostData(tempId, content, tagsSet, status) {
   };
 }
 
+// 임시 저장 글 자동 저장 (입력이 멈추고 잠시 뒤 바뀐 항목만 전송)
+let lastSavedDraft = null; // 마지막으로 서버에 보낸 임시 저장 글 상태
+let autosaveTimer = null;
+
+function currentDraftState() {
+  return {
+    content: contentElement.value,
+    tags: Array.from(tagsSet),
+    hideLikeCount: document.getElementById('hideLikes').checked,
+    commentsDisabled: document.getElementById('disableComments').checked
+  };
+}
+
+function scheduleAutosave() {
+  if (currentDraftPostId === null || lastSavedDraft === null) {
+    return; // 임시 저장 글을 이어서 작성할 때만 자동 저장
+  }
+  clearTimeout(autosaveTimer);
+  autosaveTimer = setTimeout(autosaveDraft, 1500);
+}
+
+async function autosaveDraft() {
+  const state = currentDraftState();
+  const patch = {};
+  if (state.content !== lastSavedDraft.content) {
+    patch.content = state.content;
+  }
+  if (JSON.stringify(state.tags) !== JSON.stringify(lastSavedDraft.tags)) {
+    patch.tags = state.tags;
+  }
+  if (state.hideLikeCount !== lastSavedDraft.hideLikeCount) {
+    patch.hideLikeCount = state.hideLikeCount;
+  }
+  if (state.commentsDisabled !== lastSavedDraft.commentsDisabled) {
+    patch.commentsDisabled = state.commentsDisabled;
+  }
+  if (Object.keys(patch).length === 0) {
+    return;
+  }
+
+  try {
+    const response = await fetch(`/api/posts/temp/${currentDraftPostId}`, {
+      method: 'PATCH',
+      headers: {'Content-Type': 'application/json'},
+      body: JSON.stringify(patch),
+      credentials: 'include'
+    });
+    if (response.ok) {
+      lastSavedDraft = state;
+    }
+  } catch (error) {
+    console.error('임시 저장 글 자동 저장 중 오류 발생:', error);
+  }
+}
+
+contentElement.addEventListener('input', scheduleAutosave);
+document.getElementById('hideLikes')?.addEventListener('change', scheduleAutosave);
+document.getElementById('disableComments')?.addEventListener('change', scheduleAutosave);
+
 // 게시물 데이터를 서버로 전송하는 함수
 async function submitPostData(url, postRequest, images) {
   const formData = new FormData(); // 서버로 전송할 데이터를 담을 FormData 객체 생성
@@ -479,6 +539,9 @@ function showComplete() {
 
 // 폼 데이터와 상태를 초기화하는 함수
 function resetForm() {
+  clearTimeout(autosaveTimer); // 예약된 자동 저장 취소
+  lastSavedDraft = null;
+
   contentElement.value = ''; // 게시물 내용 초기화
   charCountElement.textContent = '0 / 2200'; // 글자 수 초기화
 
@@ -565,6 +628,7 @@ function continueDraft(post) {
 
   document.getElementById('hideLikes').checked = post.hideLikeCount; // 숨김 상태 반영
   document.getElementById('disableComments').checked = post.commentsDisabled; // 댓글 해제 상태 반영
+  lastSavedDraft = currentDraftState(); // 자동 저장 기준 상태
 
   closeDraftModal(); // 임시 저장 모달 닫기
   openPostCreationModal(); // 게시물 작성 모달 열기
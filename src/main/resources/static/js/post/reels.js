@@ -290,15 +290,9 @@ document.addEventListener('DOMContentLoaded', function() {
             : '<span class="material-icons">favorite_border</span>';
         likeButton.classList.toggle('liked', data.liked);
 
-        // 좋아요 개수 업데이트
+        // 좋아요 개수 업데이트 (이미 눌린 상태에서 다시 눌러도 서버의 현재 수로 맞춤)
         const likeCountSpan = likeButton.nextElementSibling;
-        let currentLikeCount = parseInt(likeCountSpan.textContent, 10);
-
-        if (data.liked) {
-          likeCountSpan.textContent = currentLikeCount + 1; // 좋아요 증가
-        } else {
-          likeCountSpan.textContent = currentLikeCount - 1; // 좋아요 감소
-        }
+        likeCountSpan.textContent = `${data.likeCount}`;
       }
     } catch (error) {
       console.error('Error:', error);
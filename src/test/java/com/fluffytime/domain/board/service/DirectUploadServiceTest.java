@@ -0,0 +1,229 @@
+package com.fluffytime.domain.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fluffytime.domain.board.dao.PendingUploadDao;
+import com.fluffytime.domain.board.dto.PendingUpload;
+import com.fluffytime.domain.board.dto.request.UploadUrlRequest;
+import com.fluffytime.domain.board.dto.response.UploadUrlResponse;
+import com.fluffytime.domain.board.exception.UploadNotVerified;
+import com.fluffytime.domain.board.service.PostMediaService.UploadedMedia;
+import com.fluffytime.global.config.aws.AwsConfig;
+import com.fluffytime.global.config.aws.S3Service;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import software.amazon.awssdk.regions.Region;
+
+// 로컬 S3 대용 서버(PUT/HEAD 만 처리)로 서명 URL 업로드 -> HEAD 확인 -> 대기 정보 가져가기 확인
+// 서명 검사는 하지 않으므로 신고와 다른 형식으로 올린 파일은 서버의 HEAD 비교로만 걸러짐
+class DirectUploadServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final long USER_ID = 1L;
+
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, PendingUpload> pendingUploads = new ConcurrentHashMap<>();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private HttpServer server;
+    private DirectUploadService directUploadService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        String endpoint = "http://localhost:" + server.getAddress().getPort();
+
+        // 로컬 저장소를 쓸 때와 같은 설정(aws.s3.endpoint)으로 클라이언트를 만듦
+        AwsConfig awsConfig = new AwsConfig();
+        ReflectionTestUtils.setField(awsConfig, "accessKeyId", "test");
+        ReflectionTestUtils.setField(awsConfig, "secretAccessKey", "test");
+        ReflectionTestUtils.setField(awsConfig, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(awsConfig, "endpoint", endpoint);
+        Region region = awsConfig.awsRegion();
+
+        S3Service s3Service = new S3Service(awsConfig.s3Client(region), region,
+            awsConfig.s3Presigner(region));
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "endpoint", endpoint);
+        ReflectionTestUtils.setField(s3Service, "presignExpirationMinutes", 15L);
+
+        PendingUploadDao pendingUploadDao = mock(PendingUploadDao.class);
+        doAnswer(invocation -> pendingUploads.put(invocation.getArgument(0),
+            invocation.getArgument(1)))
+            .when(pendingUploadDao).savePendingUpload(anyString(), any(PendingUpload.class));
+        when(pendingUploadDao.getPendingUpload(anyString())).thenAnswer(invocation ->
+            Optional.ofNullable(pendingUploads.get((String) invocation.getArgument(0))));
+        when(pendingUploadDao.claimPendingUpload(anyString())).thenAnswer(invocation ->
+            Optional.ofNullable(pendingUploads.remove((String) invocation.getArgument(0))));
+
+        directUploadService = new DirectUploadService(s3Service, pendingUploadDao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void uploadedFileIsVerifiedAndClaimedOnce() throws Exception {
+        UploadUrlResponse url = directUploadService.createUploadUrl(USER_ID,
+            request("cat.png", "image/png", 1000));
+        put(url.getUploadUrl(), "image/png", 1000);
+
+        // 같은 키를 두 번 보내도 첨부 파일은 하나
+        List<UploadedMedia> uploaded = directUploadService.verifyUploads(USER_ID,
+            List.of(url.getKey(), url.getKey()));
+        assertThat(uploaded).hasSize(1);
+        assertThat(uploaded.get(0).getFilesize()).isEqualTo(1000);
+        assertThat(uploaded.get(0).getMimetype()).isEqualTo("image/png");
+        assertThat(uploaded.get(0).getFilepath()).endsWith("/" + BUCKET + "/" + url.getKey());
+
+        directUploadService.claimUploads(USER_ID, uploaded);
+
+        // 이미 다른 게시글에 연결된 파일은 다시 쓸 수 없음
+        assertThatThrownBy(() -> directUploadService.claimUploads(USER_ID, uploaded))
+            .isInstanceOf(UploadNotVerified.class);
+        assertThatThrownBy(() -> directUploadService.verifyUploads(USER_ID, List.of(url.getKey())))
+            .isInstanceOf(UploadNotVerified.class);
+    }
+
+    @Test
+    void fileNotUploadedIsRejected() {
+        UploadUrlResponse url = directUploadService.createUploadUrl(USER_ID,
+            request("cat.png", "image/png", 1000));
+
+        assertThatThrownBy(() -> directUploadService.verifyUploads(USER_ID, List.of(url.getKey())))
+            .isInstanceOf(UploadNotVerified.class);
+    }
+
+    @Test
+    void fileDifferentFromDeclarationIsRejected() throws Exception {
+        UploadUrlResponse url = directUploadService.createUploadUrl(USER_ID,
+            request("cat.png", "image/png", 1000));
+        put(url.getUploadUrl(), "text/html", 1000);
+
+        assertThatThrownBy(() -> directUploadService.verifyUploads(USER_ID, List.of(url.getKey())))
+            .isInstanceOf(UploadNotVerified.class);
+    }
+
+    @Test
+    void otherUsersUploadIsRejected() throws Exception {
+        UploadUrlResponse url = directUploadService.createUploadUrl(USER_ID,
+            request("cat.png", "image/png", 1000));
+        put(url.getUploadUrl(), "image/png", 1000);
+
+        assertThatThrownBy(() -> directUploadService.verifyUploads(2L, List.of(url.getKey())))
+            .isInstanceOf(UploadNotVerified.class);
+    }
+
+    // 게시글 저장이 롤백되면 같은 파일로 다시 등록할 수 있어야 함
+    @Test
+    void claimIsRestoredWhenTransactionRollsBack() throws Exception {
+        UploadUrlResponse url = directUploadService.createUploadUrl(USER_ID,
+            request("cat.png", "image/png", 1000));
+        put(url.getUploadUrl(), "image/png", 1000);
+        List<UploadedMedia> uploaded = directUploadService.verifyUploads(USER_ID,
+            List.of(url.getKey()));
+
+        completeTransaction(uploaded, TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(directUploadService.verifyUploads(USER_ID, List.of(url.getKey()))).hasSize(1);
+
+        completeTransaction(uploaded, TransactionSynchronization.STATUS_COMMITTED);
+        assertThatThrownBy(() -> directUploadService.claimUploads(USER_ID, uploaded))
+            .isInstanceOf(UploadNotVerified.class);
+    }
+
+    private void completeTransaction(List<UploadedMedia> uploaded, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            directUploadService.claimUploads(USER_ID, uploaded);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private UploadUrlRequest request(String filename, String contentType, long size) {
+        UploadUrlRequest request = new UploadUrlRequest();
+        request.setFilename(filename);
+        request.setContentType(contentType);
+        request.setSize(size);
+        return request;
+    }
+
+    // 클라이언트가 서명 URL 로 바로 올리는 요청
+    private void put(String uploadUrl, String contentType, int size) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl))
+            .header("Content-Type", contentType)
+            .PUT(BodyPublishers.ofByteArray(new byte[size]))
+            .build();
+        assertThat(httpClient.send(request, BodyHandlers.discarding()).statusCode())
+            .isEqualTo(200);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        switch (exchange.getRequestMethod()) {
+            case "PUT" -> {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                objects.put(path, new StoredObject(
+                    exchange.getRequestHeaders().getFirst("Content-Type"), body.length));
+                exchange.getResponseHeaders().set("ETag", "\"etag\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+            case "HEAD" -> {
+                StoredObject object = objects.get(path);
+                if (object == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                } else {
+                    exchange.getResponseHeaders().set("Content-Type", object.contentType);
+                    exchange.getResponseHeaders().set("ETag", "\"etag\"");
+                    exchange.getResponseHeaders().set("Content-Length",
+                        Long.toString(object.size));
+                    exchange.sendResponseHeaders(200, -1);
+                }
+            }
+            default -> exchange.sendResponseHeaders(405, -1);
+        }
+        exchange.close();
+    }
+
+    private static class StoredObject {
+
+        private final String contentType;
+        private final long size;
+
+        private StoredObject(String contentType, long size) {
+            this.contentType = contentType;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.fluffytime.domain.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fluffytime.domain.board.dto.request.MentionRequest;
+import com.fluffytime.domain.board.entity.Post;
+import com.fluffytime.domain.board.entity.PostImages;
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.repository.CommentRepository;
+import com.fluffytime.domain.board.repository.MentionRepository;
+import com.fluffytime.domain.board.repository.PostImagesRepository;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.board.repository.ReplyRepository;
+import com.fluffytime.domain.board.repository.TagPostRepository;
+import com.fluffytime.domain.board.repository.TagRepository;
+import com.fluffytime.domain.notification.repository.NotificationRepository;
+import com.fluffytime.domain.notification.service.NotificationService;
+import com.fluffytime.domain.notification.service.SseEmitters;
+import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.domain.user.entity.enums.LoginType;
+import com.fluffytime.domain.user.repository.UserRepository;
+import com.fluffytime.domain.user.service.BlockFilterService;
+import com.fluffytime.global.auth.jwt.util.JwtTokenizer;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 사진/태그/멘션이 많은 게시물을 저장해도 행 수만큼 insert 문이 늘지 않는지 확인
+// (ID 를 IDENTITY 로 받거나 태그/사용자를 하나씩 조회하면 행마다 문장이 하나씩 늘어남)
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class PostSaveStatementCountTest {
+
+    private static final int IMAGE_COUNT = 10;
+    private static final int TAG_COUNT = 20;
+    private static final int MENTION_COUNT = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostImagesRepository postImagesRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TagPostRepository tagPostRepository;
+
+    @Autowired
+    private MentionRepository mentionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    private TagService tagService;
+    private MentionService mentionService;
+    private Statistics statistics;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        // 새 태그 저장에 쓰는 ON DUPLICATE KEY 구문을 H2 에서도 실행할 수 있도록 함
+        jdbcTemplate.execute("SET MODE MySQL");
+
+        TagDictionary tagDictionary = new TagDictionary(new TagWriter(tagRepository, jdbcTemplate));
+        ReflectionTestUtils.setField(tagDictionary, "capacity", 100);
+        tagService = new TagService(tagRepository, tagPostRepository, postRepository,
+            tagDictionary, mock(ApplicationEventPublisher.class));
+
+        // 차단 여부와 SSE 전송은 DB 를 쓰지 않으므로 제외
+        BlockFilterService blockFilterService = mock(BlockFilterService.class);
+        when(blockFilterService.isBlocked(anyLong(), anyLong())).thenReturn(false);
+        NotificationService notificationService = new NotificationService(notificationRepository,
+            userRepository, mock(SseEmitters.class), mock(JwtTokenizer.class), blockFilterService);
+        mentionService = new MentionService(userRepository, mentionRepository, notificationService,
+            postRepository, commentRepository, replyRepository);
+
+        author = saveUser("author");
+        for (int i = 0; i < MENTION_COUNT; i++) {
+            saveUser("friend" + i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    void savingPostWithManyChildRowsTakesAHandfulOfStatements() {
+        statistics.clear();
+
+        Post post = Post.builder()
+            .content("new post")
+            .createdAt(LocalDateTime.now())
+            .tempStatus(TempStatus.SAVE)
+            .user(entityManager.getReference(User.class, author.getUserId()))
+            .build();
+        postRepository.save(post);
+
+        for (int i = 0; i < IMAGE_COUNT; i++) {
+            postImagesRepository.save(PostImages.builder()
+                .filename("image-" + i + ".png")
+                .filepath("/images/image-" + i + ".png")
+                .filesize(100L)
+                .mimetype("image/png")
+                .post(post)
+                .build());
+        }
+
+        List<String> tags = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add("tag" + i);
+        }
+        tagService.regTags(tags, post);
+
+        StringBuilder content = new StringBuilder("hello");
+        for (int i = 0; i < MENTION_COUNT; i++) {
+            content.append(" @friend").append(i);
+        }
+        MentionRequest mentionRequest = new MentionRequest();
+        mentionRequest.setPostId(post.getPostId());
+        mentionRequest.setContent(content.toString());
+        mentionService.handleMentions(mentionRequest);
+
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+
+        // 행 수(사진 10 + 태그 20 + 태그 연결 20 + 멘션 5 + 알림 5 = 60)와 관계없이
+        // 게시물 insert, 멘션 대상 사용자 조회, 테이블마다 묶음 insert 한 번 정도만 실행됨
+        // (ID 테이블 구간 할당은 50 개마다 한 번이고 별도 트랜잭션이라 여기 세지 않음,
+        // 태그 이름 조회도 TagWriter 의 JdbcTemplate 한 문장이라 여기 세지 않음)
+        assertThat(statements).isLessThanOrEqualTo(10);
+
+        entityManager.clear();
+        assertThat(postImagesRepository.count()).isEqualTo(IMAGE_COUNT);
+        assertThat(tagRepository.count()).isEqualTo(TAG_COUNT);
+        assertThat(tagPostRepository.count()).isEqualTo(TAG_COUNT);
+        assertThat(mentionRepository.count()).isEqualTo(MENTION_COUNT);
+        assertThat(notificationRepository.count()).isEqualTo(MENTION_COUNT);
+    }
+
+    private User saveUser(String nickname) {
+        User user = User.builder()
+            .email(nickname + "@fluffytime.com")
+            .password("password")
+            .nickname(nickname)
+            .loginType(LoginType.Regular)
+            .registrationAt(LocalDateTime.now())
+            .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,131 @@
+package com.fluffytime.domain.board.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.fluffytime.domain.board.util.Mp4File.Mp4Info;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+// 직접 만든 moov 로 재생 정보 읽기 확인
+class Mp4FileTest {
+
+    private static final int TIMESCALE = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void posterTimeIsFirstSyncSampleAfterTarget() throws IOException {
+        // 30개 샘플, 100ms 간격, 키프레임 1/11/21 번 -> 1초 이후 첫 키프레임은 11번(1000ms)
+        byte[] stts = table(1, 30, 100);
+        byte[] stss = table(1, 11, 21);
+        Mp4Info info = open(movie(3000, stts, stss)).info();
+
+        assertThat(info.getDurationMillis()).isEqualTo(3000);
+        assertThat(info.getWidth()).isEqualTo(1280);
+        assertThat(info.getHeight()).isEqualTo(720);
+        assertThat(info.getPosterTimeMillis()).isEqualTo(1000);
+        assertThat(info.isFaststart()).isFalse();
+    }
+
+    @Test
+    void posterTimeWithoutSyncTableUsesAnySample() throws IOException {
+        // 키프레임 표가 없으면 모든 샘플이 키프레임
+        // 50ms 간격 10개(0~450ms) 뒤 150ms 간격(500ms~) -> 1000ms 이후 첫 샘플은 1100ms
+        byte[] stts = table(2, 10, 50, 30, 150);
+        Mp4Info info = open(movie(5000, stts, null)).info();
+
+        assertThat(info.getPosterTimeMillis()).isEqualTo(1100);
+    }
+
+    // 샘플 수 0xFFFFFFFF, 간격 0, stss 없음: 샘플마다 돌면 약 43억 번 반복해 처리 스레드가 멈춤
+    @Test
+    void hugeSampleCountWithZeroDeltaFinishesImmediately() throws IOException {
+        byte[] stts = table(1, 0xFFFFFFFF, 0);
+        Mp4File mp4File = open(movie(10_000, stts, null));
+
+        Mp4Info info = assertTimeoutPreemptively(Duration.ofSeconds(2), mp4File::info);
+        assertThat(info.getPosterTimeMillis()).isZero();
+    }
+
+    // 키프레임 표가 있어도 키프레임 수만큼만 확인
+    @Test
+    void hugeSampleCountWithSyncTableFinishesImmediately() throws IOException {
+        byte[] stts = table(1, 0xFFFFFFFF, 0);
+        byte[] stss = table(2, 1, 0x7FFFFFFF);
+        Mp4File mp4File = open(movie(10_000, stts, stss));
+
+        Mp4Info info = assertTimeoutPreemptively(Duration.ofSeconds(2), mp4File::info);
+        assertThat(info.getPosterTimeMillis()).isZero();
+    }
+
+    // 항목 수가 박스 크기보다 크게 적혀 있어도 박스 안의 항목만 읽음
+    @Test
+    void entryCountLargerThanBoxIsClamped() throws IOException {
+        byte[] stts = table(0xFFFFFFFF, 20, 100);
+        Mp4File mp4File = open(movie(2000, stts, null));
+
+        Mp4Info info = assertTimeoutPreemptively(Duration.ofSeconds(2), mp4File::info);
+        assertThat(info.getPosterTimeMillis()).isEqualTo(1000);
+    }
+
+    private Mp4File open(byte[] content) throws IOException {
+        Path path = Files.write(tempDir.resolve("video.mp4"), content);
+        return Mp4File.open(path).orElseThrow();
+    }
+
+    // ftyp + mdat + moov (moov 가 뒤에 있는 파일)
+    private byte[] movie(int durationMillis, byte[] stts, byte[] stss) {
+        byte[] mvhd = fullBox("mvhd", ints(0, 0, TIMESCALE, durationMillis), new byte[80]);
+        byte[] tkhd = fullBox("tkhd", new byte[72], ints(1280 << 16, 720 << 16));
+        byte[] mdhd = fullBox("mdhd", ints(0, 0, TIMESCALE, durationMillis), new byte[4]);
+        byte[] hdlr = fullBox("hdlr", ints(0), ascii("vide"), new byte[13]);
+        byte[] stbl = box("stbl", box("stts", stts), stss == null ? new byte[0] : box("stss", stss),
+            box("stco", ints(0, 0)));
+        byte[] trak = box("trak", tkhd, box("mdia", mdhd, hdlr, box("minf", stbl)));
+        return concat(box("ftyp", ascii("isom"), ints(0)), box("mdat", new byte[64]),
+            box("moov", mvhd, trak));
+    }
+
+    // 버전/플래그 + 항목 수 + 값들
+    private static byte[] table(int count, int... values) {
+        return concat(ints(0, count), ints(values));
+    }
+
+    private static byte[] fullBox(String type, byte[]... parts) {
+        return box(type, concat(ints(0)), concat(parts));
+    }
+
+    private static byte[] box(String type, byte[]... parts) {
+        byte[] body = concat(parts);
+        return concat(ints(body.length + 8), ascii(type), body);
+    }
+
+    private static byte[] ints(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 4);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            output.writeBytes(part);
+        }
+        return output.toByteArray();
+    }
+}
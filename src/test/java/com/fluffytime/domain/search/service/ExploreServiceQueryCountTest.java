@@ -0,0 +1,157 @@
+package com.fluffytime.domain.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fluffytime.domain.board.entity.Post;
+import com.fluffytime.domain.board.entity.PostImages;
+import com.fluffytime.domain.board.entity.enums.TempStatus;
+import com.fluffytime.domain.board.repository.PostRepository;
+import com.fluffytime.domain.search.dao.ExploreCardDao;
+import com.fluffytime.domain.search.dto.response.ExploreResponse;
+import com.fluffytime.domain.user.entity.Profile;
+import com.fluffytime.domain.user.entity.ProfileImages;
+import com.fluffytime.domain.user.entity.User;
+import com.fluffytime.domain.user.entity.enums.LoginType;
+import com.fluffytime.domain.user.service.BlockFilter;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+// 탐색 카드 조회가 페이지 크기와 관계없이 페이지당 쿼리 한 번으로 끝나는지 확인
+// (작성자/프로필 사진/게시물 사진을 카드마다 지연 로딩하면 카드 수만큼 쿼리가 늘어남)
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ExploreServiceQueryCountTest {
+
+    private static final int USER_COUNT = 3;
+    private static final int POST_COUNT = 30;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private ExploreService exploreService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Redis 타임라인이 준비되지 않은 상태 (DB 에서 조회), 카드 캐시는 항상 비어 있음
+        ExploreTimelineService exploreTimelineService = mock(ExploreTimelineService.class);
+        when(exploreTimelineService.isReady()).thenReturn(false);
+        ExploreCardDao exploreCardDao = mock(ExploreCardDao.class);
+        when(exploreCardDao.getCards(anyList())).thenAnswer(invocation ->
+            Arrays.asList(new String[((List<?>) invocation.getArgument(0)).size()]));
+        exploreService = new ExploreService(postRepository, exploreTimelineService, exploreCardDao,
+            objectMapper);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(saveUser(i));
+        }
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = Post.builder()
+                .content("post " + i)
+                .createdAt(now.minusMinutes(i))
+                .tempStatus(TempStatus.SAVE)
+                .user(users.get(i % USER_COUNT))
+                .build();
+            entityManager.persist(post);
+            // 사진 두 장 중 먼저 올린 사진이 카드 사진
+            for (int j = 0; j < 2; j++) {
+                entityManager.persist(PostImages.builder()
+                    .filename("post-" + i + "-" + j + ".png")
+                    .filepath("/images/post-" + i + "-" + j + ".png")
+                    .filesize(100L)
+                    .mimetype("image/png")
+                    .uploadDate(now)
+                    .post(post)
+                    .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    void explorePagesUseOneQueryRegardlessOfSize() throws Exception {
+        assertThat(queriesFor(() -> exploreService.findExplore(null, 5, BlockFilter.empty())))
+            .isEqualTo(1);
+        assertThat(queriesFor(() -> exploreService.findExplore(null, 25, BlockFilter.empty())))
+            .isEqualTo(1);
+
+        // 커서로 이어지는 다음 페이지도 한 번
+        ExploreResponse first = exploreService.findExplore(null, 10, BlockFilter.empty());
+        statistics.clear();
+        ExploreResponse second = exploreService.findExplore(first.getNextCursor(), 10,
+            BlockFilter.empty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        JsonNode card = objectMapper.readTree(second.getList()).get(0);
+        assertThat(card.get("content").asText()).isEqualTo("post 10");
+        assertThat(card.get("nickname").asText()).isEqualTo("user1");
+        assertThat(card.get("profileImageUrl").asText()).isEqualTo("/images/profile-1.png");
+        assertThat(card.get("imageUrl").asText()).isEqualTo("/images/post-10-0.png");
+    }
+
+    @Test
+    void cacheMissesAreLoadedInOneQuery() {
+        List<Long> postIds = postRepository.findAll().stream().map(Post::getPostId).toList();
+        entityManager.clear();
+
+        assertThat(queriesFor(() -> exploreService.findCards(postIds.subList(0, 3),
+            BlockFilter.empty()))).isEqualTo(1);
+        assertThat(queriesFor(() -> exploreService.findCards(postIds, BlockFilter.empty())))
+            .isEqualTo(1);
+    }
+
+    private long queriesFor(Runnable read) {
+        entityManager.clear();
+        statistics.clear();
+        read.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User saveUser(int index) {
+        ProfileImages profileImages = ProfileImages.builder()
+            .fileName("profile-" + index + ".png")
+            .filePath("/images/profile-" + index + ".png")
+            .build();
+        Profile profile = new Profile("female", 3L, "cat");
+        profile.setProfileImages(profileImages);
+        User user = User.builder()
+            .email("user" + index + "@fluffytime.com")
+            .password("password")
+            .nickname("user" + index)
+            .loginType(LoginType.Regular)
+            .registrationAt(LocalDateTime.now())
+            .profile(profile)
+            .build();
+        profile.setUser(user);
+        entityManager.persist(user);
+        return user;
+    }
+}
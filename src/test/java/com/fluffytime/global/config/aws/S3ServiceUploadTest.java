@@ -0,0 +1,137 @@
+package com.fluffytime.global.config.aws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fluffytime.domain.board.exception.FileUploadFailed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// 멀티파트 업로드의 파트 버퍼 사용 확인 (S3 는 목으로 대신함)
+class S3ServiceUploadTest {
+
+    private static final int BUFFER_POOL_SIZE = 4;
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final AtomicBoolean failParts = new AtomicBoolean();
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new S3Service(s3Client, Region.AP_NORTHEAST_2, mock(S3Presigner.class));
+        ReflectionTestUtils.setField(s3Service, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(s3Service, "endpoint", "");
+        ReflectionTestUtils.setField(s3Service, "fileConcurrency", 4);
+        ReflectionTestUtils.setField(s3Service, "partConcurrency", 4);
+        ReflectionTestUtils.setField(s3Service, "bufferPoolSize", BUFFER_POOL_SIZE);
+        s3Service.init();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-id").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenAnswer(invocation -> {
+                UploadPartRequest request = invocation.getArgument(0);
+                if (failParts.get() && request.partNumber() == 1) {
+                    throw new IllegalStateException("part upload failed");
+                }
+                return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+            });
+    }
+
+    // 파트가 실패해 건너뛴 나머지 파트의 버퍼도 풀로 돌아와야 다음 업로드가 멈추지 않음
+    // (버퍼가 새면 풀이 바닥나 업로드가 영원히 기다리므로 시간 제한으로 확인)
+    @Test
+    void failedUploadsReturnEveryPartBuffer() {
+        String fileName = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            failParts.set(true);
+            for (int i = 0; i < BUFFER_POOL_SIZE * 3; i++) {
+                assertThatThrownBy(() -> s3Service.uploadFile(file(20L * S3Service.PART_SIZE)))
+                    .isInstanceOf(FileUploadFailed.class);
+            }
+
+            failParts.set(false);
+            return s3Service.uploadFile(file(20L * S3Service.PART_SIZE));
+        });
+        assertThat(fileName).endsWith("_video.mp4");
+    }
+
+    // 할당 벤치마크: 파일 크기와 관계없이 힙 사용은 파트 버퍼 풀 크기 정도여야 함
+    // (파일 전체를 바이트 배열로 읽으면 파일 크기의 두 배 이상 할당됨)
+    @Test
+    void streamingUploadAllocatesAboutPartBuffersOnly() throws IOException {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported()
+            && threads.isThreadAllocatedMemoryEnabled());
+
+        // 첫 업로드로 버퍼 풀을 채워 두고 측정
+        s3Service.uploadFile(file(8L * S3Service.PART_SIZE));
+
+        long fileSize = 200L * 1024 * 1024;
+        long before = threads.getTotalThreadAllocatedBytes();
+        s3Service.uploadFile(file(fileSize));
+        long allocated = threads.getTotalThreadAllocatedBytes() - before;
+
+        assertThat(allocated)
+            .as("upload %d MB -> allocated %d MB", fileSize / (1024 * 1024), allocated / (1024 * 1024))
+            .isLessThan(fileSize / 4);
+    }
+
+    private MultipartFile file(long size) throws IOException {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getOriginalFilename()).thenReturn("video.mp4");
+        when(file.getContentType()).thenReturn("video/mp4");
+        when(file.getSize()).thenReturn(size);
+        when(file.getInputStream()).thenReturn(new ZeroInputStream(size));
+        return file;
+    }
+
+    // 메모리에 올리지 않고 size 바이트를 내주는 스트림
+    private static class ZeroInputStream extends InputStream {
+
+        private long remaining;
+
+        private ZeroInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            remaining -= count;
+            return count;
+        }
+    }
+}